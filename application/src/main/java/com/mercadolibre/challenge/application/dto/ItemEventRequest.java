@@ -0,0 +1,13 @@
+package com.mercadolibre.challenge.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemEventRequest {
+    private String sessionId;
+    private String type;
+}
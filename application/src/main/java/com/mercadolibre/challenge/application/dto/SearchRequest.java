@@ -1,6 +1,8 @@
 package com.mercadolibre.challenge.application.dto;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 public class SearchRequest {
 
@@ -14,6 +16,8 @@ public class SearchRequest {
     private String sort = "relevance";
     private Integer limit = 50;
     private Integer offset = 0;
+    private String cursor;
+    private Map<String, List<String>> attributes = Map.of();
 
     public SearchRequest() {}
 
@@ -61,4 +65,10 @@ public class SearchRequest {
 
     public Integer getOffset() { return offset; }
     public void setOffset(Integer offset) { this.offset = offset; }
+
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+
+    public Map<String, List<String>> getAttributes() { return attributes; }
+    public void setAttributes(Map<String, List<String>> attributes) { this.attributes = attributes != null ? attributes : Map.of(); }
 }
\ No newline at end of file
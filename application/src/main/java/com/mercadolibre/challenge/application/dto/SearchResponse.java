@@ -134,6 +134,7 @@ public class SearchResponse {
         private Integer offset;
         private Boolean hasNext;
         private Boolean hasPrevious;
+        private String nextCursor;
 
         public PaginationDto() {}
 
@@ -145,6 +146,12 @@ public class SearchResponse {
             this.hasPrevious = offset > 0;
         }
 
+        public PaginationDto(Integer total, Integer limit, Integer offset, String nextCursor) {
+            this(total, limit, offset);
+            this.hasNext = nextCursor != null;
+            this.nextCursor = nextCursor;
+        }
+
         public Integer getTotal() { return total; }
         public void setTotal(Integer total) { this.total = total; }
 
@@ -159,6 +166,9 @@ public class SearchResponse {
 
         public Boolean getHasPrevious() { return hasPrevious; }
         public void setHasPrevious(Boolean hasPrevious) { this.hasPrevious = hasPrevious; }
+
+        public String getNextCursor() { return nextCursor; }
+        public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
     }
 
     public static class FilterDto {
@@ -71,13 +71,17 @@ public class SellerAnalyticsResponse {
         private Double ratingNeutral;
         private Integer activeItems;
         private Double averagePrice;
+        private Double minPrice;
+        private Double maxPrice;
+        private Double gmv;
         private String topCategory;
 
         public SellerMetricsDto() {}
 
         public SellerMetricsDto(Integer transactionsCompleted, Integer transactionsCanceled,
                                Double ratingPositive, Double ratingNegative, Double ratingNeutral,
-                               Integer activeItems, Double averagePrice, String topCategory) {
+                               Integer activeItems, Double averagePrice, Double minPrice, Double maxPrice,
+                               Double gmv, String topCategory) {
             this.transactionsCompleted = transactionsCompleted;
             this.transactionsCanceled = transactionsCanceled;
             this.ratingPositive = ratingPositive;
@@ -85,6 +89,9 @@ public class SellerAnalyticsResponse {
             this.ratingNeutral = ratingNeutral;
             this.activeItems = activeItems;
             this.averagePrice = averagePrice;
+            this.minPrice = minPrice;
+            this.maxPrice = maxPrice;
+            this.gmv = gmv;
             this.topCategory = topCategory;
         }
 
@@ -110,6 +117,15 @@ public class SellerAnalyticsResponse {
         public Double getAveragePrice() { return averagePrice; }
         public void setAveragePrice(Double averagePrice) { this.averagePrice = averagePrice; }
 
+        public Double getMinPrice() { return minPrice; }
+        public void setMinPrice(Double minPrice) { this.minPrice = minPrice; }
+
+        public Double getMaxPrice() { return maxPrice; }
+        public void setMaxPrice(Double maxPrice) { this.maxPrice = maxPrice; }
+
+        public Double getGmv() { return gmv; }
+        public void setGmv(Double gmv) { this.gmv = gmv; }
+
         public String getTopCategory() { return topCategory; }
         public void setTopCategory(String topCategory) { this.topCategory = topCategory; }
     }
@@ -0,0 +1,79 @@
+package com.mercadolibre.challenge.application.dto;
+
+import java.util.List;
+
+public class TopSellersResponse {
+
+    private List<TopSellerDto> sellers;
+    private Integer limit;
+
+    public TopSellersResponse() {}
+
+    public TopSellersResponse(List<TopSellerDto> sellers, Integer limit) {
+        this.sellers = sellers;
+        this.limit = limit;
+    }
+
+    public static class TopSellerDto {
+        private Integer rank;
+        private Long id;
+        private String nickname;
+        private String permalink;
+        private String reputationLevel;
+        private String powerSellerStatus;
+        private Double ratingPositive;
+        private Integer transactionsCompleted;
+        private Double score;
+
+        public TopSellerDto() {}
+
+        public TopSellerDto(Integer rank, Long id, String nickname, String permalink, String reputationLevel,
+                            String powerSellerStatus, Double ratingPositive, Integer transactionsCompleted,
+                            Double score) {
+            this.rank = rank;
+            this.id = id;
+            this.nickname = nickname;
+            this.permalink = permalink;
+            this.reputationLevel = reputationLevel;
+            this.powerSellerStatus = powerSellerStatus;
+            this.ratingPositive = ratingPositive;
+            this.transactionsCompleted = transactionsCompleted;
+            this.score = score;
+        }
+
+        // Getters and Setters
+        public Integer getRank() { return rank; }
+        public void setRank(Integer rank) { this.rank = rank; }
+
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+
+        public String getNickname() { return nickname; }
+        public void setNickname(String nickname) { this.nickname = nickname; }
+
+        public String getPermalink() { return permalink; }
+        public void setPermalink(String permalink) { this.permalink = permalink; }
+
+        public String getReputationLevel() { return reputationLevel; }
+        public void setReputationLevel(String reputationLevel) { this.reputationLevel = reputationLevel; }
+
+        public String getPowerSellerStatus() { return powerSellerStatus; }
+        public void setPowerSellerStatus(String powerSellerStatus) { this.powerSellerStatus = powerSellerStatus; }
+
+        public Double getRatingPositive() { return ratingPositive; }
+        public void setRatingPositive(Double ratingPositive) { this.ratingPositive = ratingPositive; }
+
+        public Integer getTransactionsCompleted() { return transactionsCompleted; }
+        public void setTransactionsCompleted(Integer transactionsCompleted) { this.transactionsCompleted = transactionsCompleted; }
+
+        public Double getScore() { return score; }
+        public void setScore(Double score) { this.score = score; }
+    }
+
+    // Main class getters and setters
+    public List<TopSellerDto> getSellers() { return sellers; }
+    public void setSellers(List<TopSellerDto> sellers) { this.sellers = sellers; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+}
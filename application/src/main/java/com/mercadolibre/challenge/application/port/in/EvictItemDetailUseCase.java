@@ -0,0 +1,12 @@
+package com.mercadolibre.challenge.application.port.in;
+
+/**
+ * Invalida el detalle de item cacheado cuando el item cambia
+ */
+public interface EvictItemDetailUseCase {
+
+    void evictItemDetail(String itemId);
+
+    void evictAllItemDetails();
+
+}
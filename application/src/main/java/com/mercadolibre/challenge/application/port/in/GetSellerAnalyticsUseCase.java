@@ -2,6 +2,7 @@ package com.mercadolibre.challenge.application.port.in;
 
 import com.mercadolibre.challenge.application.dto.SearchResponse;
 import com.mercadolibre.challenge.application.dto.SellerAnalyticsResponse;
+import com.mercadolibre.challenge.application.dto.TopSellersResponse;
 
 public interface GetSellerAnalyticsUseCase {
 
@@ -9,8 +10,8 @@ public interface GetSellerAnalyticsUseCase {
 
     SellerAnalyticsResponse getSellerReputationDetails(Long sellerId);
 
-    SearchResponse getSellerItems(Long sellerId, int limit, int offset);
+    SearchResponse getSellerItems(Long sellerId, int limit, int offset, String cursor);
 
-    SearchResponse getTopRatedSellers(int limit);
+    TopSellersResponse getTopRatedSellers(int limit);
 
 }
\ No newline at end of file
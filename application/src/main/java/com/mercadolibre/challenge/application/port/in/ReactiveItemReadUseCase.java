@@ -0,0 +1,27 @@
+package com.mercadolibre.challenge.application.port.in;
+
+import com.mercadolibre.challenge.application.dto.ComparisonResponse;
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.dto.RecommendationResponse;
+import com.mercadolibre.challenge.application.dto.SearchResponse;
+import com.mercadolibre.challenge.application.dto.TrendingResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Lecturas de items que van a la base sin bloquear; mismas respuestas que sus casos de uso bloqueantes
+ */
+public interface ReactiveItemReadUseCase {
+
+    Mono<ItemDetailResponse> getItemDetail(String itemId);
+
+    Mono<ComparisonResponse> compareItems(List<String> itemIds);
+
+    Mono<SearchResponse> getBestSellers(int limit);
+
+    Mono<TrendingResponse> getTrendingByCategory(String categoryId, int limit);
+
+    Mono<RecommendationResponse> getSimilarItems(String itemId, int limit);
+
+}
@@ -0,0 +1,9 @@
+package com.mercadolibre.challenge.application.port.in;
+
+import com.mercadolibre.challenge.application.dto.ItemEventRequest;
+
+public interface RecordItemEventUseCase {
+
+    void recordEvent(String itemId, ItemEventRequest request);
+
+}
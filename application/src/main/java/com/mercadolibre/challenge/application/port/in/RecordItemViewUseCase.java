@@ -0,0 +1,7 @@
+package com.mercadolibre.challenge.application.port.in;
+
+public interface RecordItemViewUseCase {
+
+    void recordView(String itemId);
+
+}
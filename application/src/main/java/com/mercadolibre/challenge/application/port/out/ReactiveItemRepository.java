@@ -0,0 +1,37 @@
+package com.mercadolibre.challenge.application.port.out;
+
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Puerto de salida de las lecturas de items sin bloquear, para el stack reactivo (perfil reactive).
+ * Vive en application junto a ReactiveItemReadUseCase para que el dominio no dependa de Reactor.
+ *
+ * Mismas consultas y mismo contrato que sus equivalentes en ItemRepository; las listas se emiten completas
+ * porque quien las consume necesita el orden y el conjunto entero (puntajes, resumen de comparación).
+ */
+public interface ReactiveItemRepository {
+
+    /**
+     * Vacío si el item no existe
+     */
+    Mono<Item> findById(String id);
+
+    Mono<List<Item>> findAllByIds(Collection<String> ids);
+
+    Mono<List<ItemSummary>> findSummariesByIds(Collection<String> ids);
+
+    Mono<Map<String, List<ItemAttribute>>> findAttributesByItemIds(Collection<String> ids);
+
+    Mono<List<ItemSummary>> findBestSellers(int limit);
+
+    Mono<List<ItemSummary>> findTrendingByCategory(String categoryId, int limit);
+
+    Mono<List<ItemSummary>> findSimilarItems(String itemId, int limit);
+}
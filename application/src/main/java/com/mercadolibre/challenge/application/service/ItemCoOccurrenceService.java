@@ -0,0 +1,152 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.dto.ItemEventRequest;
+import com.mercadolibre.challenge.application.port.in.RecordItemEventUseCase;
+import com.mercadolibre.challenge.domain.common.exception.ValidateArgument;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.recommendation.CoOccurrenceMatrix;
+import com.mercadolibre.challenge.domain.recommendation.ItemEvent;
+import com.mercadolibre.challenge.domain.recommendation.ItemEventType;
+import com.mercadolibre.challenge.domain.recommendation.ItemNeighbour;
+import com.mercadolibre.challenge.domain.recommendation.repository.ItemEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Grafo de co-compras y co-vistas que alimenta las recomendaciones.
+ *
+ * Cada evento se guarda en el log (item_events) y se aplica en el momento a la matriz en memoria
+ * de su tipo, así que las recomendaciones reflejan la actividad reciente sin esperar al rebuild.
+ * El rebuild programado reconstruye matrices nuevas leyendo en lotes los eventos de la ventana de retención
+ * (recommendations.co-occurrence.retention), fuera del camino de lectura, y las intercambia al final: las
+ * consultas siguen usando las anteriores mientras tanto. Los eventos registrados durante el rebuild se
+ * levantan en una pasada final antes del cambio. Lo anterior a la ventana deja de pesar en el grafo.
+ *
+ * Solo se registran eventos de items existentes: item_events no tiene FK a items y, sin esa verificación,
+ * cualquier id inventado crecería el log y las matrices.
+ *
+ * Una vez guardado, el evento se publica como ItemEvent para el resto de los consumidores (tendencias).
+ *
+ * swapLock es un ReentrantLock y no un monitor: el rebuild lee de la base con el lock tomado y, con hilos
+ * virtuales, esperar un monitor fija el hilo a su carrier.
+ */
+@Service
+public class ItemCoOccurrenceService implements RecordItemEventUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemCoOccurrenceService.class);
+
+    private final ItemEventRepository itemEventRepository;
+    private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int topK;
+    private final int sessionHistory;
+    private final int maxSessions;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private volatile Map<ItemEventType, CoOccurrenceMatrix> matrices;
+    private long rebuiltUpTo;
+
+    public ItemCoOccurrenceService(ItemEventRepository itemEventRepository,
+                                   ItemRepository itemRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${recommendations.co-occurrence.top-k:20}") int topK,
+                                   @Value("${recommendations.co-occurrence.session-history:20}") int sessionHistory,
+                                   @Value("${recommendations.co-occurrence.max-sessions:100000}") int maxSessions,
+                                   @Value("${recommendations.co-occurrence.batch-size:1000}") int batchSize,
+                                   @Value("${recommendations.co-occurrence.retention:P30D}") Duration retention) {
+        this.itemEventRepository = itemEventRepository;
+        this.itemRepository = itemRepository;
+        this.eventPublisher = eventPublisher;
+        this.topK = topK;
+        this.sessionHistory = sessionHistory;
+        this.maxSessions = maxSessions;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.matrices = newMatrices();
+    }
+
+    @Override
+    public void recordEvent(String itemId, ItemEventRequest request) {
+        ValidateArgument.validateNotNull(request, "request");
+        ValidateArgument.validateStringNotNullAndNotEmpty(request.getType(), "type");
+        if (!itemRepository.existsById(itemId)) {
+            throw new ItemNotFoundException(itemId);
+        }
+
+        ItemEvent event = itemEventRepository.save(
+                ItemEvent.record(itemId, request.getSessionId(), ItemEventType.fromCode(request.getType())));
+
+        swapLock.lock();
+        try {
+            // lo que el rebuild ya leyó del log está en las matrices nuevas
+            if (event.getId() == null || event.getId() > rebuiltUpTo) {
+                matrices.get(event.getType()).add(event.getSessionId(), event.getItemId());
+            }
+        } finally {
+            swapLock.unlock();
+        }
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Vecinos del item para el tipo de evento, de mayor a menor co-ocurrencia
+     */
+    public List<ItemNeighbour> neighbours(ItemEventType type, String itemId, int limit) {
+        return matrices.get(type).neighbours(itemId, limit);
+    }
+
+    @Scheduled(initialDelayString = "${recommendations.co-occurrence.initial-delay:PT0S}",
+            fixedDelayString = "${recommendations.co-occurrence.rebuild-interval:PT10M}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<ItemEventType, CoOccurrenceMatrix> fresh = newMatrices();
+        long firstId = itemEventRepository.findFirstIdSince(LocalDateTime.now().minus(retention));
+        long lastId = replay(fresh, firstId - 1);
+
+        swapLock.lock();
+        try {
+            lastId = replay(fresh, lastId);
+            matrices = fresh;
+            rebuiltUpTo = lastId;
+        } finally {
+            swapLock.unlock();
+        }
+        log.info("Co-occurrence graph rebuilt up to event {} in {} ms", lastId,
+                System.currentTimeMillis() - start);
+    }
+
+    private long replay(Map<ItemEventType, CoOccurrenceMatrix> target, long afterId) {
+        long lastId = afterId;
+        List<ItemEvent> batch;
+        do {
+            batch = itemEventRepository.findAfter(lastId, batchSize);
+            for (ItemEvent event : batch) {
+                target.get(event.getType()).add(event.getSessionId(), event.getItemId());
+                lastId = event.getId();
+            }
+        } while (batch.size() == batchSize);
+        return lastId;
+    }
+
+    private Map<ItemEventType, CoOccurrenceMatrix> newMatrices() {
+        Map<ItemEventType, CoOccurrenceMatrix> fresh = new EnumMap<>(ItemEventType.class);
+        for (ItemEventType type : ItemEventType.values()) {
+            fresh.put(type, new CoOccurrenceMatrix(topK, sessionHistory, maxSessions));
+        }
+        return fresh;
+    }
+}
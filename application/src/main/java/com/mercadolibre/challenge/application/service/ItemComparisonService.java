@@ -26,22 +26,63 @@ public class ItemComparisonService implements CompareItemsUseCase {
             throw new IllegalArgumentException("Item IDs list cannot be empty");
         }
 
-        List<Item> items = itemIds.stream()
-                .map(id -> itemRepository.findById(id))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        return compare(itemRepository.findAllByIds(itemIds));
+    }
 
+    /**
+     * Arma la comparación de items ya cargados; también la usa ReactiveItemReadService
+     */
+    ComparisonResponse compare(List<Item> items) {
         if (items.isEmpty()) {
             throw new RuntimeException("No valid items found for comparison");
         }
 
-        List<ComparedItemDto> comparedItems = items.stream()
-                .map(this::mapToComparedItem)
-                .collect(Collectors.toList());
+        // Una sola pasada arma los items comparados, los extremos del resumen y la matriz de atributos
+        List<ComparedItemDto> comparedItems = new ArrayList<>(items.size());
+        Map<String, List<AttributeComparisonDto.AttributeValueDto>> attributeMap = new LinkedHashMap<>();
+        Item cheapestItem = null;
+        Item expensiveItem = null;
+        Item mostPopularItem = null;
+        Item bestValueItem = null;
 
-        ComparisonSummaryDto summary = buildComparisonSummary(items);
-        List<AttributeComparisonDto> attributeComparisons = buildAttributeComparisons(items);
+        for (Item item : items) {
+            comparedItems.add(mapToComparedItem(item));
+
+            long price = item.getPrice().getAmountInCents();
+            if (cheapestItem == null || price < cheapestItem.getPrice().getAmountInCents()) {
+                cheapestItem = item;
+            }
+            if (expensiveItem == null || price > expensiveItem.getPrice().getAmountInCents()) {
+                expensiveItem = item;
+            }
+            if (mostPopularItem == null || soldQuantityOf(item) > soldQuantityOf(mostPopularItem)) {
+                mostPopularItem = item;
+            }
+            if (soldQuantityOf(item) > 50
+                    && (bestValueItem == null || price < bestValueItem.getPrice().getAmountInCents())) {
+                bestValueItem = item;
+            }
+
+            for (ItemAttribute attr : item.getAttributes()) {
+                attributeMap.computeIfAbsent(getAttributeDisplayName(attr.getAttributeId()), k -> new ArrayList<>())
+                        .add(new AttributeComparisonDto.AttributeValueDto(
+                                item.getId(),
+                                attr.getValue(),
+                                attr.getUnit()
+                        ));
+            }
+        }
+
+        ComparisonSummaryDto summary = new ComparisonSummaryDto(
+                toPriceDto(cheapestItem),
+                toPriceDto(expensiveItem),
+                bestValueItem != null ? bestValueItem.getId() : mostPopularItem.getId(),
+                mostPopularItem.getId(),
+                items.size()
+        );
+        List<AttributeComparisonDto> attributeComparisons = attributeMap.entrySet().stream()
+                .map(entry -> new AttributeComparisonDto(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
 
         return new ComparisonResponse(comparedItems, summary, attributeComparisons);
     }
@@ -112,75 +153,16 @@ public class ItemComparisonService implements CompareItemsUseCase {
         return item.getSeller().getRatingPositive().doubleValue();
     }
 
-    private ComparisonSummaryDto buildComparisonSummary(List<Item> items) {
-        Long minPrice = items.stream()
-                .mapToLong(item -> item.getPrice().getAmountInCents())
-                .min()
-                .orElse(0L);
-
-        Long maxPrice = items.stream()
-                .mapToLong(item -> item.getPrice().getAmountInCents())
-                .max()
-                .orElse(0L);
-
-        String mostPopular = items.stream()
-                .max(Comparator.comparing(Item::getSoldQuantity))
-                .map(Item::getId)
-                .orElse(null);
-
-        String bestValue = items.stream()
-                .filter(item -> item.getSoldQuantity() > 50)
-                .min(Comparator.comparing(item -> item.getPrice().getAmountInCents()))
-                .map(Item::getId)
-                .orElse(mostPopular);
-
-        Item cheapestItem = items.stream()
-                .min(Comparator.comparing(item -> item.getPrice().getAmountInCents()))
-                .orElse(items.get(0));
-
-        Item expensiveItem = items.stream()
-                .max(Comparator.comparing(item -> item.getPrice().getAmountInCents()))
-                .orElse(items.get(0));
-
-        PriceDto cheapest = new PriceDto(
-                cheapestItem.getPrice().getAmountInCents(),
-                cheapestItem.getPrice().getCurrency(),
-                cheapestItem.getPrice().getDecimals()
-        );
-
-        PriceDto mostExpensive = new PriceDto(
-                expensiveItem.getPrice().getAmountInCents(),
-                expensiveItem.getPrice().getCurrency(),
-                expensiveItem.getPrice().getDecimals()
-        );
-
-        return new ComparisonSummaryDto(
-                cheapest,
-                mostExpensive,
-                bestValue,
-                mostPopular,
-                items.size()
+    private PriceDto toPriceDto(Item item) {
+        return new PriceDto(
+                item.getPrice().getAmountInCents(),
+                item.getPrice().getCurrency(),
+                item.getPrice().getDecimals()
         );
     }
 
-    private List<AttributeComparisonDto> buildAttributeComparisons(List<Item> items) {
-        Map<String, List<AttributeComparisonDto.AttributeValueDto>> attributeMap = new HashMap<>();
-
-        items.forEach(item -> {
-            item.getAttributes().forEach(attr -> {
-                String attributeName = getAttributeDisplayName(attr.getAttributeId());
-                attributeMap.computeIfAbsent(attributeName, k -> new ArrayList<>())
-                        .add(new AttributeComparisonDto.AttributeValueDto(
-                                item.getId(),
-                                attr.getValue(),
-                                attr.getUnit()
-                        ));
-            });
-        });
-
-        return attributeMap.entrySet().stream()
-                .map(entry -> new AttributeComparisonDto(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toList());
+    private int soldQuantityOf(Item item) {
+        return item.getSoldQuantity() != null ? item.getSoldQuantity() : 0;
     }
 
     private String getAttributeDisplayName(String attributeId) {
@@ -1,18 +1,28 @@
 package com.mercadolibre.challenge.application.service;
 
 import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.port.in.EvictItemDetailUseCase;
 import com.mercadolibre.challenge.application.port.in.GetItemDetailUseCase;
 import com.mercadolibre.challenge.domain.common.exception.ValidateArgument;
 import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotActiveException;
 import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
 import com.mercadolibre.challenge.domain.item_detail.Item;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
-public class ItemDetailService implements GetItemDetailUseCase {
+public class ItemDetailService implements GetItemDetailUseCase, EvictItemDetailUseCase {
+    
+    /**
+     * Cache del detalle armado; la clave es el itemId (único argumento). Tamaño, TTL y estadísticas se configuran en spring.cache.
+     * Solo se cachean respuestas exitosas: not found e inactivo se vuelven a consultar.
+     * sync = true hace que, ante un miss o una entrada vencida, un solo hilo por clave arme la respuesta.
+     */
+    public static final String ITEM_DETAIL_CACHE = "itemDetail";
     
     private final ItemRepository itemRepository;
     
@@ -21,6 +31,7 @@ public class ItemDetailService implements GetItemDetailUseCase {
     }
     
     @Override
+    @Cacheable(cacheNames = ITEM_DETAIL_CACHE, sync = true)
     public ItemDetailResponse getItemDetail(String itemId) {
         ValidateArgument.validateStringNotNullAndNotEmpty(itemId, "itemId");
         
@@ -34,7 +45,22 @@ public class ItemDetailService implements GetItemDetailUseCase {
         return mapToResponse(item);
     }
     
-    private ItemDetailResponse mapToResponse(Item item) {
+    @Override
+    @CacheEvict(cacheNames = ITEM_DETAIL_CACHE)
+    public void evictItemDetail(String itemId) {
+        // La invalidación la resuelve @CacheEvict
+    }
+    
+    @Override
+    @CacheEvict(cacheNames = ITEM_DETAIL_CACHE, allEntries = true)
+    public void evictAllItemDetails() {
+        // La invalidación la resuelve @CacheEvict
+    }
+    
+    /**
+     * También lo usa ReactiveItemReadService, para que ambos stacks respondan el mismo detalle
+     */
+    ItemDetailResponse mapToResponse(Item item) {
         ItemDetailResponse response = new ItemDetailResponse();
         
         response.setId(item.getId());
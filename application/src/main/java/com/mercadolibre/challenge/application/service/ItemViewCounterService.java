@@ -0,0 +1,165 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.port.in.RecordItemViewUseCase;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.trending.ItemViewCount;
+import com.mercadolibre.challenge.domain.trending.repository.ItemViewCountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contador de vistas del detalle de items.
+ *
+ * Registrar una vista es un increment sobre el LongAdder del item (celdas por hilo, sin CAS compartido
+ * entre requests), sin I/O. El flush programado toma lo que cada contador sumó desde el flush anterior,
+ * lo escribe en item_view_counts en batch y actualiza el top-K de más vistos, que se publica como una
+ * lista inmutable: la consulta de más vistos no va a la base.
+ *
+ * El top-K arranca con los topK contadores más altos de la base y después solo lo tocan los items del
+ * flush: los contadores solo crecen, así que un item de afuera no puede superar al último sin recibir
+ * vistas. De esos items se leen los totales persistidos (con las vistas de otras instancias) y solo se
+ * buscan los resúmenes de los que entran al ranking.
+ *
+ * Los LongAdder nunca se resetean (sumThenReset puede perder incrementos concurrentes); cada contador
+ * recuerda cuánto ya se escribió y el flush manda la diferencia.
+ */
+@Service
+public class ItemViewCounterService implements RecordItemViewUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemViewCounterService.class);
+
+    private static final Comparator<ItemViewCount> RANKING = Comparator.comparingLong(ItemViewCount::getViews)
+            .reversed()
+            .thenComparing(ItemViewCount::getItemId);
+
+    private final ItemViewCountRepository itemViewCountRepository;
+    private final ItemRepository itemRepository;
+    private final int topK;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Map<String, ViewCounter> counters = new ConcurrentHashMap<>();
+    // top, topById y summaries solo los toca el flush, con flushLock tomado
+    private final TreeSet<ItemViewCount> top = new TreeSet<>(RANKING);
+    private final Map<String, ItemViewCount> topById = new HashMap<>();
+    private final Map<String, ItemSummary> summaries = new HashMap<>();
+    private volatile List<ItemSummary> mostViewed = List.of();
+    private boolean loaded;
+
+    public ItemViewCounterService(ItemViewCountRepository itemViewCountRepository,
+                                  ItemRepository itemRepository,
+                                  @Value("${views.top-k:100}") int topK) {
+        this.itemViewCountRepository = itemViewCountRepository;
+        this.itemRepository = itemRepository;
+        this.topK = topK;
+    }
+
+    @Override
+    public void recordView(String itemId) {
+        ViewCounter counter = counters.get(itemId);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(itemId, id -> new ViewCounter());
+        }
+        counter.pending.increment();
+    }
+
+    /**
+     * Más vistos, de mayor a menor, según el último flush
+     */
+    public List<ItemSummary> getMostViewed(int limit) {
+        List<ItemSummary> current = mostViewed;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    @Scheduled(initialDelayString = "${views.initial-delay:PT0S}",
+            fixedDelayString = "${views.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (!loaded) {
+                load();
+            }
+            Map<String, Long> deltas = new HashMap<>();
+            counters.forEach((itemId, counter) -> {
+                long total = counter.pending.sum();
+                if (total > counter.flushed) {
+                    deltas.put(itemId, total - counter.flushed);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+            itemViewCountRepository.addViews(deltas);
+            deltas.forEach((itemId, delta) -> {
+                ViewCounter counter = counters.get(itemId);
+                counter.flushed += delta;
+            });
+            updateTop(itemViewCountRepository.findByItemIds(deltas.keySet()));
+            log.debug("Flushed views for {} items", deltas.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void load() {
+        updateTop(itemViewCountRepository.findTop(topK));
+        loaded = true;
+        log.info("Loaded the {} most viewed items", top.size());
+    }
+
+    /**
+     * Aplica los totales actualizados al top-K y publica la lista; un item que queda por debajo del último
+     * del ranking completo no entra
+     */
+    private void updateTop(List<ItemViewCount> totals) {
+        List<String> entering = new ArrayList<>();
+        for (ItemViewCount count : totals) {
+            ItemViewCount previous = topById.remove(count.getItemId());
+            if (previous != null) {
+                top.remove(previous);
+            } else if (top.size() >= topK && (top.isEmpty() || RANKING.compare(count, top.last()) >= 0)) {
+                continue;
+            } else {
+                entering.add(count.getItemId());
+            }
+            top.add(count);
+            topById.put(count.getItemId(), count);
+            if (top.size() > topK) {
+                ItemViewCount evicted = top.pollLast();
+                topById.remove(evicted.getItemId());
+                summaries.remove(evicted.getItemId());
+            }
+        }
+
+        List<String> missing = entering.stream().filter(topById::containsKey).toList();
+        if (!missing.isEmpty()) {
+            itemRepository.findSummariesByIds(missing).forEach(item -> summaries.put(item.getId(), item));
+        }
+        mostViewed = top.stream()
+                .map(count -> summaries.get(count.getItemId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * pending: vistas de este proceso; flushed: cuántas de pending ya se escribieron (solo lo toca el flush)
+     */
+    private static final class ViewCounter {
+        private final LongAdder pending = new LongAdder();
+        private long flushed;
+    }
+}
@@ -0,0 +1,160 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.dto.ComparisonResponse;
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.dto.RecommendationResponse;
+import com.mercadolibre.challenge.application.dto.SearchResponse;
+import com.mercadolibre.challenge.application.dto.TrendingResponse;
+import com.mercadolibre.challenge.application.port.in.ReactiveItemReadUseCase;
+import com.mercadolibre.challenge.application.port.out.ReactiveItemRepository;
+import com.mercadolibre.challenge.domain.common.exception.ValidateArgument;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotActiveException;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Lecturas de items del stack reactivo: las consultas van por ReactiveItemRepository y el armado de las
+ * respuestas es el de los servicios bloqueantes, así que ambos stacks devuelven el mismo JSON.
+ *
+ * Comparte con ItemDetailService y RecommendationService las caches itemDetail y similarItems, con las mismas
+ * claves, así que las invalidaciones de EvictItemDetailUseCase valen para los dos. A diferencia de
+ * {@code @Cacheable(sync = true)}, dos misses simultáneos de la misma clave consultan la base dos veces.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveItemReadService implements ReactiveItemReadUseCase {
+
+    private final ReactiveItemRepository reactiveItemRepository;
+    private final ItemDetailService itemDetailService;
+    private final ItemComparisonService itemComparisonService;
+    private final TrendingItemsService trendingItemsService;
+    private final TrendingLeaderboardService trendingLeaderboard;
+    private final RecommendationService recommendationService;
+    private final Cache itemDetailCache;
+    private final Cache similarItemsCache;
+
+    public ReactiveItemReadService(ReactiveItemRepository reactiveItemRepository,
+                                   ItemDetailService itemDetailService,
+                                   ItemComparisonService itemComparisonService,
+                                   TrendingItemsService trendingItemsService,
+                                   TrendingLeaderboardService trendingLeaderboard,
+                                   RecommendationService recommendationService,
+                                   CacheManager cacheManager) {
+        this.reactiveItemRepository = reactiveItemRepository;
+        this.itemDetailService = itemDetailService;
+        this.itemComparisonService = itemComparisonService;
+        this.trendingItemsService = trendingItemsService;
+        this.trendingLeaderboard = trendingLeaderboard;
+        this.recommendationService = recommendationService;
+        this.itemDetailCache = cacheManager.getCache(ItemDetailService.ITEM_DETAIL_CACHE);
+        this.similarItemsCache = cacheManager.getCache(RecommendationService.SIMILAR_ITEMS_CACHE);
+    }
+
+    @Override
+    public Mono<ItemDetailResponse> getItemDetail(String itemId) {
+        return Mono.defer(() -> {
+            ValidateArgument.validateStringNotNullAndNotEmpty(itemId, "itemId");
+
+            ItemDetailResponse cached = cached(itemDetailCache, itemId, ItemDetailResponse.class);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return reactiveItemRepository.findById(itemId)
+                    .switchIfEmpty(Mono.error(() -> new ItemNotFoundException(itemId)))
+                    .map(item -> {
+                        if (!item.isActive()) {
+                            throw new ItemNotActiveException(itemId);
+                        }
+                        return itemDetailService.mapToResponse(item);
+                    })
+                    .doOnNext(response -> cache(itemDetailCache, itemId, response));
+        });
+    }
+
+    @Override
+    public Mono<ComparisonResponse> compareItems(List<String> itemIds) {
+        return Mono.defer(() -> {
+            if (itemIds == null || itemIds.isEmpty()) {
+                throw new IllegalArgumentException("Item IDs list cannot be empty");
+            }
+            return reactiveItemRepository.findAllByIds(itemIds)
+                    .map(itemComparisonService::compare);
+        });
+    }
+
+    @Override
+    public Mono<SearchResponse> getBestSellers(int limit) {
+        return reactiveItemRepository.findBestSellers(limit)
+                .map(bestSellers -> trendingItemsService.toBestSellersResponse(bestSellers, limit));
+    }
+
+    /**
+     * El ranking en memoria se lee en el momento; solo las categorías sin actividad en la ventana van a la base
+     */
+    @Override
+    public Mono<TrendingResponse> getTrendingByCategory(String categoryId, int limit) {
+        return Mono.defer(() -> {
+            List<ItemSummary> trending = trendingLeaderboard.getTrending(categoryId, limit);
+            if (!trending.isEmpty()) {
+                return Mono.just(trendingItemsService.toTrendingResponse(categoryId, trending,
+                        trendingLeaderboard.getTimeFrame()));
+            }
+            return reactiveItemRepository.findTrendingByCategory(categoryId, limit)
+                    .map(items -> trendingItemsService.toTrendingResponse(categoryId, items, "all_time"));
+        });
+    }
+
+    /**
+     * El item base y los candidatos se consultan en paralelo; los atributos de los candidatos, después
+     */
+    @Override
+    public Mono<RecommendationResponse> getSimilarItems(String itemId, int limit) {
+        return Mono.defer(() -> {
+            SimpleKey key = new SimpleKey(itemId, limit);
+            RecommendationResponse cached = cached(similarItemsCache, key, RecommendationResponse.class);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            Mono<Optional<Item>> baseItem = reactiveItemRepository.findById(itemId)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty());
+            Mono<List<ItemSummary>> candidates = reactiveItemRepository.findSimilarItems(itemId,
+                    RecommendationService.candidatePoolSize(limit));
+
+            return Mono.zip(baseItem, candidates)
+                    .flatMap(loaded -> attributesOf(loaded.getT2())
+                            .map(attributes -> recommendationService.toSimilarItemsResponse(itemId,
+                                    loaded.getT1().orElse(null), loaded.getT2(), attributes, limit)))
+                    .doOnNext(response -> cache(similarItemsCache, key, response));
+        });
+    }
+
+    private Mono<Map<String, List<ItemAttribute>>> attributesOf(List<ItemSummary> candidates) {
+        if (candidates.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return reactiveItemRepository.findAttributesByItemIds(candidates.stream().map(ItemSummary::getId).toList());
+    }
+
+    private static <T> T cached(Cache cache, Object key, Class<T> type) {
+        return cache != null ? cache.get(key, type) : null;
+    }
+
+    private static void cache(Cache cache, Object key, Object value) {
+        if (cache != null) {
+            cache.put(key, value);
+        }
+    }
+}
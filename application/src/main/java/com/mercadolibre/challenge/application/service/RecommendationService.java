@@ -6,70 +6,166 @@ import com.mercadolibre.challenge.application.dto.RecommendationResponse.PriceDt
 import com.mercadolibre.challenge.application.port.in.GetItemDetailUseCase;
 import com.mercadolibre.challenge.application.port.in.GetRecommendationsUseCase;
 import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.recommendation.ItemEventType;
+import com.mercadolibre.challenge.domain.recommendation.ItemNeighbour;
+import com.mercadolibre.challenge.domain.recommendation.RecommendationScorer;
+import com.mercadolibre.challenge.domain.recommendation.RecommendationScorer.Profile;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class RecommendationService implements GetRecommendationsUseCase {
 
+    public static final String SIMILAR_ITEMS_CACHE = "similarItems";
+
+    /**
+     * Cuántos candidatos por posición se traen antes de re-ordenar por score
+     */
+    private static final int CANDIDATE_POOL_FACTOR = 3;
+    private static final int MAX_CANDIDATE_POOL = 60;
+
     private final ItemRepository itemRepository;
     private final GetItemDetailUseCase getItemDetailUseCase;
-    private final Random random = new Random();
+    private final ItemCoOccurrenceService coOccurrenceService;
 
     public RecommendationService(ItemRepository itemRepository,
-                               GetItemDetailUseCase getItemDetailUseCase) {
+                               GetItemDetailUseCase getItemDetailUseCase,
+                               ItemCoOccurrenceService coOccurrenceService) {
         this.itemRepository = itemRepository;
         this.getItemDetailUseCase = getItemDetailUseCase;
+        this.coOccurrenceService = coOccurrenceService;
     }
 
+    /**
+     * Los scores solo dependen del item base y de cada candidato, así que la respuesta se cachea por (itemId, limit)
+     */
     @Override
+    @Cacheable(cacheNames = SIMILAR_ITEMS_CACHE, sync = true)
     public RecommendationResponse getSimilarItems(String itemId, int limit) {
-        List<Item> similarItems = itemRepository.findSimilarItems(itemId, limit);
+        Item baseItem = itemRepository.findById(itemId).orElse(null);
+        List<ItemSummary> candidates = itemRepository.findSimilarItems(itemId, candidatePoolSize(limit));
 
-        List<RecommendedItemDto> recommendations = similarItems.stream()
-                .map(item -> mapToRecommendedItem(item, "Similar category", calculateSimilarityScore()))
-                .collect(Collectors.toList());
+        return toSimilarItemsResponse(itemId, baseItem, candidates, attributesOf(candidates), limit);
+    }
+
+    /**
+     * Puntúa candidatos ya cargados con sus atributos; también lo usa ReactiveItemReadService
+     */
+    RecommendationResponse toSimilarItemsResponse(String itemId, Item baseItem, List<ItemSummary> candidates,
+                                                  Map<String, List<ItemAttribute>> attributes, int limit) {
+        List<RecommendedItemDto> recommendations = rank(candidates, attributes, limit, "Similar category",
+                (item, itemAttributes) -> calculateSimilarityScore(baseItem, item, itemAttributes));
 
         return new RecommendationResponse(recommendations, "similar_items", itemId);
     }
 
     @Override
     public RecommendationResponse getFrequentlyBoughtTogether(String itemId, int limit) {
-        List<Item> relatedItems = itemRepository.findSimilarItems(itemId, limit);
+        List<RecommendedItemDto> coPurchased = fromNeighbours(
+                coOccurrenceService.neighbours(ItemEventType.PURCHASE, itemId, limit), "Frequently bought together");
+        if (!coPurchased.isEmpty()) {
+            return new RecommendationResponse(coPurchased, "frequently_bought_together", itemId);
+        }
 
-        List<RecommendedItemDto> recommendations = relatedItems.stream()
-                .map(item -> mapToRecommendedItem(item, "Frequently bought together", calculateFrequencyScore()))
-                .collect(Collectors.toList());
+        // Sin compras registradas para el item todavía: misma categoría como aproximación
+        Item baseItem = itemRepository.findById(itemId).orElse(null);
+        List<ItemSummary> relatedItems = itemRepository.findSimilarItems(itemId, candidatePoolSize(limit));
+
+        List<RecommendedItemDto> recommendations = rank(relatedItems, attributesOf(relatedItems), limit,
+                "Frequently bought together",
+                (item, attributes) -> calculateFrequencyScore(baseItem, item, attributes));
 
         return new RecommendationResponse(recommendations, "frequently_bought_together", itemId);
     }
 
     @Override
     public RecommendationResponse getAlsoViewed(String itemId, int limit) {
-        List<Item> bestSellers = itemRepository.findBestSellers(limit);
-
-        List<RecommendedItemDto> recommendations = bestSellers.stream()
+        List<RecommendedItemDto> coViewed = fromNeighbours(
+                coOccurrenceService.neighbours(ItemEventType.VIEW, itemId, limit), "Also viewed by other customers");
+        if (!coViewed.isEmpty()) {
+            return new RecommendationResponse(coViewed, "also_viewed", itemId);
+        }
+
+        // Sin vistas registradas para el item todavía: más vendidos como aproximación
+        Item baseItem = itemRepository.findById(itemId).orElse(null);
+        List<ItemSummary> bestSellers = itemRepository.findBestSellers(candidatePoolSize(limit) + 1).stream()
                 .filter(item -> !item.getId().equals(itemId))
-                .map(item -> mapToRecommendedItem(item, "Also viewed by other customers", calculateViewingScore()))
-                .collect(Collectors.toList());
+                .toList();
+
+        List<RecommendedItemDto> recommendations = rank(bestSellers, attributesOf(bestSellers), limit,
+                "Also viewed by other customers",
+                (item, attributes) -> calculateViewingScore(baseItem, item, attributes));
 
         return new RecommendationResponse(recommendations, "also_viewed", itemId);
     }
 
-    private RecommendedItemDto mapToRecommendedItem(Item item, String reason, Double score) {
+    /**
+     * Hidrata los vecinos en una consulta, en el orden del grafo y con su score de co-ocurrencia
+     */
+    private List<RecommendedItemDto> fromNeighbours(List<ItemNeighbour> neighbours, String reason) {
+        if (neighbours.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Double> scores = new HashMap<>();
+        neighbours.forEach(neighbour -> scores.put(neighbour.getItemId(), neighbour.getScore()));
+
+        List<String> itemIds = neighbours.stream()
+                .map(ItemNeighbour::getItemId)
+                .toList();
+        return itemRepository.findSummariesByIds(itemIds).stream()
+                .map(item -> mapToRecommendedItem(item, reason, scores.get(item.getId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Atributos de todos los candidatos en una consulta
+     */
+    private Map<String, List<ItemAttribute>> attributesOf(List<ItemSummary> candidates) {
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+        return itemRepository.findAttributesByItemIds(candidates.stream().map(ItemSummary::getId).toList());
+    }
+
+    /**
+     * Puntúa los candidatos con sus atributos y devuelve los mejores.
+     * A igual score desempata por id para que el orden también sea estable entre llamadas.
+     */
+    private List<RecommendedItemDto> rank(List<ItemSummary> candidates, Map<String, List<ItemAttribute>> attributes,
+                                          int limit, String reason, CandidateScorer scorer) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        return candidates.stream()
+                .map(item -> mapToRecommendedItem(item, reason,
+                        scorer.score(item, attributes.getOrDefault(item.getId(), List.of()))))
+                .sorted(Comparator.comparing(RecommendedItemDto::getConfidenceScore).reversed()
+                        .thenComparing(RecommendedItemDto::getId))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    static int candidatePoolSize(int limit) {
+        return Math.min(Math.max(limit, 1) * CANDIDATE_POOL_FACTOR, MAX_CANDIDATE_POOL);
+    }
+
+    private RecommendedItemDto mapToRecommendedItem(ItemSummary item, String reason, Double score) {
         PriceDto price = new PriceDto(
                 item.getPrice().getAmountInCents(),
                 item.getPrice().getCurrency(),
                 item.getPrice().getDecimals()
         );
 
-        String thumbnailUrl = item.getMainPicture()
-                .map(picture -> picture.getUrl())
-                .orElse(null);
+        String thumbnailUrl = item.getThumbnailUrl().orElse(null);
 
         return new RecommendedItemDto(
                 item.getId(),
@@ -84,15 +180,20 @@ public class RecommendationService implements GetRecommendationsUseCase {
         );
     }
 
-    private Double calculateSimilarityScore() {
-        return 0.7 + (random.nextDouble() * 0.3);
+    private Double calculateSimilarityScore(Item baseItem, ItemSummary candidate, List<ItemAttribute> attributes) {
+        return RecommendationScorer.score(Profile.SIMILAR, baseItem, candidate, attributes);
+    }
+
+    private Double calculateFrequencyScore(Item baseItem, ItemSummary candidate, List<ItemAttribute> attributes) {
+        return RecommendationScorer.score(Profile.BOUGHT_TOGETHER, baseItem, candidate, attributes);
     }
 
-    private Double calculateFrequencyScore() {
-        return 0.6 + (random.nextDouble() * 0.4);
+    private Double calculateViewingScore(Item baseItem, ItemSummary candidate, List<ItemAttribute> attributes) {
+        return RecommendationScorer.score(Profile.ALSO_VIEWED, baseItem, candidate, attributes);
     }
 
-    private Double calculateViewingScore() {
-        return 0.5 + (random.nextDouble() * 0.5);
+    @FunctionalInterface
+    private interface CandidateScorer {
+        Double score(ItemSummary candidate, List<ItemAttribute> attributes);
     }
-}
\ No newline at end of file
+}
@@ -4,20 +4,41 @@ import com.mercadolibre.challenge.application.dto.SearchRequest;
 import com.mercadolibre.challenge.application.dto.SearchResponse;
 import com.mercadolibre.challenge.application.dto.SearchResponse.*;
 import com.mercadolibre.challenge.application.port.in.SearchItemsUseCase;
-import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets.PriceRangeCount;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchResult;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class SearchItemsService implements SearchItemsUseCase {
 
+    private static final Map<String, String> CONDITION_LABELS = Map.of(
+            "new", "Nuevo",
+            "used", "Usado"
+    );
+
+    private static final Map<String, String> REPUTATION_LABELS = Map.of(
+            "5_green", "5 estrellas",
+            "4_light_green", "4 estrellas",
+            "3_yellow", "3 estrellas",
+            "2_orange", "2 estrellas",
+            "1_red", "1 estrella"
+    );
+
+    private static final Locale PRICE_LOCALE = Locale.forLanguageTag("es-AR");
+
     private final ItemRepository itemRepository;
 
     public SearchItemsService(ItemRepository itemRepository) {
@@ -28,24 +49,31 @@ public class SearchItemsService implements SearchItemsUseCase {
     public SearchResponse searchItems(SearchRequest searchRequest) {
         SearchCriteria criteria = buildSearchCriteria(searchRequest);
 
-        List<Item> items = itemRepository.searchItems(criteria);
-        int totalCount = itemRepository.countSearchResults(criteria);
+        SearchResult result = itemRepository.searchWithTotal(criteria);
 
-        List<ItemSummaryDto> itemSummaries = items.stream()
+        List<ItemSummaryDto> itemSummaries = result.getItems().stream()
                 .map(this::mapToItemSummary)
                 .collect(Collectors.toList());
 
-        PaginationDto pagination = new PaginationDto(
-                totalCount,
-                searchRequest.getLimit(),
-                searchRequest.getOffset()
-        );
+        PaginationDto pagination = buildPagination(searchRequest, result);
 
-        List<FilterDto> availableFilters = buildAvailableFilters(searchRequest.getCategory());
+        List<FilterDto> availableFilters = result.getFacets()
+                .map(this::buildAvailableFilters)
+                .orElseGet(() -> buildStaticFilters(searchRequest.getCategory()));
 
         return new SearchResponse(itemSummaries, pagination, availableFilters, searchRequest.getSort());
     }
 
+    private PaginationDto buildPagination(SearchRequest request, SearchResult result) {
+        if (request.getCursor() == null) {
+            return new PaginationDto(result.getTotal(), request.getLimit(), request.getOffset(), result.getNextCursor());
+        }
+        // Con cursor no hay offset y siempre hay una página anterior
+        PaginationDto pagination = new PaginationDto(result.getTotal(), request.getLimit(), 0, result.getNextCursor());
+        pagination.setHasPrevious(true);
+        return pagination;
+    }
+
     private SearchCriteria buildSearchCriteria(SearchRequest request) {
         String sortBy = "relevance";
         String sortDirection = "desc";
@@ -78,7 +106,7 @@ public class SearchItemsService implements SearchItemsUseCase {
         BigDecimal minPrice = request.getMinPrice();
         BigDecimal maxPrice = request.getMaxPrice();
 
-        return new SearchCriteria(
+        SearchCriteria criteria = new SearchCriteria(
                 request.getQuery(),
                 request.getCategory(),
                 minPrice,
@@ -91,9 +119,12 @@ public class SearchItemsService implements SearchItemsUseCase {
                 request.getLimit(),
                 request.getOffset()
         );
+        criteria.setCursor(request.getCursor());
+        criteria.setAttributes(request.getAttributes());
+        return criteria;
     }
 
-    private ItemSummaryDto mapToItemSummary(Item item) {
+    private ItemSummaryDto mapToItemSummary(ItemSummary item) {
         PriceDto price = new PriceDto(
                 item.getPrice().getAmountInCents(),
                 item.getPrice().getCurrency(),
@@ -101,14 +132,12 @@ public class SearchItemsService implements SearchItemsUseCase {
         );
 
         SellerSummaryDto seller = new SellerSummaryDto(
-                item.getSeller().getId(),
-                item.getSeller().getNickname(),
-                item.getSeller().getReputationLevel()
+                item.getSellerId(),
+                item.getSellerNickname(),
+                item.getSellerReputationLevel()
         );
 
-        String thumbnailUrl = item.getMainPicture()
-                .map(picture -> picture.getUrl())
-                .orElse(null);
+        String thumbnailUrl = item.getThumbnailUrl().orElse(null);
 
         return new ItemSummaryDto(
                 item.getId(),
@@ -122,7 +151,68 @@ public class SearchItemsService implements SearchItemsUseCase {
         );
     }
 
-    private List<FilterDto> buildAvailableFilters(String categoryId) {
+    /**
+     * Filtros con los conteos reales del conjunto de resultados; se omiten los valores sin coincidencias
+     */
+    private List<FilterDto> buildAvailableFilters(SearchFacets facets) {
+        List<FilterDto> filters = new ArrayList<>();
+
+        addFilter(filters, "condition", "Condición", facets.getConditions().stream()
+                .map(facet -> new FilterDto.FilterValueDto(facet.getValue(),
+                        CONDITION_LABELS.getOrDefault(facet.getValue(), facet.getValue()), facet.getCount()))
+                .collect(Collectors.toList()));
+
+        if (facets.getFreeShipping() > 0) {
+            addFilter(filters, "shipping", "Envío",
+                    List.of(new FilterDto.FilterValueDto("free", "Gratis", facets.getFreeShipping())));
+        }
+
+        addFilter(filters, "seller_reputation", "Reputación del vendedor", facets.getSellerReputations().stream()
+                .map(facet -> new FilterDto.FilterValueDto(facet.getValue(),
+                        REPUTATION_LABELS.getOrDefault(facet.getValue(), facet.getValue()), facet.getCount()))
+                .collect(Collectors.toList()));
+
+        addFilter(filters, "brand", "Marca", facets.getBrands().stream()
+                .map(facet -> new FilterDto.FilterValueDto(facet.getValue().toLowerCase(), facet.getValue(), facet.getCount()))
+                .collect(Collectors.toList()));
+
+        addFilter(filters, "price", "Precio", facets.getPriceRanges().stream()
+                .map(this::mapToPriceFilterValue)
+                .collect(Collectors.toList()));
+
+        return filters;
+    }
+
+    private void addFilter(List<FilterDto> filters, String id, String name, List<FilterDto.FilterValueDto> values) {
+        if (!values.isEmpty()) {
+            filters.add(new FilterDto(id, name, "list", values));
+        }
+    }
+
+    /**
+     * Rango en unidades de moneda con el formato min-max de minPrice/maxPrice; "*" marca el extremo abierto
+     */
+    private FilterDto.FilterValueDto mapToPriceFilterValue(PriceRangeCount range) {
+        long from = range.getMinAmount() / 100;
+        Long to = range.getMaxAmount() != null ? (range.getMaxAmount() + 1) / 100 : null;
+
+        NumberFormat format = NumberFormat.getIntegerInstance(PRICE_LOCALE);
+        String name;
+        if (from == 0 && to != null) {
+            name = "Hasta $" + format.format(to);
+        } else if (to == null) {
+            name = "Más de $" + format.format(from);
+        } else {
+            name = "$" + format.format(from) + " a $" + format.format(to);
+        }
+        String id = (from == 0 ? "*" : String.valueOf(from)) + "-" + (to == null ? "*" : String.valueOf(to));
+        return new FilterDto.FilterValueDto(id, name, range.getCount());
+    }
+
+    /**
+     * Filtros sin conteos, para cuando el repositorio no calcula facetas
+     */
+    private List<FilterDto> buildStaticFilters(String categoryId) {
         List<FilterDto> filters = new ArrayList<>();
 
         filters.add(new FilterDto("condition", "Condición", "list", Arrays.asList(
@@ -3,37 +3,93 @@ package com.mercadolibre.challenge.application.service;
 import com.mercadolibre.challenge.application.dto.SearchResponse;
 import com.mercadolibre.challenge.application.dto.SellerAnalyticsResponse;
 import com.mercadolibre.challenge.application.dto.SellerAnalyticsResponse.*;
-import com.mercadolibre.challenge.application.port.in.GetItemDetailUseCase;
+import com.mercadolibre.challenge.application.dto.TopSellersResponse;
+import com.mercadolibre.challenge.application.dto.TopSellersResponse.TopSellerDto;
 import com.mercadolibre.challenge.application.port.in.GetSellerAnalyticsUseCase;
-import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.common.exception.BaseException;
+import com.mercadolibre.challenge.domain.common.exception.codes.ExceptionCode;
+import com.mercadolibre.challenge.domain.common.exception.seller.SellerNotFoundException;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Seller;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchResult;
+import com.mercadolibre.challenge.domain.seller.RankedSeller;
+import com.mercadolibre.challenge.domain.seller.SellerStats;
+import com.mercadolibre.challenge.domain.seller.repository.SellerRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
 public class SellerAnalyticsService implements GetSellerAnalyticsUseCase {
 
-    private final ItemRepository itemRepository;
+    private static final int RECENT_ITEMS = 5;
 
-    public SellerAnalyticsService(ItemRepository itemRepository) {
+    private final ItemRepository itemRepository;
+    private final SellerRepository sellerRepository;
+    private final SellerRankingService sellerRankingService;
+    private final Executor profileExecutor;
+    private final Duration profileDeadline;
+
+    /**
+     * @param profileExecutor el applicationTaskExecutor de Spring Boot: pool acotado (spring.task.execution.pool),
+     *                        o hilos virtuales con spring.threads.virtual.enabled
+     */
+    public SellerAnalyticsService(ItemRepository itemRepository, SellerRepository sellerRepository,
+                                  SellerRankingService sellerRankingService,
+                                  @Qualifier("applicationTaskExecutor") Executor profileExecutor,
+                                  @Value("${sellers.profile.deadline:PT2S}") Duration profileDeadline) {
         this.itemRepository = itemRepository;
+        this.sellerRepository = sellerRepository;
+        this.sellerRankingService = sellerRankingService;
+        this.profileExecutor = profileExecutor;
+        this.profileDeadline = profileDeadline;
     }
 
+    /**
+     * Perfil y métricas salen de seller_stats (una lectura por clave primaria, métricas sobre todo el
+     * catálogo del vendedor); los items recientes, de la proyección de listado.
+     *
+     * Las dos lecturas son independientes y salen a la vez en profileExecutor, así la latencia es la de la
+     * más lenta y no la suma. El hilo del request solo espera: si consultara él mismo, con open-in-view
+     * retendría su conexión mientras espera la otra lectura y bajo carga podría agotar el pool de Hikari.
+     * Ambas comparten un plazo de sellers.profile.deadline.
+     */
     @Override
     public SellerAnalyticsResponse getSellerProfile(Long sellerId) {
-        List<Item> sellerItems = itemRepository.findBySeller(sellerId, 10, 0);
-
-        if (sellerItems.isEmpty()) {
-            throw new RuntimeException("Seller not found: " + sellerId);
+        long deadlineNanos = System.nanoTime() + profileDeadline.toNanos();
+        CompletableFuture<SellerStats> statsLoad = CompletableFuture.supplyAsync(
+                () -> sellerRepository.findStats(sellerId).orElseThrow(() -> new SellerNotFoundException(sellerId)),
+                profileExecutor);
+        CompletableFuture<List<ItemSummary>> recentItemsLoad = CompletableFuture.supplyAsync(
+                () -> itemRepository.findRecentBySeller(sellerId, RECENT_ITEMS),
+                profileExecutor);
+
+        SellerStats stats;
+        List<ItemSummary> recent;
+        try {
+            stats = await(statsLoad, deadlineNanos, sellerId);
+            recent = await(recentItemsLoad, deadlineNanos, sellerId);
+        } finally {
+            // sin efecto si ya terminaron; si no (plazo vencido o vendedor inexistente), descarta su resultado
+            statsLoad.cancel(false);
+            recentItemsLoad.cancel(false);
         }
 
-        Item firstItem = sellerItems.get(0);
-        SellerProfileDto profile = mapToSellerProfile(firstItem);
-        SellerMetricsDto metrics = calculateSellerMetrics(sellerItems, sellerId);
-        List<ItemSummaryDto> recentItems = sellerItems.stream()
-                .limit(5)
+        SellerProfileDto profile = mapToSellerProfile(stats.getSeller());
+        SellerMetricsDto metrics = mapToSellerMetrics(stats);
+        List<ItemSummaryDto> recentItems = recent.stream()
                 .map(this::mapToItemSummary)
                 .collect(Collectors.toList());
 
@@ -46,100 +102,131 @@ public class SellerAnalyticsService implements GetSellerAnalyticsUseCase {
     }
 
     @Override
-    public SearchResponse getSellerItems(Long sellerId, int limit, int offset) {
-        List<Item> sellerItems = itemRepository.findBySeller(sellerId, limit, offset);
-
-        List<SearchResponse.ItemSummaryDto> items = sellerItems.stream()
+    public SearchResponse getSellerItems(Long sellerId, int limit, int offset, String cursor) {
+        SearchCriteria criteria = new SearchCriteria();
+        criteria.setSellerId(sellerId);
+        criteria.setSortBy("created_date");
+        criteria.setSortDirection("desc");
+        criteria.setLimit(limit);
+        criteria.setOffset(offset);
+        criteria.setCursor(cursor);
+
+        SearchResult result = itemRepository.searchWithTotal(criteria);
+
+        List<SearchResponse.ItemSummaryDto> items = result.getItems().stream()
                 .map(this::mapToSearchItemSummary)
                 .collect(Collectors.toList());
 
         SearchResponse.PaginationDto pagination = new SearchResponse.PaginationDto(
-                items.size(), limit, offset
+                result.getTotal(), limit, cursor != null ? 0 : offset, result.getNextCursor()
         );
+        if (cursor != null) {
+            pagination.setHasPrevious(true);
+        }
 
         return new SearchResponse(items, pagination, null, "seller_items");
     }
 
+    /**
+     * Sale del ranking en memoria de SellerRankingService: vendedores distintos, ordenados por score compuesto
+     */
     @Override
-    public SearchResponse getTopRatedSellers(int limit) {
-        List<Item> bestSellerItems = itemRepository.findBestSellers(limit * 2);
+    public TopSellersResponse getTopRatedSellers(int limit) {
+        List<RankedSeller> ranked = sellerRankingService.getTop(limit);
 
-        List<SearchResponse.ItemSummaryDto> items = bestSellerItems.stream()
-                .filter(item -> "5_green".equals(item.getSeller().getReputationLevel()) ||
-                               "platinum".equals(item.getSeller().getPowerSellerStatus()))
-                .limit(limit)
-                .map(this::mapToSearchItemSummary)
-                .collect(Collectors.toList());
+        List<TopSellerDto> sellers = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            sellers.add(mapToTopSeller(ranked.get(i), i + 1));
+        }
 
-        SearchResponse.PaginationDto pagination = new SearchResponse.PaginationDto(
-                items.size(), limit, 0
-        );
+        return new TopSellersResponse(sellers, limit);
+    }
 
-        return new SearchResponse(items, pagination, null, "top_sellers");
+    /**
+     * Espera una lectura hasta el plazo del perfil y propaga sus excepciones sin envolver
+     */
+    private <T> T await(CompletableFuture<T> load, long deadlineNanos, Long sellerId) {
+        try {
+            return load.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BaseException(ExceptionCode.INTERNAL_SERVER_ERROR,
+                    "Seller profile load failed for seller " + sellerId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new BaseException(ExceptionCode.TIMEOUT_ERROR,
+                    "Seller profile for seller " + sellerId + " not loaded within " + profileDeadline.toMillis() + " ms",
+                    "El perfil del vendedor no está disponible en este momento");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(ExceptionCode.OPERATION_FAILED,
+                    "Interrupted while loading the profile of seller " + sellerId, e);
+        }
     }
 
-    private SellerProfileDto mapToSellerProfile(Item item) {
+    private SellerProfileDto mapToSellerProfile(Seller seller) {
         return new SellerProfileDto(
-                item.getSeller().getId(),
-                item.getSeller().getNickname(),
-                item.getSeller().getPermalink(),
-                item.getSeller().getRegistrationDate(),
-                item.getSeller().getCountryId(),
-                item.getSeller().getReputationLevel(),
-                item.getSeller().getPowerSellerStatus()
+                seller.getId(),
+                seller.getNickname(),
+                seller.getPermalink(),
+                seller.getRegistrationDate(),
+                seller.getCountryId(),
+                seller.getReputationLevel(),
+                seller.getPowerSellerStatus()
         );
     }
 
-    private SellerMetricsDto calculateSellerMetrics(List<Item> items, Long sellerId) {
-        if (items.isEmpty()) {
-            return new SellerMetricsDto(0, 0, 0.0, 0.0, 0.0, 0, 0.0, "N/A");
-        }
-
-        Item firstItem = items.get(0);
-        Double averagePrice = items.stream()
-                .mapToLong(item -> item.getPrice().getAmountInCents())
-                .average()
-                .orElse(0.0) / 100.0;
-
-        String topCategory = items.stream()
-                .findFirst()
-                .map(item -> item.getCategory().getName())
-                .orElse("N/A");
-
+    private SellerMetricsDto mapToSellerMetrics(SellerStats stats) {
+        Seller seller = stats.getSeller();
         return new SellerMetricsDto(
-                firstItem.getSeller().getTransactionsCompleted(),
-                firstItem.getSeller().getTransactionsCanceled(),
-                firstItem.getSeller().getRatingPositive().doubleValue(),
-                firstItem.getSeller().getRatingNegative().doubleValue(),
-                firstItem.getSeller().getRatingNeutral().doubleValue(),
-                items.size(),
-                averagePrice,
-                topCategory
+                seller.getTransactionsCompleted(),
+                seller.getTransactionsCanceled(),
+                seller.getRatingPositive().doubleValue(),
+                seller.getRatingNegative().doubleValue(),
+                seller.getRatingNeutral().doubleValue(),
+                stats.getActiveItems(),
+                stats.getAveragePrice() / 100.0,
+                stats.getMinPrice().map(cents -> cents / 100.0).orElse(null),
+                stats.getMaxPrice().map(cents -> cents / 100.0).orElse(null),
+                stats.getGmv() / 100.0,
+                stats.getTopCategoryName().orElse("N/A")
         );
     }
 
-    private ItemSummaryDto mapToItemSummary(Item item) {
+    private TopSellerDto mapToTopSeller(RankedSeller ranked, int rank) {
+        Seller seller = ranked.getSeller();
+        return new TopSellerDto(
+                rank,
+                seller.getId(),
+                seller.getNickname(),
+                seller.getPermalink(),
+                seller.getReputationLevel(),
+                seller.getPowerSellerStatus(),
+                seller.getRatingPositive().doubleValue(),
+                seller.getTransactionsCompleted(),
+                Math.round(ranked.getScore() * 1000) / 1000.0
+        );
+    }
+
+    private ItemSummaryDto mapToItemSummary(ItemSummary item) {
         PriceDto price = new PriceDto(
                 item.getPrice().getAmountInCents(),
                 item.getPrice().getCurrency(),
                 item.getPrice().getDecimals()
         );
 
-        String thumbnailUrl = item.getMainPicture()
-                .map(picture -> picture.getUrl())
-                .orElse(null);
-
         return new ItemSummaryDto(
                 item.getId(),
                 item.getTitle(),
                 price,
                 item.getConditionType(),
                 item.getSoldQuantity(),
-                thumbnailUrl
+                item.getThumbnailUrl().orElse(null)
         );
     }
 
-    private SearchResponse.ItemSummaryDto mapToSearchItemSummary(Item item) {
+    private SearchResponse.ItemSummaryDto mapToSearchItemSummary(ItemSummary item) {
         SearchResponse.PriceDto price = new SearchResponse.PriceDto(
                 item.getPrice().getAmountInCents(),
                 item.getPrice().getCurrency(),
@@ -147,14 +234,12 @@ public class SellerAnalyticsService implements GetSellerAnalyticsUseCase {
         );
 
         SearchResponse.SellerSummaryDto seller = new SearchResponse.SellerSummaryDto(
-                item.getSeller().getId(),
-                item.getSeller().getNickname(),
-                item.getSeller().getReputationLevel()
+                item.getSellerId(),
+                item.getSellerNickname(),
+                item.getSellerReputationLevel()
         );
 
-        String thumbnailUrl = item.getMainPicture()
-                .map(picture -> picture.getUrl())
-                .orElse(null);
+        String thumbnailUrl = item.getThumbnailUrl().orElse(null);
 
         return new SearchResponse.ItemSummaryDto(
                 item.getId(),
@@ -0,0 +1,53 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.domain.seller.RankedSeller;
+import com.mercadolibre.challenge.domain.seller.repository.SellerRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ranking de vendedores en memoria.
+ *
+ * El refresh programado lee los primeros sellers.ranking.size vendedores por ranking_score (columna
+ * calculada e indexada en sellers) y publica el resultado como un arreglo ordenado en un campo
+ * volatile. Pedir el top-N es copiar los primeros N elementos, sin consultas ni locks.
+ */
+@Service
+public class SellerRankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(SellerRankingService.class);
+
+    private final SellerRepository sellerRepository;
+    private final int size;
+
+    private volatile RankedSeller[] ranking = new RankedSeller[0];
+
+    public SellerRankingService(SellerRepository sellerRepository,
+                                @Value("${sellers.ranking.size:1000}") int size) {
+        this.sellerRepository = sellerRepository;
+        this.size = size;
+    }
+
+    /**
+     * Los primeros limit vendedores del último refresh, de mayor a menor score
+     */
+    public List<RankedSeller> getTop(int limit) {
+        RankedSeller[] current = ranking;
+        return Arrays.asList(Arrays.copyOf(current, Math.min(Math.max(limit, 0), current.length)));
+    }
+
+    @Scheduled(initialDelayString = "${sellers.ranking.initial-delay:PT0S}",
+            fixedDelayString = "${sellers.ranking.refresh-interval:PT5M}")
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        ranking = sellerRepository.findTopRanked(size).toArray(new RankedSeller[0]);
+        log.info("Seller ranking refreshed with {} sellers in {} ms", ranking.length,
+                System.currentTimeMillis() - start);
+    }
+}
@@ -7,7 +7,7 @@ import com.mercadolibre.challenge.application.dto.TrendingResponse.PriceDto;
 import com.mercadolibre.challenge.application.dto.SearchResponse.ItemSummaryDto;
 import com.mercadolibre.challenge.application.dto.SearchResponse.SellerSummaryDto;
 import com.mercadolibre.challenge.application.port.in.GetTrendingItemsUseCase;
-import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
 import org.springframework.stereotype.Service;
 
@@ -19,27 +19,49 @@ import java.util.stream.Collectors;
 public class TrendingItemsService implements GetTrendingItemsUseCase {
 
     private final ItemRepository itemRepository;
+    private final TrendingLeaderboardService trendingLeaderboard;
+    private final ItemViewCounterService itemViewCounter;
 
-    public TrendingItemsService(ItemRepository itemRepository) {
+    public TrendingItemsService(ItemRepository itemRepository, TrendingLeaderboardService trendingLeaderboard,
+                                ItemViewCounterService itemViewCounter) {
         this.itemRepository = itemRepository;
+        this.trendingLeaderboard = trendingLeaderboard;
+        this.itemViewCounter = itemViewCounter;
     }
 
+    /**
+     * Sale del ranking en memoria. Si la categoría no tuvo actividad dentro de la ventana se responde
+     * con el histórico de ventas, y el timeFrame lo indica como all_time.
+     */
     @Override
     public TrendingResponse getTrendingByCategory(String categoryId, int limit) {
-        List<Item> trendingItems = itemRepository.findTrendingByCategory(categoryId, limit);
+        List<ItemSummary> trendingItems = trendingLeaderboard.getTrending(categoryId, limit);
+        String timeFrame = trendingLeaderboard.getTimeFrame();
+        if (trendingItems.isEmpty()) {
+            trendingItems = itemRepository.findTrendingByCategory(categoryId, limit);
+            timeFrame = "all_time";
+        }
+        return toTrendingResponse(categoryId, trendingItems, timeFrame);
+    }
+
+    @Override
+    public SearchResponse getBestSellers(int limit) {
+        return toBestSellersResponse(itemRepository.findBestSellers(limit), limit);
+    }
 
+    /**
+     * Los dos armados de respuesta siguientes también los usa ReactiveItemReadService
+     */
+    TrendingResponse toTrendingResponse(String categoryId, List<ItemSummary> trendingItems, String timeFrame) {
         AtomicInteger rank = new AtomicInteger(1);
         List<TrendingItemDto> trending = trendingItems.stream()
                 .map(item -> mapToTrendingItem(item, rank.getAndIncrement()))
                 .collect(Collectors.toList());
 
-        return new TrendingResponse(trending, categoryId, "last_7_days");
+        return new TrendingResponse(trending, categoryId, timeFrame);
     }
 
-    @Override
-    public SearchResponse getBestSellers(int limit) {
-        List<Item> bestSellers = itemRepository.findBestSellers(limit);
-
+    SearchResponse toBestSellersResponse(List<ItemSummary> bestSellers, int limit) {
         List<ItemSummaryDto> items = bestSellers.stream()
                 .map(this::mapToItemSummary)
                 .collect(Collectors.toList());
@@ -51,9 +73,12 @@ public class TrendingItemsService implements GetTrendingItemsUseCase {
         return new SearchResponse(items, pagination, null, "best_sellers");
     }
 
+    /**
+     * Sale del top-K en memoria de ItemViewCounterService, actualizado en cada flush de vistas
+     */
     @Override
     public SearchResponse getMostViewed(int limit) {
-        List<Item> mostViewed = itemRepository.findBestSellers(limit);
+        List<ItemSummary> mostViewed = itemViewCounter.getMostViewed(limit);
 
         List<ItemSummaryDto> items = mostViewed.stream()
                 .map(this::mapToItemSummary)
@@ -66,16 +91,14 @@ public class TrendingItemsService implements GetTrendingItemsUseCase {
         return new SearchResponse(items, pagination, null, "most_viewed");
     }
 
-    private TrendingItemDto mapToTrendingItem(Item item, int rank) {
+    private TrendingItemDto mapToTrendingItem(ItemSummary item, int rank) {
         PriceDto price = new PriceDto(
                 item.getPrice().getAmount().longValue(),
                 item.getPrice().getCurrency(),
                 item.getPrice().getDecimals()
         );
 
-        String thumbnailUrl = item.getMainPicture()
-                .map(picture -> picture.getUrl())
-                .orElse(null);
+        String thumbnailUrl = item.getThumbnailUrl().orElse(null);
 
         String reason = rank <= 3 ? "Top seller this week" : "Trending up";
 
@@ -90,7 +113,7 @@ public class TrendingItemsService implements GetTrendingItemsUseCase {
         );
     }
 
-    private ItemSummaryDto mapToItemSummary(Item item) {
+    private ItemSummaryDto mapToItemSummary(ItemSummary item) {
         SearchResponse.PriceDto price = new SearchResponse.PriceDto(
                 item.getPrice().getAmount().longValue(),
                 item.getPrice().getCurrency(),
@@ -98,14 +121,12 @@ public class TrendingItemsService implements GetTrendingItemsUseCase {
         );
 
         SellerSummaryDto seller = new SellerSummaryDto(
-                item.getSeller().getId(),
-                item.getSeller().getNickname(),
-                item.getSeller().getReputationLevel()
+                item.getSellerId(),
+                item.getSellerNickname(),
+                item.getSellerReputationLevel()
         );
 
-        String thumbnailUrl = item.getMainPicture()
-                .map(picture -> picture.getUrl())
-                .orElse(null);
+        String thumbnailUrl = item.getThumbnailUrl().orElse(null);
 
         return new ItemSummaryDto(
                 item.getId(),
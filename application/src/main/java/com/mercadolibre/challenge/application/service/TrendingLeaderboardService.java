@@ -0,0 +1,201 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.recommendation.ItemEvent;
+import com.mercadolibre.challenge.domain.recommendation.ItemEventType;
+import com.mercadolibre.challenge.domain.recommendation.repository.ItemEventRepository;
+import com.mercadolibre.challenge.domain.trending.DecayingLeaderboard;
+import com.mercadolibre.challenge.domain.trending.RankedItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking de tendencias por categoría armado con los eventos de items (vistas y compras).
+ *
+ * Cada categoría tiene un DecayingLeaderboard en memoria: una compra suma purchase-weight, una vista
+ * view-weight, y los puntajes decaen con constante trending.window. Junto al ranking se guarda el
+ * ItemSummary de cada item que tuvo actividad, así que una consulta se responde sin ir a la base.
+ *
+ * Los eventos nuevos llegan por ItemEvent publicado al registrarse y se aplican en el momento. El
+ * rebuild programado vuelve a leer el log desde el primer evento del horizonte (findFirstIdSince, sobre el
+ * índice por occurred_at), así su costo sigue a la actividad reciente y no al largo del log; refresca los
+ * resúmenes y cambia los rankings de una vez, con el mismo esquema que el grafo de co-ocurrencias.
+ */
+@Service
+public class TrendingLeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingLeaderboardService.class);
+
+    /**
+     * Eventos más viejos que HORIZON_WINDOWS ventanas pesan menos del 2% y no se cargan
+     */
+    private static final int HORIZON_WINDOWS = 4;
+
+    private final ItemRepository itemRepository;
+    private final ItemEventRepository itemEventRepository;
+    private final Duration window;
+    private final int topN;
+    private final double purchaseWeight;
+    private final double viewWeight;
+    private final int batchSize;
+
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private volatile Map<String, DecayingLeaderboard> leaderboards = new ConcurrentHashMap<>();
+    private volatile Map<String, ItemSummary> items = new ConcurrentHashMap<>();
+    private long rebuiltUpTo;
+
+    public TrendingLeaderboardService(ItemRepository itemRepository,
+                                      ItemEventRepository itemEventRepository,
+                                      @Value("${trending.window:P7D}") Duration window,
+                                      @Value("${trending.top-n:100}") int topN,
+                                      @Value("${trending.purchase-weight:5.0}") double purchaseWeight,
+                                      @Value("${trending.view-weight:1.0}") double viewWeight,
+                                      @Value("${trending.batch-size:1000}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.itemEventRepository = itemEventRepository;
+        this.window = window;
+        this.topN = topN;
+        this.purchaseWeight = purchaseWeight;
+        this.viewWeight = viewWeight;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener
+    public void onItemEvent(ItemEvent event) {
+        swapLock.lock();
+        try {
+            if (event.getId() != null && event.getId() <= rebuiltUpTo) {
+                return;
+            }
+            apply(List.of(event), leaderboards, items, System.currentTimeMillis());
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * Items en tendencia de la categoría, de mayor a menor puntaje. Vacío si no tuvo actividad en el horizonte.
+     */
+    public List<ItemSummary> getTrending(String categoryId, int limit) {
+        DecayingLeaderboard leaderboard = leaderboards.get(categoryId);
+        if (leaderboard == null) {
+            return List.of();
+        }
+        Map<String, ItemSummary> summaries = items;
+        List<ItemSummary> trending = new ArrayList<>();
+        for (RankedItem ranked : leaderboard.top(limit, System.currentTimeMillis())) {
+            ItemSummary summary = summaries.get(ranked.getItemId());
+            if (summary != null) {
+                trending.add(summary);
+            }
+        }
+        return trending;
+    }
+
+    /**
+     * Etiqueta de la ventana configurada, p. ej. last_7_days o last_12_hours
+     */
+    public String getTimeFrame() {
+        return window.toHours() % 24 == 0
+                ? "last_" + window.toDays() + "_days"
+                : "last_" + Math.max(window.toHours(), 1) + "_hours";
+    }
+
+    @Scheduled(initialDelayString = "${trending.initial-delay:PT0S}",
+            fixedDelayString = "${trending.rebuild-interval:PT10M}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<String, DecayingLeaderboard> freshLeaderboards = new ConcurrentHashMap<>();
+        Map<String, ItemSummary> freshItems = new ConcurrentHashMap<>();
+        long firstId = itemEventRepository.findFirstIdSince(
+                LocalDateTime.now().minus(window.multipliedBy(HORIZON_WINDOWS)));
+        long lastId = replay(freshLeaderboards, freshItems, firstId - 1, start);
+
+        swapLock.lock();
+        try {
+            lastId = replay(freshLeaderboards, freshItems, lastId, start);
+            // forward decay: al rebasar, lo que quedó fuera del horizonte se descarta
+            double minScore = Math.min(purchaseWeight, viewWeight) * Math.exp(-HORIZON_WINDOWS);
+            freshLeaderboards.values().removeIf(leaderboard -> leaderboard.rebase(start, minScore) == 0);
+            leaderboards = freshLeaderboards;
+            items = freshItems;
+            rebuiltUpTo = lastId;
+        } finally {
+            swapLock.unlock();
+        }
+        log.info("Trending leaderboards rebuilt for {} categories up to event {} in {} ms",
+                freshLeaderboards.size(), lastId, System.currentTimeMillis() - start);
+    }
+
+    private long replay(Map<String, DecayingLeaderboard> targetLeaderboards, Map<String, ItemSummary> targetItems,
+                        long afterId, long nowMillis) {
+        long horizon = nowMillis - window.toMillis() * HORIZON_WINDOWS;
+        long lastId = afterId;
+        List<ItemEvent> batch;
+        do {
+            batch = itemEventRepository.findAfter(lastId, batchSize);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            // los ids siguen el orden de registro: un evento con fecha anterior al horizonte aún puede aparecer
+            List<ItemEvent> recent = batch.stream()
+                    .filter(event -> toMillis(event.getOccurredAt()) >= horizon)
+                    .toList();
+            apply(recent, targetLeaderboards, targetItems, nowMillis);
+        } while (batch.size() == batchSize);
+        return lastId;
+    }
+
+    /**
+     * Suma los eventos a los rankings, resolviendo en una consulta los items que todavía no se conocen
+     */
+    private void apply(List<ItemEvent> events, Map<String, DecayingLeaderboard> targetLeaderboards,
+                       Map<String, ItemSummary> targetItems, long nowMillis) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Set<String> unknown = events.stream()
+                .map(ItemEvent::getItemId)
+                .filter(itemId -> !targetItems.containsKey(itemId))
+                .collect(Collectors.toSet());
+        if (!unknown.isEmpty()) {
+            itemRepository.findSummariesByIds(unknown).forEach(item -> targetItems.put(item.getId(), item));
+        }
+
+        for (ItemEvent event : events) {
+            ItemSummary item = targetItems.get(event.getItemId());
+            if (item == null || item.getCategoryId() == null) {
+                continue;
+            }
+            targetLeaderboards
+                    .computeIfAbsent(item.getCategoryId(), categoryId -> new DecayingLeaderboard(window.toMillis(), topN, nowMillis))
+                    .add(item.getId(), weightOf(event.getType()), toMillis(event.getOccurredAt()));
+        }
+    }
+
+    private double weightOf(ItemEventType type) {
+        return type == ItemEventType.PURCHASE ? purchaseWeight : viewWeight;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null
+                ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,91 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.dto.ItemEventRequest;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.recommendation.ItemEvent;
+import com.mercadolibre.challenge.domain.recommendation.ItemEventType;
+import com.mercadolibre.challenge.domain.recommendation.ItemNeighbour;
+import com.mercadolibre.challenge.domain.recommendation.repository.ItemEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCoOccurrenceServiceTest {
+
+    private static final Duration RETENTION = Duration.ofDays(30);
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private ItemEventRepository itemEventRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ItemCoOccurrenceService itemCoOccurrenceService;
+
+    @BeforeEach
+    void setUp() {
+        itemCoOccurrenceService = new ItemCoOccurrenceService(itemEventRepository, itemRepository, eventPublisher,
+                20, 20, 1000, BATCH_SIZE, RETENTION);
+    }
+
+    @Test
+    void recordEvent_WhenItemNotFound_ShouldThrowItemNotFoundException() {
+        // Arrange
+        when(itemRepository.existsById("MLA999")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(ItemNotFoundException.class, () ->
+                itemCoOccurrenceService.recordEvent("MLA999", new ItemEventRequest("session-1", "VIEW")));
+        verify(itemEventRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+        assertTrue(itemCoOccurrenceService.neighbours(ItemEventType.VIEW, "MLA999", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldReplayOnlyEventsInsideTheRetentionWindow() {
+        // Arrange
+        // los eventos 1 y 2 (MLA3 con MLA1 en la misma sesión) quedaron fuera de la ventana
+        when(itemEventRepository.findFirstIdSince(any())).thenReturn(3L);
+        when(itemEventRepository.findAfter(2L, BATCH_SIZE)).thenReturn(List.of(
+                createTestEvent(3L, "MLA1"), createTestEvent(4L, "MLA2")));
+
+        // Act
+        LocalDateTime before = LocalDateTime.now();
+        itemCoOccurrenceService.rebuild();
+
+        // Assert
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(itemEventRepository).findFirstIdSince(since.capture());
+        assertFalse(since.getValue().isAfter(before.minus(RETENTION).plusSeconds(5)));
+        assertFalse(since.getValue().isBefore(before.minus(RETENTION)));
+        verify(itemEventRepository, never()).findAfter(longThat(afterId -> afterId < 2L), anyInt());
+
+        List<ItemNeighbour> neighbours = itemCoOccurrenceService.neighbours(ItemEventType.VIEW, "MLA1", 10);
+        assertEquals(List.of("MLA2"), neighbours.stream().map(ItemNeighbour::getItemId).toList());
+        assertTrue(itemCoOccurrenceService.neighbours(ItemEventType.VIEW, "MLA3", 10).isEmpty());
+    }
+
+    private ItemEvent createTestEvent(Long id, String itemId) {
+        return ItemEvent.from(id, itemId, "session-1", ItemEventType.VIEW, LocalDateTime.now().minusDays(1));
+    }
+}
@@ -0,0 +1,115 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.port.in.EvictItemDetailUseCase;
+import com.mercadolibre.challenge.application.port.in.GetItemDetailUseCase;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica el cacheo de ItemDetailService a través del proxy de Spring, con el mismo CacheManager Caffeine que usa la aplicación
+ */
+@SpringBootTest(classes = ItemDetailServiceCacheTest.CacheConfig.class)
+class ItemDetailServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    @Import(ItemDetailService.class)
+    static class CacheConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(ItemDetailService.ITEM_DETAIL_CACHE);
+        }
+    }
+
+    @MockitoBean
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private GetItemDetailUseCase getItemDetailUseCase;
+
+    @Autowired
+    private EvictItemDetailUseCase evictItemDetailUseCase;
+
+    @BeforeEach
+    void setUp() {
+        evictItemDetailUseCase.evictAllItemDetails();
+    }
+
+    @Test
+    void getItemDetail_WhenCalledTwice_ShouldHitRepositoryOnce() {
+        // Arrange
+        String itemId = "MLA123456789";
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(createTestItem(itemId)));
+
+        // Act
+        ItemDetailResponse first = getItemDetailUseCase.getItemDetail(itemId);
+        ItemDetailResponse second = getItemDetailUseCase.getItemDetail(itemId);
+
+        // Assert
+        assertSame(first, second);
+        verify(itemRepository, times(1)).findById(itemId);
+    }
+
+    @Test
+    void evictItemDetail_ShouldForceReload() {
+        // Arrange
+        String itemId = "MLA123456789";
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(createTestItem(itemId)));
+        getItemDetailUseCase.getItemDetail(itemId);
+
+        // Act
+        evictItemDetailUseCase.evictItemDetail(itemId);
+        getItemDetailUseCase.getItemDetail(itemId);
+
+        // Assert
+        verify(itemRepository, times(2)).findById(itemId);
+    }
+
+    private Item createTestItem(String itemId) {
+        return Item.from(
+                itemId,
+                "iPhone 15 Pro",
+                Price.of(1299999L, "ARS", 2),
+                "new",
+                25,
+                150,
+                "https://articulo.mercadolibre.com.ar/" + itemId,
+                "active",
+                "iPhone 15 Pro con chip A17 Pro",
+                "gold_special",
+                "buy_it_now",
+                true,
+                true,
+                LocalDateTime.now().minusDays(10),
+                LocalDateTime.now(),
+                null,
+                null,
+                List.of(),
+                List.of(),
+                List.of(),
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.trending.ItemViewCount;
+import com.mercadolibre.challenge.domain.trending.repository.ItemViewCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemViewCounterServiceTest {
+
+    @Mock
+    private ItemViewCountRepository itemViewCountRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemViewCounterService itemViewCounterService;
+
+    @BeforeEach
+    void setUp() {
+        itemViewCounterService = new ItemViewCounterService(itemViewCountRepository, itemRepository, 2);
+        when(itemRepository.findSummariesByIds(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<String>>getArgument(0).stream().map(this::createTestSummary).toList());
+    }
+
+    @Test
+    void flush_ShouldLoadOnlyTheTopAndUpdateItFromFlushedItems() {
+        // Arrange
+        when(itemViewCountRepository.findTop(2)).thenReturn(List.of(
+                new ItemViewCount("MLA1", 50), new ItemViewCount("MLA2", 30)));
+        itemViewCounterService.flush();
+        assertEquals(List.of("MLA1", "MLA2"), mostViewedIds());
+
+        itemViewCounterService.recordView("MLA3");
+        itemViewCounterService.recordView("MLA4");
+        when(itemViewCountRepository.findByItemIds(Set.of("MLA3", "MLA4"))).thenReturn(List.of(
+                new ItemViewCount("MLA3", 40), new ItemViewCount("MLA4", 1)));
+
+        // Act
+        itemViewCounterService.flush();
+
+        // Assert
+        verify(itemViewCountRepository).addViews(Map.of("MLA3", 1L, "MLA4", 1L));
+        assertEquals(List.of("MLA1", "MLA3"), mostViewedIds());
+        // solo se busca el resumen del item que entró al ranking
+        verify(itemRepository).findSummariesByIds(List.of("MLA3"));
+    }
+
+    @Test
+    void flush_WithoutNewViews_ShouldNotWriteNorQuery() {
+        // Arrange
+        when(itemViewCountRepository.findTop(2)).thenReturn(List.of(new ItemViewCount("MLA1", 50)));
+        itemViewCounterService.flush();
+
+        // Act
+        itemViewCounterService.flush();
+
+        // Assert
+        verify(itemViewCountRepository, never()).addViews(any());
+        verify(itemViewCountRepository, never()).findByItemIds(anyCollection());
+        verify(itemRepository, times(1)).findSummariesByIds(anyCollection());
+    }
+
+    private List<String> mostViewedIds() {
+        return itemViewCounterService.getMostViewed(10).stream().map(ItemSummary::getId).toList();
+    }
+
+    private ItemSummary createTestSummary(String id) {
+        return ItemSummary.from(id, "Item " + id, Price.of(100_000_00L, "ARS", 2), "new", null, true,
+                12345L, "TECHSTORE_OFICIAL", "5_green", "platinum", 10, "MLA1055", LocalDateTime.of(2025, 1, 1, 10, 0));
+    }
+}
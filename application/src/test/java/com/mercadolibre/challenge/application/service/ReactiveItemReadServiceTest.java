@@ -0,0 +1,154 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.dto.RecommendationResponse;
+import com.mercadolibre.challenge.application.port.out.ReactiveItemRepository;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifica que el stack reactivo lea y llene las caches itemDetail y similarItems con las mismas claves que
+ * los servicios bloqueantes, usando ambos servicios a través de sus proxies de Spring
+ */
+@SpringBootTest(classes = ReactiveItemReadServiceTest.CacheConfig.class)
+@ActiveProfiles("reactive")
+class ReactiveItemReadServiceTest {
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    @Import({ItemDetailService.class, RecommendationService.class, ReactiveItemReadService.class})
+    static class CacheConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ItemDetailService.ITEM_DETAIL_CACHE,
+                    RecommendationService.SIMILAR_ITEMS_CACHE);
+        }
+    }
+
+    @MockitoBean
+    private ItemRepository itemRepository;
+
+    @MockitoBean
+    private ReactiveItemRepository reactiveItemRepository;
+
+    @MockitoBean
+    private ItemCoOccurrenceService coOccurrenceService;
+
+    @MockitoBean
+    private ItemComparisonService itemComparisonService;
+
+    @MockitoBean
+    private TrendingItemsService trendingItemsService;
+
+    @MockitoBean
+    private TrendingLeaderboardService trendingLeaderboardService;
+
+    @Autowired
+    private ItemDetailService itemDetailService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private ReactiveItemReadService reactiveItemReadService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void getItemDetail_ShouldShareCacheEntriesWithBlockingService() {
+        // Arrange
+        when(itemRepository.findById("MLA1")).thenReturn(Optional.of(createTestItem("MLA1")));
+        when(reactiveItemRepository.findById("MLA2")).thenReturn(Mono.just(createTestItem("MLA2")));
+
+        // Act
+        ItemDetailResponse blocking = itemDetailService.getItemDetail("MLA1");
+        ItemDetailResponse reactive = reactiveItemReadService.getItemDetail("MLA1").block();
+
+        ItemDetailResponse loadedReactively = reactiveItemReadService.getItemDetail("MLA2").block();
+        ItemDetailResponse readBlocking = itemDetailService.getItemDetail("MLA2");
+
+        // Assert
+        assertSame(blocking, reactive);
+        assertSame(loadedReactively, readBlocking);
+        verify(reactiveItemRepository, never()).findById("MLA1");
+        verify(itemRepository, never()).findById("MLA2");
+    }
+
+    @Test
+    void getSimilarItems_ShouldShareCacheEntriesWithBlockingService() {
+        // Arrange
+        when(itemRepository.findById("MLA1")).thenReturn(Optional.of(createTestItem("MLA1")));
+        when(itemRepository.findSimilarItems(eq("MLA1"), anyInt())).thenReturn(List.of());
+        when(reactiveItemRepository.findById("MLA1")).thenReturn(Mono.just(createTestItem("MLA1")));
+        when(reactiveItemRepository.findSimilarItems(eq("MLA1"), anyInt())).thenReturn(Mono.just(List.of()));
+
+        // Act
+        RecommendationResponse blocking = recommendationService.getSimilarItems("MLA1", 3);
+        RecommendationResponse reactive = reactiveItemReadService.getSimilarItems("MLA1", 3).block();
+
+        RecommendationResponse loadedReactively = reactiveItemReadService.getSimilarItems("MLA1", 4).block();
+        RecommendationResponse readBlocking = recommendationService.getSimilarItems("MLA1", 4);
+
+        // Assert
+        assertSame(blocking, reactive);
+        assertSame(loadedReactively, readBlocking);
+        verify(reactiveItemRepository, times(1)).findSimilarItems(eq("MLA1"), anyInt());
+        verify(itemRepository, times(1)).findSimilarItems(eq("MLA1"), anyInt());
+    }
+
+    private Item createTestItem(String itemId) {
+        return Item.from(
+                itemId,
+                "iPhone 15 Pro",
+                Price.of(1299999L, "ARS", 2),
+                "new",
+                25,
+                150,
+                "https://articulo.mercadolibre.com.ar/" + itemId,
+                "active",
+                "iPhone 15 Pro con chip A17 Pro",
+                "gold_special",
+                "buy_it_now",
+                true,
+                true,
+                LocalDateTime.now().minusDays(10),
+                LocalDateTime.now(),
+                null,
+                null,
+                List.of(),
+                List.of(),
+                List.of(),
+                null,
+                null
+        );
+    }
+}
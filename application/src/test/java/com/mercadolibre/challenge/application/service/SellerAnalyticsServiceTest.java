@@ -0,0 +1,116 @@
+package com.mercadolibre.challenge.application.service;
+
+import com.mercadolibre.challenge.application.dto.SellerAnalyticsResponse;
+import com.mercadolibre.challenge.domain.common.exception.BaseException;
+import com.mercadolibre.challenge.domain.common.exception.codes.ExceptionCode;
+import com.mercadolibre.challenge.domain.common.exception.seller.SellerNotFoundException;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.Seller;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.seller.SellerStats;
+import com.mercadolibre.challenge.domain.seller.repository.SellerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SellerAnalyticsServiceTest {
+
+    private static final Long SELLER_ID = 123456789L;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private SellerRepository sellerRepository;
+
+    private final CountDownLatch slowLegRelease = new CountDownLatch(1);
+    private ExecutorService profileExecutor;
+    private SellerAnalyticsService sellerAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        profileExecutor = Executors.newFixedThreadPool(2);
+        sellerAnalyticsService = new SellerAnalyticsService(itemRepository, sellerRepository,
+                new SellerRankingService(sellerRepository, 10), profileExecutor, Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowLegRelease.countDown();
+        profileExecutor.shutdownNow();
+    }
+
+    @Test
+    void getSellerProfile_ShouldCombineStatsAndRecentItems() {
+        // Arrange
+        when(sellerRepository.findStats(SELLER_ID)).thenReturn(Optional.of(
+                SellerStats.from(createTestSeller(), 2, 300_000_00L, 100_000_00L, 200_000_00L, 900_000_00L,
+                        "MLA1055", "Celulares y Teléfonos")));
+        when(itemRepository.findRecentBySeller(SELLER_ID, 5)).thenReturn(List.of(createTestSummary("MLA1")));
+
+        // Act
+        SellerAnalyticsResponse result = sellerAnalyticsService.getSellerProfile(SELLER_ID);
+
+        // Assert
+        assertEquals("TECNO_STORE", result.getSeller().getNickname());
+        assertEquals(2, result.getMetrics().getActiveItems());
+        assertEquals(150_000.0, result.getMetrics().getAveragePrice());
+        assertEquals("Celulares y Teléfonos", result.getMetrics().getTopCategory());
+        assertEquals(1, result.getRecentItems().size());
+        assertEquals("MLA1", result.getRecentItems().get(0).getId());
+        verify(itemRepository, never()).searchWithTotal(any());
+    }
+
+    @Test
+    void getSellerProfile_WhenSellerNotFound_ShouldThrowSellerNotFoundException() {
+        // Arrange
+        when(sellerRepository.findStats(SELLER_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(SellerNotFoundException.class, () -> sellerAnalyticsService.getSellerProfile(SELLER_ID));
+    }
+
+    @Test
+    void getSellerProfile_WhenALegIsSlow_ShouldTimeOutWithinTheDeadline() {
+        // Arrange
+        when(sellerRepository.findStats(SELLER_ID)).thenReturn(Optional.of(SellerStats.empty(createTestSeller())));
+        when(itemRepository.findRecentBySeller(SELLER_ID, 5)).thenAnswer(invocation -> {
+            slowLegRelease.await();
+            return List.of();
+        });
+
+        // Act & Assert
+        BaseException exception = assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> assertThrows(BaseException.class, () -> sellerAnalyticsService.getSellerProfile(SELLER_ID)));
+        assertEquals(ExceptionCode.TIMEOUT_ERROR, exception.getErrorCode());
+    }
+
+    private Seller createTestSeller() {
+        return Seller.from(SELLER_ID, "TECNO_STORE", "http://perfil.mercadolibre.com.ar/TECNO_STORE",
+                LocalDateTime.of(2020, 1, 15, 10, 30), "AR", "5_green", "platinum",
+                1500, 25, new BigDecimal("0.95"), new BigDecimal("0.03"), new BigDecimal("0.02"));
+    }
+
+    private ItemSummary createTestSummary(String id) {
+        return ItemSummary.from(id, "iPhone 15 Pro", Price.of(150_000_00L, "ARS", 2), "new", null, true,
+                SELLER_ID, "TECNO_STORE", "5_green", "platinum", 10, "MLA1055", LocalDateTime.of(2025, 1, 1, 10, 0));
+    }
+}
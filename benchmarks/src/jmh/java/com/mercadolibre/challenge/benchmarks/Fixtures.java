@@ -0,0 +1,219 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.domain.item_detail.Category;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Picture;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.Seller;
+import com.mercadolibre.challenge.domain.item_detail.ShippingMethod;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.CategoryEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemAttributeEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemPictureEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.SellerEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ShippingMethodEntity;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Datos de entrada de los benchmarks: items con el tamaño de una publicación real (10 atributos,
+ * 5 imágenes, 2 métodos de envío) y sus equivalentes como entidades JPA.
+ */
+final class Fixtures {
+
+    static final int ATTRIBUTES_PER_ITEM = 10;
+    static final int PICTURES_PER_ITEM = 5;
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 15, 10, 0);
+    private static final String[][] ATTRIBUTES = {
+            {"BRAND", "Marca", "Apple", null, "string"},
+            {"MODEL", "Modelo", "iPhone 15 Pro", null, "string"},
+            {"STORAGE", "Almacenamiento", "128", "GB", "number"},
+            {"COLOR", "Color", "Titanio Natural", null, "string"},
+            {"SCREEN_SIZE", "Tamaño de pantalla", "6.1", "pulgadas", "number"},
+            {"RAM", "Memoria RAM", "8", "GB", "number"},
+            {"PROCESSOR", "Procesador", "A17 Pro", null, "string"},
+            {"OPERATING_SYSTEM", "Sistema operativo", "iOS", null, "string"},
+            {"BATTERY", "Batería", "3274", "mAh", "number"},
+            {"WEIGHT", "Peso", "187", "g", "number"}
+    };
+
+    private Fixtures() {
+    }
+
+    static String itemId(int index) {
+        return "MLA" + (100000000 + index);
+    }
+
+    static Item item(int index) {
+        List<ItemAttribute> attributes = new ArrayList<>(ATTRIBUTES_PER_ITEM);
+        for (String[] attribute : ATTRIBUTES) {
+            attributes.add(ItemAttribute.of(attribute[0], attribute[1], attribute[2], attribute[3], attribute[4]));
+        }
+        List<Picture> pictures = new ArrayList<>(PICTURES_PER_ITEM);
+        for (int order = 1; order <= PICTURES_PER_ITEM; order++) {
+            pictures.add(Picture.of("P" + index + "_" + order, pictureUrl(index, order), pictureUrl(index, order),
+                    "500x500", "1200x1200", "high", order));
+        }
+        List<ShippingMethod> shippingMethods = List.of(
+                ShippingMethod.of(1, "Envío gratis", "standard", 0L, "ARS", true, 2, 5, false),
+                ShippingMethod.of(2, "Envío express", "express", 250000L, "ARS", false, 1, 1, false));
+
+        return Item.from(itemId(index), "iPhone 15 Pro 128GB Titanio Natural " + index,
+                Price.of(1299999L + index * 1000L, "ARS", 2), "new", 25, 150 + index,
+                "https://articulo.mercadolibre.com.ar/" + itemId(index), "active",
+                "iPhone 15 Pro con chip A17 Pro, cámara de 48 MP y USB-C", "gold_special", "buy_it_now",
+                true, false, CREATED, CREATED,
+                Category.from("MLA1055", "Celulares y Teléfonos", "Electrónicos > Celulares y Teléfonos"),
+                seller(), attributes, pictures, shippingMethods, null, null);
+    }
+
+    static List<Item> items(int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(item(i));
+        }
+        return items;
+    }
+
+    static List<ItemSummary> summaries(int count) {
+        List<ItemSummary> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            summaries.add(ItemSummary.from(itemId(i), "iPhone 15 Pro 128GB Titanio Natural " + i,
+                    Price.of(1299999L + i * 1000L, "ARS", 2), "new", pictureUrl(i, 1), i % 3 != 0,
+                    12345L, "TECHSTORE_OFICIAL", "5_green", "platinum", 150 + i, "MLA1055", CREATED));
+        }
+        return summaries;
+    }
+
+    static List<ItemEntity> itemEntities(int count) {
+        CategoryEntity category = new CategoryEntity();
+        category.setId("MLA1055");
+        category.setName("Celulares y Teléfonos");
+        category.setPathFromRoot("Electrónicos > Celulares y Teléfonos");
+
+        SellerEntity seller = new SellerEntity();
+        seller.setId(12345L);
+        seller.setNickname("TECHSTORE_OFICIAL");
+        seller.setCountryId("AR");
+        seller.setReputationLevel("5_green");
+        seller.setPowerSellerStatus("platinum");
+        seller.setTransactionsCompleted(15420);
+        seller.setTransactionsCanceled(89);
+        seller.setRatingPositive(new BigDecimal("0.9650"));
+        seller.setRatingNegative(new BigDecimal("0.0180"));
+        seller.setRatingNeutral(new BigDecimal("0.0170"));
+
+        List<ItemEntity> entities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ItemEntity entity = new ItemEntity();
+            entity.setId(itemId(i));
+            entity.setTitle("iPhone 15 Pro 128GB Titanio Natural " + i);
+            entity.setPriceAmount(1299999L + i * 1000L);
+            entity.setPriceCurrency("ARS");
+            entity.setPriceDecimals(2);
+            entity.setConditionType("new");
+            entity.setAvailableQuantity(25);
+            entity.setSoldQuantity(150 + i);
+            entity.setPermalink("https://articulo.mercadolibre.com.ar/" + itemId(i));
+            entity.setStatus("active");
+            entity.setDescription("iPhone 15 Pro con chip A17 Pro, cámara de 48 MP y USB-C");
+            entity.setListingType("gold_special");
+            entity.setBuyingMode("buy_it_now");
+            entity.setFreeShipping(true);
+            entity.setLocalPickUp(false);
+            entity.setCreatedDate(CREATED);
+            entity.setUpdatedDate(CREATED);
+            entity.setCategory(category);
+            entity.setSeller(seller);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    static List<ItemAttributeEntity> attributeEntities(List<ItemEntity> items) {
+        List<ItemAttributeEntity> entities = new ArrayList<>(items.size() * ATTRIBUTES_PER_ITEM);
+        for (ItemEntity item : items) {
+            for (String[] attribute : ATTRIBUTES) {
+                ItemAttributeEntity entity = new ItemAttributeEntity();
+                entity.setItemId(item.getId());
+                entity.setAttributeId(attribute[0]);
+                entity.setAttributeName(attribute[1]);
+                entity.setAttributeValue(attribute[2]);
+                entity.setAttributeUnit(attribute[3]);
+                entity.setValueType(attribute[4]);
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    static List<ItemPictureEntity> pictureEntities(List<ItemEntity> items) {
+        List<ItemPictureEntity> entities = new ArrayList<>(items.size() * PICTURES_PER_ITEM);
+        for (int i = 0; i < items.size(); i++) {
+            for (int order = 1; order <= PICTURES_PER_ITEM; order++) {
+                ItemPictureEntity entity = new ItemPictureEntity();
+                entity.setItemId(items.get(i).getId());
+                entity.setPictureId("P" + i + "_" + order);
+                entity.setUrl(pictureUrl(i, order));
+                entity.setSecureUrl(pictureUrl(i, order));
+                entity.setSize("500x500");
+                entity.setMaxSize("1200x1200");
+                entity.setQuality("high");
+                entity.setPictureOrder(order);
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    static List<ShippingMethodEntity> shippingMethodEntities(List<ItemEntity> items) {
+        List<ShippingMethodEntity> entities = new ArrayList<>(items.size());
+        for (ItemEntity item : items) {
+            ShippingMethodEntity entity = new ShippingMethodEntity();
+            entity.setItemId(item.getId());
+            entity.setMethodId(1);
+            entity.setName("Envío gratis");
+            entity.setType("standard");
+            entity.setCost(0L);
+            entity.setCurrency("ARS");
+            entity.setFreeShipping(true);
+            entity.setEstimatedMinDays(2);
+            entity.setEstimatedMaxDays(5);
+            entity.setLocalPickUp(false);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Implementación de un puerto que devuelve valores fijos por nombre de método y falla en el resto.
+     * Un proxy en lugar de un mock para no medir el registro de invocaciones de Mockito.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Object> results) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (!results.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return results.get(method.getName());
+        });
+    }
+
+    private static Seller seller() {
+        return Seller.from(12345L, "TECHSTORE_OFICIAL", "https://perfil.mercadolibre.com.ar/TECHSTORE_OFICIAL",
+                LocalDateTime.of(2018, 3, 15, 10, 30), "AR", "5_green", "platinum", 15420, 89,
+                new BigDecimal("0.9650"), new BigDecimal("0.0180"), new BigDecimal("0.0170"));
+    }
+
+    private static String pictureUrl(int index, int order) {
+        return "https://http2.mlstatic.com/D_NQ_NP_" + index + "_" + order + "-O.webp";
+    }
+}
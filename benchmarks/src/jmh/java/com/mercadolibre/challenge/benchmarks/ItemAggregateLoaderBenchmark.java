@@ -0,0 +1,42 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.adapter.ItemAggregateLoader;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ItemAggregateLoader.load: agrupado de las colecciones por itemId y entityToDomain de cada entidad
+ * (el mapeo que antes hacía ItemRepositoryAdapter), con las consultas IN ya resueltas
+ */
+@State(Scope.Benchmark)
+public class ItemAggregateLoaderBenchmark {
+
+    @Param({"1", "50"})
+    public int pageSize;
+
+    private ItemAggregateLoader loader;
+    private List<ItemEntity> entities;
+
+    @Setup
+    public void setUp() {
+        entities = Fixtures.itemEntities(pageSize);
+        loader = new ItemAggregateLoader(Fixtures.stub(JpaItemRepository.class, Map.of(
+                "findAttributesByItemIds", Fixtures.attributeEntities(entities),
+                "findPicturesByItemIds", Fixtures.pictureEntities(entities),
+                "findShippingMethodsByItemIds", Fixtures.shippingMethodEntities(entities))));
+    }
+
+    @Benchmark
+    public List<Item> entityToDomain() {
+        return loader.load(entities);
+    }
+}
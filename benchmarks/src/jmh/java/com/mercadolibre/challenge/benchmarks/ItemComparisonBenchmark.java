@@ -0,0 +1,40 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.application.dto.ComparisonResponse;
+import com.mercadolibre.challenge.application.service.ItemComparisonService;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ItemComparisonService.compareItems: items comparados, resumen y matriz de atributos en una pasada
+ * (la antigua buildAttributeComparisons quedó dentro de compareItems)
+ */
+@State(Scope.Benchmark)
+public class ItemComparisonBenchmark {
+
+    @Param({"2", "4"})
+    public int itemCount;
+
+    private ItemComparisonService service;
+    private List<String> itemIds;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = Fixtures.items(itemCount);
+        itemIds = items.stream().map(Item::getId).toList();
+        service = new ItemComparisonService(Fixtures.stub(ItemRepository.class, Map.of("findAllByIds", items)));
+    }
+
+    @Benchmark
+    public ComparisonResponse buildAttributeComparisons() {
+        return service.compareItems(itemIds);
+    }
+}
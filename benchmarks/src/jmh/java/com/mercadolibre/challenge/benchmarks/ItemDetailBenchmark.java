@@ -0,0 +1,35 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.service.ItemDetailService;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ItemDetailService.getItemDetail sin cache ni base: validación más mapToResponse de un item completo
+ */
+@State(Scope.Benchmark)
+public class ItemDetailBenchmark {
+
+    private ItemDetailService service;
+    private String itemId;
+
+    @Setup
+    public void setUp() {
+        Item item = Fixtures.item(0);
+        itemId = item.getId();
+        service = new ItemDetailService(Fixtures.stub(ItemRepository.class, Map.of("findById", Optional.of(item))));
+    }
+
+    @Benchmark
+    public ItemDetailResponse mapToResponse() {
+        return service.getItemDetail(itemId);
+    }
+}
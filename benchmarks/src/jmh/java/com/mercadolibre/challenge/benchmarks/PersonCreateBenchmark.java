@@ -0,0 +1,25 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.domain.person.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+/**
+ * Person.create con datos válidos: validaciones (documento, email, teléfono, edad) y normalización
+ */
+@State(Scope.Benchmark)
+public class PersonCreateBenchmark {
+
+    private String documentNumber = "12345678";
+    private String email = "Juan.Perez@Example.com";
+    private LocalDate birthDate = LocalDate.of(1990, 5, 15);
+
+    @Benchmark
+    public Person create() {
+        return Person.create("dni", documentNumber, "juan", "carlos", "pérez", "gómez", birthDate, email,
+                "11 4567-8901", "Av. Corrientes 1234", "buenos aires", "argentina");
+    }
+}
@@ -0,0 +1,41 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+
+/**
+ * Construcción de Price desde centavos y desde BigDecimal, y lectura del monto en centavos
+ */
+@State(Scope.Benchmark)
+public class PriceBenchmark {
+
+    // no final para que el JIT no pliegue las constantes
+    private long amountInCents = 1299999L;
+    private BigDecimal amount = new BigDecimal("12999.99");
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        price = Price.of(amountInCents, "ARS", 2);
+    }
+
+    @Benchmark
+    public Price ofCents() {
+        return Price.of(amountInCents, "ARS", 2);
+    }
+
+    @Benchmark
+    public Price ofAmount() {
+        return Price.of(amount, "ARS", 2);
+    }
+
+    @Benchmark
+    public Long getAmountInCents() {
+        return price.getAmountInCents();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mercadolibre.challenge.benchmarks;
+
+import com.mercadolibre.challenge.application.dto.SearchRequest;
+import com.mercadolibre.challenge.application.dto.SearchResponse;
+import com.mercadolibre.challenge.application.service.SearchItemsService;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * SearchItemsService.searchItems sobre una página ya resuelta: armado del criterio y mapToItemSummary
+ * de cada resultado
+ */
+@State(Scope.Benchmark)
+public class SearchMappingBenchmark {
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    private SearchItemsService service;
+    private SearchRequest request;
+
+    @Setup
+    public void setUp() {
+        SearchResult page = new SearchResult(Fixtures.summaries(pageSize), 10_000);
+        service = new SearchItemsService(Fixtures.stub(ItemRepository.class, Map.of("searchWithTotal", page)));
+        request = new SearchRequest("iphone", null, null, null, null, null, null, "relevance", pageSize, 0);
+    }
+
+    @Benchmark
+    public SearchResponse mapToItemSummary() {
+        return service.searchItems(request);
+    }
+}
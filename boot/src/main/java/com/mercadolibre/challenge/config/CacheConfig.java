@@ -0,0 +1,13 @@
+package com.mercadolibre.challenge.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita las anotaciones de cache de la capa de aplicación.
+ * El proveedor (Caffeine) y sus límites se definen en spring.cache de application.yml.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
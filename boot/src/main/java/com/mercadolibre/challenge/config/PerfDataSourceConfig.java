@@ -0,0 +1,40 @@
+package com.mercadolibre.challenge.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Dimensiona el pool de Hikari del perfil perf según los núcleos disponibles.
+ *
+ * Usa la regla de HikariCP (núcleos * 2 + 1 disco) como pool fijo, salvo que perf.datasource.pool-size
+ * indique un tamaño explícito. Se aplica después del binding de spring.datasource.hikari y antes de que
+ * el pool abra la primera conexión.
+ */
+@Configuration
+@Profile("perf")
+public class PerfDataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PerfDataSourceConfig.class);
+
+    @Bean
+    static BeanPostProcessor hikariPoolSizer(@Value("${perf.datasource.pool-size:0}") int poolSize) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2 + 1;
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                    log.info("Hikari pool sized to {} connections", size);
+                }
+                return bean;
+            }
+        };
+    }
+}
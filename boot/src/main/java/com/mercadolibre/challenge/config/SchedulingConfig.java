@@ -0,0 +1,12 @@
+package com.mercadolibre.challenge.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas @Scheduled de la capa de aplicación (rebuild del grafo de recomendaciones)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
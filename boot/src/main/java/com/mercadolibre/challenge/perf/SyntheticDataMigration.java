@@ -0,0 +1,347 @@
+package com.mercadolibre.challenge.perf;
+
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generador de datos sintéticos del perfil perf (reemplaza a db/seed como versión 1.1).
+ *
+ * Genera categorías, vendedores e items con sus atributos, imágenes, envío, garantía y medios de pago
+ * directamente en la base con INSERT ... SELECT sobre SYSTEM_RANGE, por tramos de perf.seed.chunk-size
+ * items que se confirman por separado. Los valores salen de funciones deterministas del número de fila,
+ * así dos bases generadas con los mismos tamaños son iguales: precios log-uniformes, ventas y vendedores
+ * con cola larga, y un 7% de items pausados o cerrados. Los triggers de seller_stats y del diccionario de
+ * atributos corren sobre cada fila como en producción.
+ *
+ * Como toda migración corre una sola vez por base: para regenerar con otros tamaños hay que borrar el
+ * directorio perf.data-dir.
+ */
+@Component
+@Profile("perf")
+public class SyntheticDataMigration implements JavaMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataMigration.class);
+
+    private static final long ITEM_ID_OFFSET = 1_000_000_000L;
+    private static final long CATEGORY_ID_OFFSET = 100_000L;
+    // cada campo mezcla el número de fila con su propio multiplicador: MOD(X * k, PRIME) se comporta como un
+    // valor pseudoaleatorio independiente por campo, sin correlaciones entre campos que usen MOD(X, n)
+    private static final long PRIME = 1_000_003L;
+    private static final long CATEGORY_SALT = 15_485_863L;
+    private static final long BRAND_SALT = 32_452_843L;
+    private static final long MODEL_SALT = 49_979_687L;
+    private static final long COLOR_SALT = 67_867_967L;
+    private static final long FREE_SHIPPING_SALT = 86_028_121L;
+    private static final long WARRANTY_SALT = 104_395_301L;
+    private static final int MODELS_PER_BRAND = 50;
+
+    // dos marcas por producto, en el orden de PRODUCTS
+    private static final List<String> BRANDS = List.of(
+            "Samsung", "Motorola", "Lenovo", "HP", "Sony", "JBL", "LG", "Philips", "Nike", "Adidas",
+            "Levi's", "Wrangler", "Puma", "Topper", "Fila", "Montagne", "Stanley", "Lumilagro", "Oster", "Atma",
+            "Whirlpool", "Gafa", "Drean", "Electrolux", "Makita", "Black+Decker", "Logitech", "Redragon", "HyperX",
+            "Genius", "Noblex", "Philco", "Canon", "Nikon", "Garmin", "Casio", "Apple", "Xiaomi", "Dell", "Asus");
+    private static final List<String> PRODUCTS = List.of(
+            "Celular", "Notebook", "Auriculares", "Smart TV", "Zapatillas", "Jean", "Remera", "Campera",
+            "Termo", "Licuadora", "Heladera", "Lavarropas", "Taladro", "Mouse", "Teclado", "Parlante",
+            "Cámara", "Reloj", "Tablet", "Monitor");
+    private static final List<String> COLORS = List.of(
+            "Negro", "Blanco", "Gris", "Azul", "Rojo", "Verde", "Amarillo", "Rosa", "Violeta", "Naranja",
+            "Plateado", "Dorado");
+    private static final List<String> MATERIALS = List.of(
+            "Plástico", "Aluminio", "Acero inoxidable", "Vidrio", "Algodón", "Cuero", "Madera", "Silicona");
+    private static final List<String> SIZES = List.of("XS", "S", "M", "L", "XL", "XXL");
+    private static final List<String> ORIGINS = List.of("Argentina", "Brasil", "China", "Estados Unidos", "México");
+
+    private static final List<String> ATTRIBUTE_IDS = List.of(
+            "BRAND", "MODEL", "COLOR", "STORAGE", "RAM", "MATERIAL", "SIZE", "WEIGHT", "WARRANTY_MONTHS", "ORIGIN");
+    private static final List<String> ATTRIBUTE_NAMES = List.of(
+            "Marca", "Modelo", "Color", "Almacenamiento", "Memoria RAM", "Material", "Talle", "Peso",
+            "Meses de garantía", "Origen");
+
+    private final int categories;
+    private final int sellers;
+    private final int items;
+    private final int attributesPerItem;
+    private final int chunkSize;
+
+    public SyntheticDataMigration(@Value("${perf.seed.categories:1000}") int categories,
+                                  @Value("${perf.seed.sellers:100000}") int sellers,
+                                  @Value("${perf.seed.items:1000000}") int items,
+                                  @Value("${perf.seed.attributes-per-item:10}") int attributesPerItem,
+                                  @Value("${perf.seed.chunk-size:50000}") int chunkSize) {
+        this.categories = Math.max(categories, 1);
+        this.sellers = Math.max(sellers, 1);
+        this.items = Math.max(items, 0);
+        this.attributesPerItem = Math.min(Math.max(attributesPerItem, 0), ATTRIBUTE_IDS.size());
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("1.1");
+    }
+
+    @Override
+    public String getDescription() {
+        return "synthetic data";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    /**
+     * Cada tramo se confirma por separado para no acumular millones de filas en una sola transacción
+     */
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        long start = System.currentTimeMillis();
+        log.info("Generating synthetic data: {} categories, {} sellers, {} items, {} attributes per item",
+                categories, sellers, items, attributesPerItem);
+
+        insertRange(connection, categoriesSql(), 1, categories);
+        for (long from = 1; from <= sellers; from += chunkSize) {
+            insertRange(connection, sellersSql(), from, Math.min(from + chunkSize - 1, sellers));
+        }
+        for (long from = 1; from <= items; from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, items);
+            insertRange(connection, itemsSql(), from, to);
+            if (attributesPerItem > 0) {
+                insertRange(connection, attributesSql(), from, to);
+            }
+            insertRange(connection, picturesSql(), from, to);
+            insertRange(connection, shippingMethodsSql(), from, to);
+            insertRange(connection, warrantySql(), from, to);
+            insertRange(connection, paymentMethodsSql(), from, to);
+            log.info("Generated {} of {} items ({} s)", to, items, (System.currentTimeMillis() - start) / 1000);
+        }
+
+        // estadísticas de selectividad para que el optimizador de H2 elija índices con los volúmenes reales
+        execute(connection, "ANALYZE");
+        log.info("Synthetic data generated in {} s", (System.currentTimeMillis() - start) / 1000);
+    }
+
+    private void insertRange(Connection connection, String sql, long from, long to) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, from);
+            statement.setLong(2, to);
+            statement.executeUpdate();
+        }
+        commit(connection);
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+        commit(connection);
+    }
+
+    private void commit(Connection connection) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            connection.commit();
+        }
+    }
+
+    private String categoriesSql() {
+        return """
+                INSERT INTO categories (id, name, path_from_root)
+                SELECT 'MLA' || (%1$d + X), %2$s || ' ' || X, 'Sintéticos > ' || %2$s || ' ' || X
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(CATEGORY_ID_OFFSET, product("X"));
+    }
+
+    private String sellersSql() {
+        return """
+                INSERT INTO sellers (id, nickname, permalink, registration_date, country_id, reputation_level,
+                    power_seller_status, transactions_completed, transactions_canceled, rating_positive,
+                    rating_negative, rating_neutral)
+                SELECT X, 'SELLER_' || X, 'https://perfil.mercadolibre.com.ar/SELLER_' || X,
+                    DATEADD(DAY, -%1$s, TIMESTAMP '2025-01-01 00:00:00'), 'AR',
+                    %2$s,
+                    CASE WHEN %3$s = 0 THEN 'platinum' WHEN %3$s < 3 THEN 'gold' WHEN %3$s < 5 THEN 'silver' END,
+                    100000 / (1 + %4$s), 2000 / (1 + %4$s),
+                    0.85 + 0.15 * %5$s, 0.01, 0.01
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(bucket("X", 7919, 3650),
+                pick(List.of("5_green", "5_green", "4_light_green", "4_light_green", "3_yellow", "2_orange", "1_red"),
+                        "X", 104729),
+                bucket("X", 1299709, 10), bucket("X", 2750159, 2000), fraction("X", 4256233));
+    }
+
+    private String itemsSql() {
+        return """
+                INSERT INTO items (id, title, price_amount, price_currency, price_decimals, condition_type,
+                    available_quantity, sold_quantity, permalink, status, category_id, seller_id, description,
+                    listing_type, buying_mode, free_shipping, local_pick_up, created_date, updated_date)
+                SELECT 'MLA' || (%1$d + X),
+                    %2$s || ' ' || %3$s || ' ' || %4$s || ' ' || %5$s,
+                    CAST(FLOOR(POWER(10, 4 + 4 * %6$s)) AS BIGINT), 'ARS', 2,
+                    CASE WHEN %7$s = 0 THEN 'used' ELSE 'new' END,
+                    %8$s,
+                    5000 / (1 + %9$s),
+                    'https://articulo.mercadolibre.com.ar/MLA-' || (%1$d + X),
+                    CASE WHEN %10$s < 5 THEN 'paused' WHEN %10$s < 7 THEN 'closed' ELSE 'active' END,
+                    'MLA' || (%11$d + %12$s),
+                    1 + CAST(FLOOR(%13$d * POWER(%14$s, 2)) AS BIGINT),
+                    'Producto sintético ' || X,
+                    CASE WHEN %15$s = 0 THEN 'gold_pro' ELSE 'gold_special' END, 'buy_it_now',
+                    %16$s, %17$s = 0,
+                    DATEADD(MINUTE, -%18$s, TIMESTAMP '2025-01-01 00:00:00'),
+                    DATEADD(MINUTE, -%18$s, TIMESTAMP '2025-01-01 00:00:00')
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(ITEM_ID_OFFSET,
+                product(categoryIndex("X")), brand("X"), model("X"), pick(COLORS, "X", COLOR_SALT),
+                fraction("X", 7919), bucket("X", 104729, 5), bucket("X", 1299709, 200), bucket("X", 2750159, 1000),
+                bucket("X", 4256233, 100), CATEGORY_ID_OFFSET, categoryIndex("X"),
+                sellers, fraction("X", 2654435761L),
+                bucket("X", 5800079, 3), freeShipping("X"), bucket("X", 7368787, 7), bucket("X", 9576890, 525600));
+    }
+
+    private String attributesSql() {
+        return """
+                INSERT INTO item_attributes (item_id, attribute_id, attribute_name, attribute_value, attribute_unit,
+                    value_type)
+                SELECT 'MLA' || (%d + i.X), %s, %s,
+                    CASE a.X
+                        WHEN 1 THEN %s
+                        WHEN 2 THEN %s || ' ' || %s
+                        WHEN 3 THEN %s
+                        WHEN 4 THEN CAST(CAST(32 * POWER(2, %s) AS INT) AS VARCHAR)
+                        WHEN 5 THEN CAST(CAST(POWER(2, 1 + %s) AS INT) AS VARCHAR)
+                        WHEN 6 THEN %s
+                        WHEN 7 THEN %s
+                        WHEN 8 THEN CAST(100 + %s AS VARCHAR)
+                        WHEN 9 THEN %s
+                        ELSE %s
+                    END,
+                    CASE a.X WHEN 4 THEN 'GB' WHEN 5 THEN 'GB' WHEN 8 THEN 'g' WHEN 9 THEN 'meses' END,
+                    CASE WHEN a.X IN (4, 5, 8, 9) THEN 'number' ELSE 'string' END
+                FROM SYSTEM_RANGE(?, ?) i CROSS JOIN SYSTEM_RANGE(1, %d) a
+                """.formatted(ITEM_ID_OFFSET, arrayElement(ATTRIBUTE_IDS, "a.X"), arrayElement(ATTRIBUTE_NAMES, "a.X"),
+                brand("i.X"), brand("i.X"), model("i.X"), pick(COLORS, "i.X", COLOR_SALT),
+                bucket("i.X", 12764787, 6), bucket("i.X", 15485867, 5),
+                pick(MATERIALS, "i.X", 17461733), pick(SIZES, "i.X", 19448197), bucket("i.X", 22801763, 4900),
+                warrantyMonths("i.X"), pick(ORIGINS, "i.X", 24036583), attributesPerItem);
+    }
+
+    private String picturesSql() {
+        return """
+                INSERT INTO item_pictures (item_id, picture_id, url, secure_url, picture_order)
+                SELECT 'MLA' || (%1$d + i.X), 'P' || i.X || '_' || p.X,
+                    'https://http2.mlstatic.com/D_NQ_NP_' || i.X || '_' || p.X || '-O.jpg',
+                    'https://http2.mlstatic.com/D_NQ_NP_' || i.X || '_' || p.X || '-O.jpg',
+                    p.X
+                FROM SYSTEM_RANGE(?, ?) i CROSS JOIN SYSTEM_RANGE(1, 2) p
+                """.formatted(ITEM_ID_OFFSET);
+    }
+
+    private String shippingMethodsSql() {
+        return """
+                INSERT INTO shipping_methods (item_id, method_id, name, type, cost, currency, free_shipping,
+                    estimated_min_days, estimated_max_days, local_pick_up)
+                SELECT 'MLA' || (%1$d + X), 1,
+                    CASE WHEN %2$s THEN 'Envío gratis' ELSE 'Envío a domicilio' END, 'standard',
+                    CASE WHEN %2$s THEN 0 ELSE 150000 END, 'ARS', %2$s,
+                    1 + %3$s, 4 + %3$s, FALSE
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(ITEM_ID_OFFSET, freeShipping("X"), bucket("X", 27644437, 3));
+    }
+
+    private String warrantySql() {
+        return """
+                INSERT INTO item_warranty (item_id, warranty_type, warranty_time, warranty_description)
+                SELECT 'MLA' || (%d + X), 'Garantía del vendedor', %s || ' meses', 'Garantía sintética'
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(ITEM_ID_OFFSET, warrantyMonths("X"));
+    }
+
+    private String paymentMethodsSql() {
+        return """
+                INSERT INTO payment_methods (item_id, installments_quantity, installments_rate, installment_amount,
+                    accepts_credit_card, accepts_debit_card, accepts_mercadopago)
+                SELECT 'MLA' || (%d + X), 12, 0, 0, TRUE, TRUE, TRUE
+                FROM SYSTEM_RANGE(?, ?)
+                """.formatted(ITEM_ID_OFFSET);
+    }
+
+    private String categoryIndex(String row) {
+        return "(1 + " + bucket(row, CATEGORY_SALT, categories) + ")";
+    }
+
+    /**
+     * Tipo de producto de una categoría (el mismo para todos sus items)
+     */
+    private static String product(String categoryIndex) {
+        return arrayElement(PRODUCTS, "1 + MOD(" + categoryIndex + ", " + PRODUCTS.size() + ")");
+    }
+
+    /**
+     * Una de las dos marcas del producto de la categoría del item
+     */
+    private String brand(String row) {
+        return arrayElement(BRANDS, "1 + 2 * MOD(" + categoryIndex(row) + ", " + PRODUCTS.size() + ") + "
+                + bucket(row, BRAND_SALT, 2));
+    }
+
+    private static String model(String row) {
+        return "(" + bucket(row, MODEL_SALT, MODELS_PER_BRAND) + " + 1)";
+    }
+
+    private static String freeShipping(String row) {
+        return "(" + bucket(row, FREE_SHIPPING_SALT, 3) + " <> 2)";
+    }
+
+    private static String warrantyMonths(String row) {
+        return pick(List.of("3", "6", "12", "24"), row, WARRANTY_SALT);
+    }
+
+    /**
+     * Entero pseudoaleatorio en [0, size) derivado del número de fila
+     */
+    private static String bucket(String row, long salt, int size) {
+        return "MOD(MOD(" + row + " * " + salt + ", " + PRIME + "), " + size + ")";
+    }
+
+    /**
+     * Fracción pseudoaleatoria en [0, 1) derivada del número de fila
+     */
+    private static String fraction(String row, long salt) {
+        return "(MOD(" + row + " * " + salt + ", " + PRIME + ") / " + PRIME + ".0)";
+    }
+
+    private static String pick(List<String> values, String row, long salt) {
+        return arrayElement(values, "1 + " + bucket(row, salt, values.size()));
+    }
+
+    /**
+     * values[index] (base 1) como literal de arreglo SQL
+     */
+    private static String arrayElement(List<String> values, String index) {
+        String array = values.stream()
+                .map(value -> "'" + value.replace("'", "''") + "'")
+                .collect(Collectors.joining(", ", "ARRAY[", "]"));
+        return array + "[" + index + "]";
+    }
+}
@@ -0,0 +1,6 @@
+-- Mantenimiento de seller_stats y seller_category_stats para H2.
+-- El trigger es la clase indicada en CALL (h2-driven): renombrarla o moverla de paquete rompe esta migración.
+-- Corre antes de los datos (1.1) para que la carga inicial ya pase por él.
+CREATE TRIGGER IF NOT EXISTS trg_items_seller_stats
+    AFTER INSERT, UPDATE, DELETE ON items
+    FOR EACH ROW CALL 'com.mercadolibre.challenge.infrastructure.h2.seller.trigger.SellerStatsTrigger';
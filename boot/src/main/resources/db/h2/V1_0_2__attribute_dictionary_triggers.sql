@@ -0,0 +1,14 @@
+-- Mantenimiento de category_attribute_values para H2: altas y bajas de atributos y cambios de estado,
+-- categoría o borrado del item. Los tres triggers llaman a la misma clase de h2-driven, que distingue
+-- la tabla y el momento; renombrarla o moverla de paquete rompe esta migración.
+CREATE TRIGGER IF NOT EXISTS trg_item_attributes_attribute_dictionary
+    AFTER INSERT, UPDATE, DELETE ON item_attributes
+    FOR EACH ROW CALL 'com.mercadolibre.challenge.infrastructure.h2.item_detail.trigger.AttributeValueDictionaryTrigger';
+
+CREATE TRIGGER IF NOT EXISTS trg_items_attribute_dictionary
+    AFTER UPDATE ON items
+    FOR EACH ROW CALL 'com.mercadolibre.challenge.infrastructure.h2.item_detail.trigger.AttributeValueDictionaryTrigger';
+
+CREATE TRIGGER IF NOT EXISTS trg_items_attribute_dictionary_delete
+    BEFORE DELETE ON items
+    FOR EACH ROW CALL 'com.mercadolibre.challenge.infrastructure.h2.item_detail.trigger.AttributeValueDictionaryTrigger';
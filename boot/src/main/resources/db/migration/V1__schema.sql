@@ -1,6 +1,13 @@
 -- =============================================================================
 -- MERCADOLIBRE ITEM DETAIL API - DATABASE SCHEMA
 -- =============================================================================
+-- Migración base de Flyway. Ya aplicada en bases existentes: no editar; los cambios de esquema van en
+-- una nueva migración V<n>__descripcion.sql en este mismo directorio.
+--
+-- Este directorio es SQL portable. Los triggers que mantienen tablas agregadas se implementan como clases
+-- Java de h2-driven (CREATE TRIGGER ... CALL '<clase>'), así que solo existen en H2 y dependen del nombre
+-- completo de la clase: viven en db/h2, que se aplica entre este esquema y los datos (versiones 1.0.x).
+-- Un perfil sobre otro motor reemplaza classpath:db/h2 por su propia ubicación con el mantenimiento en SQL.
 
 -- Tabla de Categorías
 CREATE TABLE IF NOT EXISTS categories (
@@ -25,6 +32,17 @@ CREATE TABLE IF NOT EXISTS sellers (
     rating_positive DECIMAL(5,4) DEFAULT 0,
     rating_negative DECIMAL(5,4) DEFAULT 0,
     rating_neutral DECIMAL(5,4) DEFAULT 0,
+    -- Score compuesto del ranking de vendedores: reputación 35%, power seller 20%,
+    -- calificación positiva 30% y volumen de transacciones (log10, satura en 100.000) 15%
+    ranking_score DOUBLE PRECISION GENERATED ALWAYS AS (
+        0.35 * CASE reputation_level
+                   WHEN '5_green' THEN 1.0 WHEN '4_light_green' THEN 0.8 WHEN '3_yellow' THEN 0.6
+                   WHEN '2_orange' THEN 0.4 WHEN '1_red' THEN 0.2 ELSE 0 END
+      + 0.20 * CASE power_seller_status
+                   WHEN 'platinum' THEN 1.0 WHEN 'gold' THEN 0.7 WHEN 'silver' THEN 0.4 ELSE 0 END
+      + 0.30 * COALESCE(rating_positive, 0)
+      + 0.15 * LEAST(LOG10(1 + COALESCE(transactions_completed, 0)) / 5, 1)
+    ),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
     );
@@ -125,12 +143,72 @@ CREATE TABLE IF NOT EXISTS payment_methods (
     );
 
 -- Índices para optimizar consultas
-CREATE INDEX IF NOT EXISTS idx_items_category ON items(category_id);
-CREATE INDEX IF NOT EXISTS idx_items_seller ON items(seller_id);
-CREATE INDEX IF NOT EXISTS idx_items_status ON items(status);
+CREATE INDEX IF NOT EXISTS idx_sellers_ranking ON sellers(ranking_score DESC, id);
+-- Índices compuestos de items según la forma de las consultas: igualdad en status (y categoría o vendedor)
+-- seguida de la clave de orden, para que el ORDER BY ... LIMIT lea el índice en orden. QueryPlanTest
+-- (boot) corre EXPLAIN sobre cada consulta de JpaItemRepository y falla si alguna recorre la tabla entera.
+-- más vendidos y orden por relevancia
+CREATE INDEX IF NOT EXISTS idx_items_status_sold ON items(status, sold_quantity DESC, created_date DESC, id DESC);
+-- orden por precio y rangos de precio
+CREATE INDEX IF NOT EXISTS idx_items_status_price ON items(status, price_amount, id);
+-- orden por más nuevos
+CREATE INDEX IF NOT EXISTS idx_items_status_created ON items(status, created_date DESC, id DESC);
+-- tendencias por categoría, similares y búsqueda dentro de una categoría
+CREATE INDEX IF NOT EXISTS idx_items_category_status_sold ON items(category_id, status, sold_quantity DESC, created_date DESC);
+-- items de un vendedor (perfil, últimas publicaciones)
+CREATE INDEX IF NOT EXISTS idx_items_seller_status_created ON items(seller_id, status, created_date DESC);
 CREATE INDEX IF NOT EXISTS idx_item_attributes_item_id ON item_attributes(item_id);
-CREATE INDEX IF NOT EXISTS idx_item_pictures_item_id ON item_pictures(item_id);
-CREATE INDEX IF NOT EXISTS idx_shipping_methods_item_id ON shipping_methods(item_id);
+-- Filtros por atributo en la búsqueda: (atributo, valor) -> item_ids sin leer la tabla
+CREATE INDEX IF NOT EXISTS idx_item_attributes_attribute_value ON item_attributes(attribute_id, attribute_value, item_id);
+-- imagen principal: MIN(picture_order) por item sin leer la tabla
+CREATE INDEX IF NOT EXISTS idx_item_pictures_item_order ON item_pictures(item_id, picture_order);
+CREATE INDEX IF NOT EXISTS idx_shipping_methods_item_free ON shipping_methods(item_id, free_shipping);
+
+-- Log append-only de vistas y compras; alimenta el grafo de co-ocurrencias de recomendaciones
+CREATE TABLE IF NOT EXISTS item_events (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id VARCHAR(50) NOT NULL,
+    session_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS item_view_counts (
+    item_id VARCHAR(50) PRIMARY KEY,
+    view_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Métricas agregadas por vendedor, mantenidas por trg_items_seller_stats de db/h2 (importes en centavos)
+CREATE TABLE IF NOT EXISTS seller_stats (
+    seller_id BIGINT PRIMARY KEY,
+    active_items INT NOT NULL DEFAULT 0,
+    price_sum BIGINT NOT NULL DEFAULT 0,
+    min_price BIGINT,
+    max_price BIGINT,
+    gmv BIGINT NOT NULL DEFAULT 0,
+    top_category_id VARCHAR(50),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (seller_id) REFERENCES sellers(id)
+);
+
+-- Histograma de items activos por vendedor y categoría
+CREATE TABLE IF NOT EXISTS seller_category_stats (
+    seller_id BIGINT NOT NULL,
+    category_id VARCHAR(50) NOT NULL,
+    active_items INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (seller_id, category_id)
+);
+
+-- Diccionario de valores de atributo por categoría (solo items activos), ordenado por la clave primaria
+-- y mantenido por los triggers trg_*_attribute_dictionary de db/h2
+CREATE TABLE IF NOT EXISTS category_attribute_values (
+    attribute_id VARCHAR(100) NOT NULL,
+    category_id VARCHAR(50) NOT NULL,
+    attribute_value VARCHAR(500) NOT NULL,
+    active_items INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (attribute_id, category_id, attribute_value)
+);
 
 -- =============================================================================
 -- TABLA DE PERSONAS (PERSON DOMAIN)
@@ -0,0 +1,3 @@
+-- El rebuild del grafo de co-ocurrencias arranca desde el primer evento de la ventana de retención
+-- en lugar de releer item_events desde el id 0
+CREATE INDEX IF NOT EXISTS idx_item_events_occurred_at ON item_events(occurred_at, id);
@@ -0,0 +1,3 @@
+-- El top-K de más vistos se carga al arrancar con los primeros contadores en este orden,
+-- sin leer toda la tabla
+CREATE INDEX IF NOT EXISTS idx_item_view_counts_views ON item_view_counts(view_count DESC, item_id);
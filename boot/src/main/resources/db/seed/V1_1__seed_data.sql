@@ -1,6 +1,8 @@
 -- =============================================================================
 -- MERCADOLIBRE ITEM DETAIL API - SAMPLE DATA
 -- =============================================================================
+-- Datos de ejemplo, separados de db/migration para que una base real pueda excluir db/seed de
+-- spring.flyway.locations. Corre justo después del esquema base (V1).
 
 -- Insertar Categorías
 INSERT INTO categories (id, name, path_from_root) VALUES
@@ -188,6 +190,40 @@ INSERT INTO payment_methods (item_id, installments_quantity, installments_rate,
                                                                                                                                                                       ('MLA901234567', 12, 30.0, 9750.00, true, false, true),
                                                                                                                                                                       ('MLA012345678', 18, 20.0, 12333.28, true, true, true);
 
+-- Insertar Eventos de Items (sesiones de ejemplo para recomendaciones)
+INSERT INTO item_events (item_id, session_id, event_type, occurred_at) VALUES
+-- Compras: celular + auriculares, notebook + auriculares
+('MLA123456789', 'S-1001', 'PURCHASE', '2024-03-01 10:00:00'),
+('MLA456789012', 'S-1001', 'PURCHASE', '2024-03-01 10:05:00'),
+('MLA234567890', 'S-1002', 'PURCHASE', '2024-03-02 11:00:00'),
+('MLA456789012', 'S-1002', 'PURCHASE', '2024-03-02 11:02:00'),
+('MLA345678901', 'S-1003', 'PURCHASE', '2024-03-03 09:30:00'),
+('MLA456789012', 'S-1003', 'PURCHASE', '2024-03-03 09:31:00'),
+('MLA123456789', 'S-1004', 'PURCHASE', '2024-03-04 15:00:00'),
+('MLA345678901', 'S-1004', 'PURCHASE', '2024-03-04 15:10:00'),
+-- Vistas: comparación de celulares y de grandes electrodomésticos
+('MLA123456789', 'S-2001', 'VIEW', '2024-03-05 18:00:00'),
+('MLA234567890', 'S-2001', 'VIEW', '2024-03-05 18:02:00'),
+('MLA345678901', 'S-2001', 'VIEW', '2024-03-05 18:05:00'),
+('MLA123456789', 'S-2002', 'VIEW', '2024-03-06 20:00:00'),
+('MLA234567890', 'S-2002', 'VIEW', '2024-03-06 20:01:00'),
+('MLA567890123', 'S-2003', 'VIEW', '2024-03-07 12:00:00'),
+('MLA012345678', 'S-2003', 'VIEW', '2024-03-07 12:03:00'),
+('MLA678901234', 'S-2003', 'VIEW', '2024-03-07 12:06:00');
+
+-- Insertar Contadores de Vistas (acumulados del detalle de cada item)
+INSERT INTO item_view_counts (item_id, view_count, updated_at) VALUES
+('MLA123456789', 15420, '2024-03-07 23:59:00'),
+('MLA234567890', 9870, '2024-03-07 23:59:00'),
+('MLA345678901', 7650, '2024-03-07 23:59:00'),
+('MLA567890123', 6120, '2024-03-07 23:59:00'),
+('MLA456789012', 5340, '2024-03-07 23:59:00'),
+('MLA789012345', 4210, '2024-03-07 23:59:00'),
+('MLA012345678', 3980, '2024-03-07 23:59:00'),
+('MLA678901234', 2750, '2024-03-07 23:59:00'),
+('MLA890123456', 1830, '2024-03-07 23:59:00'),
+('MLA901234567', 960, '2024-03-07 23:59:00');
+
 -- =============================================================================
 -- DATOS DE PRUEBA PARA PERSONAS (PERSON DOMAIN)
 -- =============================================================================
@@ -0,0 +1,168 @@
+package com.mercadolibre.challenge.schema;
+
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination.KeysetCursor;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Corre cada consulta de JpaItemRepository contra el esquema real (migraciones Flyway), captura el SQL que genera Hibernate
+ * y le pide a H2 el plan con EXPLAIN. Falla si algún plan recorre una tabla completa (tableScan).
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.mercadolibre.challenge.schema.QueryPlanTest$RecordingStatementInspector")
+@DisplayName("Query plans of JpaItemRepository")
+class QueryPlanTest {
+
+    private static final List<String> ITEM_IDS = List.of("MLA123456789", "MLA234567890");
+
+    @Autowired
+    private JpaItemRepository jpaItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Should detect a table scan when no index applies")
+    void explain_ShouldReportTableScans() {
+        assertThat(plan("SELECT * FROM items WHERE title = ?")).contains("tableScan");
+    }
+
+    @Test
+    @DisplayName("Should use an index in every fixed repository query")
+    void repositoryQueries_ShouldNotScanTables() {
+        jpaItemRepository.findById(ITEM_IDS.get(0));
+        jpaItemRepository.findByIdWithDetails(ITEM_IDS.get(0));
+        jpaItemRepository.findAllByIdWithDetails(ITEM_IDS);
+        jpaItemRepository.findSummaryRowsByIds(ITEM_IDS);
+        jpaItemRepository.findBestSellerSummaries(PageRequest.of(0, 10));
+        jpaItemRepository.findTrendingSummariesByCategory("MLA1055", PageRequest.of(0, 10));
+        jpaItemRepository.findSimilarItemSummaries(ITEM_IDS.get(0), PageRequest.of(0, 10));
+        jpaItemRepository.findDistinctAttributeValues("BRAND", "MLA1055");
+        jpaItemRepository.findDistinctAttributeValues("BRAND", null);
+        jpaItemRepository.findAttributesByItemIds(ITEM_IDS);
+        jpaItemRepository.findPicturesByItemIds(ITEM_IDS);
+        jpaItemRepository.findShippingMethodsByItemIds(ITEM_IDS);
+        jpaItemRepository.findThumbnailsByItemIds(ITEM_IDS);
+        jpaItemRepository.findIndexRowsAfter("", PageRequest.of(0, 100));
+        jpaItemRepository.findAttributeValuesByItemIds(ITEM_IDS);
+        jpaItemRepository.findItemIdsWithFreeShippingMethod(ITEM_IDS);
+
+        assertNoTableScans();
+    }
+
+    @Test
+    @DisplayName("Should use an index in every shape of the dynamic search query")
+    void searchQueries_ShouldNotScanTables() {
+        for (SearchCriteria criteria : searchShapes()) {
+            jpaItemRepository.searchSummaryPage(criteria);
+            jpaItemRepository.searchPageWithTotal(criteria);
+            jpaItemRepository.countMatches(criteria);
+        }
+
+        assertNoTableScans();
+    }
+
+    private List<SearchCriteria> searchShapes() {
+        List<SearchCriteria> shapes = new ArrayList<>();
+        for (String sortBy : List.of("relevance", "price", "sold_quantity", "created_date")) {
+            shapes.add(criteria(sortBy));
+        }
+
+        SearchCriteria text = criteria("relevance");
+        text.setQuery("iphone");
+        shapes.add(text);
+
+        SearchCriteria category = criteria("relevance");
+        category.setCategoryId("MLA1055");
+        category.setCondition("new");
+        shapes.add(category);
+
+        SearchCriteria priceRange = criteria("price");
+        priceRange.setMinPrice(new BigDecimal("1000"));
+        priceRange.setMaxPrice(new BigDecimal("500000"));
+        priceRange.setFreeShipping(true);
+        shapes.add(priceRange);
+
+        SearchCriteria seller = criteria("created_date");
+        seller.setSellerId(12345L);
+        seller.setSellerReputation("5_green");
+        shapes.add(seller);
+
+        SearchCriteria attributes = criteria("relevance");
+        attributes.setAttributes(Map.of("BRAND", List.of("apple", "samsung")));
+        shapes.add(attributes);
+
+        SearchCriteria cursor = criteria("price");
+        cursor.setSortDirection("asc");
+        cursor.setCursor(KeysetCursor.after("price", ItemSummary.from(ITEM_IDS.get(0), "iPhone",
+                Price.of(1_000_00L, "ARS", 2), "new", null, false, 12345L, null, null, null, 10,
+                "MLA1055", LocalDateTime.of(2024, 1, 1, 0, 0)), ITEM_IDS.size()).encode());
+        shapes.add(cursor);
+
+        SearchCriteria newest = criteria("created_date");
+        newest.setCursor(KeysetCursor.after("created_date", ItemSummary.from(ITEM_IDS.get(0), "iPhone",
+                Price.of(1_000_00L, "ARS", 2), "new", null, false, 12345L, null, null, null, 10,
+                "MLA1055", LocalDateTime.of(2024, 1, 1, 0, 0)), ITEM_IDS.size()).encode());
+        shapes.add(newest);
+
+        return shapes;
+    }
+
+    private SearchCriteria criteria(String sortBy) {
+        return new SearchCriteria(null, null, null, null, null, null, null, sortBy, "desc", 10, 0);
+    }
+
+    private void assertNoTableScans() {
+        List<String> statements = List.copyOf(RecordingStatementInspector.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+
+        List<String> scans = statements.stream()
+                .filter(sql -> sql.trim().toLowerCase().startsWith("select"))
+                .map(this::plan)
+                .filter(plan -> plan.contains("tableScan"))
+                .toList();
+        assertThat(scans).as("planes con tableScan").isEmpty();
+    }
+
+    private String plan(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    /**
+     * Registra el SQL de cada sentencia que prepara Hibernate sin modificarlo
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
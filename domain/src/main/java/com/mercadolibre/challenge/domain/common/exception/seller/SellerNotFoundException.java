@@ -0,0 +1,11 @@
+package com.mercadolibre.challenge.domain.common.exception.seller;
+
+import com.mercadolibre.challenge.domain.common.exception.payment_period.BaseNotFoundException;
+
+public class SellerNotFoundException extends BaseNotFoundException {
+
+    public SellerNotFoundException(Long sellerId) {
+        super("Seller not found with ID: " + sellerId);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.mercadolibre.challenge.domain.item_detail;
+
+import com.mercadolibre.challenge.domain.common.exception.ValidateArgument;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Vista de lectura liviana de un item para los listados (búsqueda, más vendidos, tendencias,
+ * items de un vendedor, recomendaciones). Lleva solo lo que muestra una tarjeta de listado,
+ * sin atributos, imágenes ni métodos de envío completos.
+ */
+public class ItemSummary {
+
+    private final String id;
+    private final String title;
+    private final Price price;
+    private final String conditionType;
+    private final String thumbnailUrl;
+    private final boolean freeShipping;
+    private final Long sellerId;
+    private final String sellerNickname;
+    private final String sellerReputationLevel;
+    private final String sellerPowerStatus;
+    private final Integer soldQuantity;
+    private final String categoryId;
+    private final LocalDateTime createdDate;
+
+    private ItemSummary(String id, String title, Price price, String conditionType, String thumbnailUrl,
+                        boolean freeShipping, Long sellerId, String sellerNickname,
+                        String sellerReputationLevel, String sellerPowerStatus, Integer soldQuantity,
+                        String categoryId, LocalDateTime createdDate) {
+        this.id = id;
+        this.title = title;
+        this.price = price;
+        this.conditionType = conditionType;
+        this.thumbnailUrl = thumbnailUrl;
+        this.freeShipping = freeShipping;
+        this.sellerId = sellerId;
+        this.sellerNickname = sellerNickname;
+        this.sellerReputationLevel = sellerReputationLevel;
+        this.sellerPowerStatus = sellerPowerStatus;
+        this.soldQuantity = soldQuantity;
+        this.categoryId = categoryId;
+        this.createdDate = createdDate;
+    }
+
+    public static ItemSummary from(String id, String title, Price price, String conditionType, String thumbnailUrl,
+                                   boolean freeShipping, Long sellerId, String sellerNickname,
+                                   String sellerReputationLevel, String sellerPowerStatus, Integer soldQuantity,
+                                   String categoryId, LocalDateTime createdDate) {
+        ValidateArgument.validateStringNotNullAndNotEmpty(id, "id");
+        ValidateArgument.validateStringNotNullAndNotEmpty(title, "title");
+        ValidateArgument.validateNotNull(price, "price");
+
+        return new ItemSummary(id, title, price, conditionType, thumbnailUrl, freeShipping, sellerId,
+                sellerNickname, sellerReputationLevel, sellerPowerStatus,
+                soldQuantity != null ? soldQuantity : 0, categoryId, createdDate);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Price getPrice() {
+        return price;
+    }
+
+    public String getConditionType() {
+        return conditionType;
+    }
+
+    public Optional<String> getThumbnailUrl() {
+        return Optional.ofNullable(thumbnailUrl);
+    }
+
+    public boolean hasFreeShipping() {
+        return freeShipping;
+    }
+
+    public Long getSellerId() {
+        return sellerId;
+    }
+
+    public String getSellerNickname() {
+        return sellerNickname;
+    }
+
+    public String getSellerReputationLevel() {
+        return sellerReputationLevel;
+    }
+
+    public String getSellerPowerStatus() {
+        return sellerPowerStatus;
+    }
+
+    public Integer getSoldQuantity() {
+        return soldQuantity;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ItemSummary that = (ItemSummary) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ItemSummary{id='%s', title='%s', price=%s}", id, title, price);
+    }
+}
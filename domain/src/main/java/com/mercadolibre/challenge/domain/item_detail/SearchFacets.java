@@ -0,0 +1,94 @@
+package com.mercadolibre.challenge.domain.item_detail;
+
+import java.util.List;
+
+/**
+ * Conteos por valor de los filtros de búsqueda sobre el conjunto completo de resultados
+ * (no solo la página). Solo incluye valores con al menos una coincidencia; cada lista viene
+ * ordenada por conteo descendente, salvo los rangos de precio que van de menor a mayor.
+ */
+public class SearchFacets {
+
+    private final List<FacetCount> conditions;
+    private final int freeShipping;
+    private final List<FacetCount> sellerReputations;
+    private final List<FacetCount> brands;
+    private final List<PriceRangeCount> priceRanges;
+
+    public SearchFacets(List<FacetCount> conditions, int freeShipping, List<FacetCount> sellerReputations,
+                        List<FacetCount> brands, List<PriceRangeCount> priceRanges) {
+        this.conditions = conditions;
+        this.freeShipping = freeShipping;
+        this.sellerReputations = sellerReputations;
+        this.brands = brands;
+        this.priceRanges = priceRanges;
+    }
+
+    public List<FacetCount> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Cantidad de resultados con envío gratis
+     */
+    public int getFreeShipping() {
+        return freeShipping;
+    }
+
+    public List<FacetCount> getSellerReputations() {
+        return sellerReputations;
+    }
+
+    public List<FacetCount> getBrands() {
+        return brands;
+    }
+
+    public List<PriceRangeCount> getPriceRanges() {
+        return priceRanges;
+    }
+
+    public static class FacetCount {
+        private final String value;
+        private final int count;
+
+        public FacetCount(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * Rango de precio en centavos; minAmount inclusivo, maxAmount inclusivo o null si no tiene tope
+     */
+    public static class PriceRangeCount {
+        private final long minAmount;
+        private final Long maxAmount;
+        private final int count;
+
+        public PriceRangeCount(long minAmount, Long maxAmount, int count) {
+            this.minAmount = minAmount;
+            this.maxAmount = maxAmount;
+            this.count = count;
+        }
+
+        public long getMinAmount() {
+            return minAmount;
+        }
+
+        public Long getMaxAmount() {
+            return maxAmount;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+}
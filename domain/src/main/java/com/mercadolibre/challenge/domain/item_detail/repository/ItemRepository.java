@@ -1,29 +1,65 @@
 package com.mercadolibre.challenge.domain.item_detail.repository;
 
 import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ItemRepository {
 
     Optional<Item> findById(String id);
 
+    /**
+     * Verifica que el item exista sin cargar el agregado
+     */
+    boolean existsById(String id);
+
+    /**
+     * Carga varios items completos en una cantidad fija de consultas, respetando el orden recibido.
+     * Los ids inexistentes se omiten.
+     */
+    List<Item> findAllByIds(Collection<String> ids);
+
+    /**
+     * Resúmenes de listado de varios items, respetando el orden recibido. Los ids inexistentes se omiten.
+     */
+    List<ItemSummary> findSummariesByIds(Collection<String> ids);
+
+    /**
+     * Atributos de varios items en una consulta, agrupados por itemId. Los items sin atributos no aparecen.
+     */
+    Map<String, List<ItemAttribute>> findAttributesByItemIds(Collection<String> ids);
+
     List<Item> searchItems(SearchCriteria criteria);
 
     int countSearchResults(SearchCriteria criteria);
 
-    List<Item> findBestSellers(int limit);
+    /**
+     * Devuelve la página de resultados junto con el total de coincidencias en una sola consulta
+     */
+    SearchResult searchWithTotal(SearchCriteria criteria);
 
-    List<Item> findTrendingByCategory(String categoryId, int limit);
+    List<ItemSummary> findBestSellers(int limit);
 
-    List<Item> findSimilarItems(String itemId, int limit);
+    List<ItemSummary> findTrendingByCategory(String categoryId, int limit);
+
+    List<ItemSummary> findSimilarItems(String itemId, int limit);
 
     List<Item> findByCategory(String categoryId, int limit, int offset);
 
     List<Item> findBySeller(Long sellerId, int limit, int offset);
 
+    /**
+     * Últimos items activos del vendedor, sin total: para vistas de tamaño fijo que no paginan
+     */
+    List<ItemSummary> findRecentBySeller(Long sellerId, int limit);
+
     List<String> getDistinctAttributeValues(String attributeId, String categoryId);
 
     public static class SearchCriteria {
@@ -34,10 +70,13 @@ public interface ItemRepository {
         private String condition;
         private Boolean freeShipping;
         private String sellerReputation;
+        private Long sellerId;
         private String sortBy;
         private String sortDirection;
         private int limit;
         private int offset;
+        private String cursor;
+        private Map<String, List<String>> attributes = Map.of();
 
         public SearchCriteria() {}
 
@@ -79,6 +118,9 @@ public interface ItemRepository {
         public String getSellerReputation() { return sellerReputation; }
         public void setSellerReputation(String sellerReputation) { this.sellerReputation = sellerReputation; }
 
+        public Long getSellerId() { return sellerId; }
+        public void setSellerId(Long sellerId) { this.sellerId = sellerId; }
+
         public String getSortBy() { return sortBy; }
         public void setSortBy(String sortBy) { this.sortBy = sortBy; }
 
@@ -90,5 +132,51 @@ public interface ItemRepository {
 
         public int getOffset() { return offset; }
         public void setOffset(int offset) { this.offset = offset; }
+
+        /**
+         * Cursor opaco devuelto como nextCursor por una búsqueda previa con el mismo orden.
+         * Si está presente, la página empieza después del último item de esa búsqueda y se ignora el offset.
+         */
+        public String getCursor() { return cursor; }
+        public void setCursor(String cursor) { this.cursor = cursor; }
+
+        /**
+         * Filtros por atributo: attributeId -> valores aceptados, sin distinguir mayúsculas.
+         * Los valores de un mismo atributo se combinan con OR y los atributos entre sí con AND.
+         */
+        public Map<String, List<String>> getAttributes() { return attributes; }
+        public void setAttributes(Map<String, List<String>> attributes) { this.attributes = attributes != null ? attributes : Map.of(); }
+    }
+
+    /**
+     * Página de una búsqueda. total cuenta todas las coincidencias del filtro; con cursor es el contado en
+     * la primera página del recorrido, que el cursor arrastra.
+     * facets es null cuando la implementación no calcula conteos por filtro.
+     */
+    public static class SearchResult {
+        private final List<ItemSummary> items;
+        private final int total;
+        private final String nextCursor;
+        private final SearchFacets facets;
+
+        public SearchResult(List<ItemSummary> items, int total) {
+            this(items, total, null);
+        }
+
+        public SearchResult(List<ItemSummary> items, int total, String nextCursor) {
+            this(items, total, nextCursor, null);
+        }
+
+        public SearchResult(List<ItemSummary> items, int total, String nextCursor, SearchFacets facets) {
+            this.items = items;
+            this.total = total;
+            this.nextCursor = nextCursor;
+            this.facets = facets;
+        }
+
+        public List<ItemSummary> getItems() { return items; }
+        public int getTotal() { return total; }
+        public String getNextCursor() { return nextCursor; }
+        public Optional<SearchFacets> getFacets() { return Optional.ofNullable(facets); }
     }
-}
\ No newline at end of file
+}
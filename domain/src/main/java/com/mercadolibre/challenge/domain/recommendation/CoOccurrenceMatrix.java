@@ -0,0 +1,194 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Matriz item-item de co-ocurrencias dentro de una sesión, actualizada evento a evento.
+ *
+ * Cada item recibe un índice int; la fila de un item es un IntCounter (vecino -> sesiones en común)
+ * y junto a ella se mantiene el top-K de vecinos ordenado. Como los contadores solo crecen, el top-K
+ * se corrige en el momento en que un vecino suma, así que una consulta es O(K) y no recorre la fila.
+ *
+ * Escritura: un solo hilo a la vez (add es synchronized). Lectura: sin locks; cada fila publica su
+ * top-K como un arreglo inmutable en un campo volatile, así el lector ve el anterior o el nuevo.
+ *
+ * Por sesión se recuerdan los últimos sessionHistory items distintos (y hasta maxSessions sesiones,
+ * descartando la menos reciente). Un item repetido en la misma sesión no vuelve a contar.
+ */
+public class CoOccurrenceMatrix {
+
+    private final int topK;
+    private final int sessionHistory;
+
+    private final Map<String, Integer> indexByItem = new ConcurrentHashMap<>();
+    private volatile String[] itemIds = new String[64];
+    private volatile Row[] rows = new Row[64];
+    private int itemCount;
+
+    private final Map<String, int[]> sessions;
+
+    public CoOccurrenceMatrix(int topK, int sessionHistory, int maxSessions) {
+        this.topK = topK;
+        this.sessionHistory = sessionHistory;
+        this.sessions = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+                return size() > maxSessions;
+            }
+        };
+    }
+
+    /**
+     * Suma el item a la sesión y una co-ocurrencia con cada item que la sesión ya tenía
+     */
+    public synchronized void add(String sessionId, String itemId) {
+        int item = indexOf(itemId);
+        int[] history = sessions.get(sessionId);
+        if (history == null) {
+            // history[0] guarda cuántos items tiene; el resto es un buffer circular
+            history = new int[sessionHistory + 1];
+            sessions.put(sessionId, history);
+        }
+        int seen = Math.min(history[0], sessionHistory);
+        for (int i = 1; i <= seen; i++) {
+            if (history[i] == item) {
+                return;
+            }
+        }
+
+        Row[] currentRows = rows;
+        currentRows[item].sessions++;
+        for (int i = 1; i <= seen; i++) {
+            int other = history[i];
+            currentRows[item].increment(other);
+            currentRows[other].increment(item);
+        }
+        history[1 + history[0] % sessionHistory] = item;
+        history[0]++;
+    }
+
+    /**
+     * Hasta limit vecinos del item, de mayor a menor co-ocurrencia
+     */
+    public List<ItemNeighbour> neighbours(String itemId, int limit) {
+        Integer item = indexByItem.get(itemId);
+        if (item == null) {
+            return List.of();
+        }
+        Row[] currentRows = rows;
+        String[] currentIds = itemIds;
+        Row row = currentRows[item];
+        Top top = row.top;
+        int sessionsWithItem = Math.max(row.sessions, 1);
+
+        int count = Math.min(limit, top.size);
+        List<ItemNeighbour> neighbours = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            neighbours.add(new ItemNeighbour(
+                    currentIds[top.items[i]],
+                    top.counts[i],
+                    Math.min(1.0, (double) top.counts[i] / sessionsWithItem)
+            ));
+        }
+        return neighbours;
+    }
+
+    public int itemCount() {
+        return indexByItem.size();
+    }
+
+    private int indexOf(String itemId) {
+        Integer existing = indexByItem.get(itemId);
+        if (existing != null) {
+            return existing;
+        }
+        int index = itemCount++;
+        if (index == rows.length) {
+            itemIds = Arrays.copyOf(itemIds, index * 2);
+            rows = Arrays.copyOf(rows, index * 2);
+        }
+        itemIds[index] = itemId;
+        rows[index] = new Row(topK);
+        // el índice se publica después de la fila para que un lector nunca encuentre una fila null
+        indexByItem.put(itemId, index);
+        return index;
+    }
+
+    private static final class Row {
+        private final IntCounter counts = new IntCounter();
+        private final int capacity;
+        private volatile int sessions;
+        private volatile Top top = Top.EMPTY;
+
+        private Row(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private void increment(int neighbour) {
+            int count = counts.increment(neighbour);
+            Top current = top;
+            if (current.size == capacity && count <= current.counts[current.size - 1] && !current.contains(neighbour)) {
+                return;
+            }
+            top = current.with(neighbour, count, capacity);
+        }
+    }
+
+    /**
+     * Top-K inmutable, ordenado por co-ocurrencias descendente
+     */
+    private static final class Top {
+        private static final Top EMPTY = new Top(new int[0], new int[0], 0);
+
+        private final int[] items;
+        private final int[] counts;
+        private final int size;
+
+        private Top(int[] items, int[] counts, int size) {
+            this.items = items;
+            this.counts = counts;
+            this.size = size;
+        }
+
+        private boolean contains(int item) {
+            for (int i = 0; i < size; i++) {
+                if (items[i] == item) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Top with(int item, int count, int capacity) {
+            int[] newItems = new int[capacity];
+            int[] newCounts = new int[capacity];
+            int newSize = 0;
+            boolean placed = false;
+            for (int i = 0; i < size && newSize < capacity; i++) {
+                if (items[i] == item) {
+                    continue;
+                }
+                if (!placed && count > counts[i]) {
+                    newItems[newSize] = item;
+                    newCounts[newSize++] = count;
+                    placed = true;
+                    if (newSize == capacity) {
+                        break;
+                    }
+                }
+                newItems[newSize] = items[i];
+                newCounts[newSize++] = counts[i];
+            }
+            if (!placed && newSize < capacity) {
+                newItems[newSize] = item;
+                newCounts[newSize++] = count;
+            }
+            return new Top(newItems, newCounts, newSize);
+        }
+    }
+}
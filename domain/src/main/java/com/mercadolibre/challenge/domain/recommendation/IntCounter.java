@@ -0,0 +1,71 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import java.util.Arrays;
+
+/**
+ * Mapa int -> int de direccionamiento abierto para los contadores de una fila de la matriz.
+ * Claves no negativas; evita el boxing y los nodos de un HashMap<Integer, Integer>.
+ * No es thread-safe: lo escribe solo el hilo que ingiere eventos.
+ */
+final class IntCounter {
+
+    private static final int EMPTY = -1;
+
+    private int[] keys;
+    private int[] values;
+    private int size;
+
+    IntCounter() {
+        keys = new int[8];
+        values = new int[8];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Suma uno al contador de key y devuelve el nuevo valor
+     */
+    int increment(int key) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize();
+        }
+        int slot = slotOf(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            size++;
+        }
+        return ++values[slot];
+    }
+
+    int get(int key) {
+        int slot = slotOf(keys, key);
+        return keys[slot] == EMPTY ? 0 : values[slot];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int slotOf(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int slot = (key * 0x9E3779B9) >>> 1 & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import com.mercadolibre.challenge.domain.common.exception.ValidateArgument;
+
+import java.time.LocalDateTime;
+
+/**
+ * Interacción (vista o compra) de una sesión con un item.
+ * El id es la posición del evento en el log; crece con cada evento registrado.
+ */
+public class ItemEvent {
+
+    private final Long id;
+    private final String itemId;
+    private final String sessionId;
+    private final ItemEventType type;
+    private final LocalDateTime occurredAt;
+
+    private ItemEvent(Long id, String itemId, String sessionId, ItemEventType type, LocalDateTime occurredAt) {
+        this.id = id;
+        this.itemId = itemId;
+        this.sessionId = sessionId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Evento nuevo, todavía sin id
+     */
+    public static ItemEvent record(String itemId, String sessionId, ItemEventType type) {
+        return from(null, itemId, sessionId, type, LocalDateTime.now());
+    }
+
+    public static ItemEvent from(Long id, String itemId, String sessionId, ItemEventType type, LocalDateTime occurredAt) {
+        ValidateArgument.validateStringNotNullAndNotEmpty(itemId, "itemId");
+        ValidateArgument.validateStringNotNullAndNotEmpty(sessionId, "sessionId");
+        ValidateArgument.validateNotNull(type, "type");
+        ValidateArgument.validateLength(itemId.length(), 1, 50, "itemId");
+        ValidateArgument.validateLength(sessionId.length(), 1, 100, "sessionId");
+
+        return new ItemEvent(id, itemId.trim(), sessionId.trim(), type, occurredAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public ItemEventType getType() {
+        return type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ItemEvent{id=%s, itemId='%s', sessionId='%s', type=%s}", id, itemId, sessionId, type);
+    }
+}
@@ -0,0 +1,38 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import com.mercadolibre.challenge.domain.common.exception.ValidationException;
+import com.mercadolibre.challenge.domain.common.utils.CodedEnum;
+
+import java.util.Arrays;
+
+/**
+ * Tipos de interacción de un usuario con un item que alimentan las recomendaciones
+ */
+public enum ItemEventType implements CodedEnum {
+    VIEW("VIEW", "Vista"),
+    PURCHASE("PURCHASE", "Compra");
+
+    private final String code;
+    private final String description;
+
+    ItemEventType(String code, String description) {
+        this.code = code;
+        this.description = description;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static ItemEventType fromCode(String code) {
+        return Arrays.stream(values())
+            .filter(type -> type.code.equalsIgnoreCase(code))
+            .findFirst()
+            .orElseThrow(() -> ValidationException.invalidValue("type", code));
+    }
+}
@@ -0,0 +1,30 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+/**
+ * Item relacionado con otro por co-ocurrencia.
+ * score es la confianza P(vecino | item): sesiones con ambos sobre sesiones con el item.
+ */
+public class ItemNeighbour {
+
+    private final String itemId;
+    private final int coOccurrences;
+    private final double score;
+
+    public ItemNeighbour(String itemId, int coOccurrences, double score) {
+        this.itemId = itemId;
+        this.coOccurrences = coOccurrences;
+        this.score = score;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public int getCoOccurrences() {
+        return coOccurrences;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
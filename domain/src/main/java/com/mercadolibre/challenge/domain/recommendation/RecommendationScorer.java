@@ -0,0 +1,113 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Score de relevancia de un candidato respecto de un item base.
+ *
+ * Combina cuatro señales en [0, 1]: misma categoría, coincidencia de atributos (Jaccard sobre pares
+ * atributo=valor), cercanía de precio (escala logarítmica, cero a partir de 4x de diferencia) y
+ * ventas del candidato (saturación sold / (sold + 100)). Cada perfil pondera las señales distinto.
+ *
+ * El resultado depende solo del par (base, candidato), no de otros candidatos ni de azar, así que la
+ * misma consulta devuelve siempre los mismos scores y la respuesta se puede cachear.
+ */
+public final class RecommendationScorer {
+
+    private static final double MAX_PRICE_RATIO_LOG = Math.log(4);
+    private static final double SALES_HALF_POINT = 100.0;
+
+    public enum Profile {
+        SIMILAR(0.35, 0.35, 0.20, 0.10),
+        BOUGHT_TOGETHER(0.20, 0.10, 0.20, 0.50),
+        ALSO_VIEWED(0.30, 0.20, 0.20, 0.30);
+
+        private final double category;
+        private final double attributes;
+        private final double price;
+        private final double sales;
+
+        Profile(double category, double attributes, double price, double sales) {
+            this.category = category;
+            this.attributes = attributes;
+            this.price = price;
+            this.sales = sales;
+        }
+    }
+
+    private RecommendationScorer() {
+    }
+
+    /**
+     * Score del candidato redondeado a 3 decimales. Sin item base solo cuentan las ventas.
+     */
+    public static double score(Profile profile, Item base, ItemSummary candidate,
+                               Collection<ItemAttribute> candidateAttributes) {
+        double sales = salesSignal(candidate.getSoldQuantity());
+        if (base == null) {
+            return round(sales);
+        }
+        double score = profile.category * categorySignal(base, candidate)
+                + profile.attributes * attributeSignal(base.getAttributes(), candidateAttributes)
+                + profile.price * priceSignal(base.getPrice().getAmountInCents(), candidate.getPrice().getAmountInCents())
+                + profile.sales * sales;
+        return round(score);
+    }
+
+    static double categorySignal(Item base, ItemSummary candidate) {
+        return base.getCategory() != null && base.getCategory().getId().equals(candidate.getCategoryId()) ? 1.0 : 0.0;
+    }
+
+    static double attributeSignal(Collection<ItemAttribute> baseAttributes, Collection<ItemAttribute> candidateAttributes) {
+        Set<String> base = attributePairs(baseAttributes);
+        Set<String> candidate = attributePairs(candidateAttributes);
+        if (base.isEmpty() || candidate.isEmpty()) {
+            return 0.0;
+        }
+        int union = base.size();
+        int intersection = 0;
+        for (String pair : candidate) {
+            if (base.contains(pair)) {
+                intersection++;
+            } else {
+                union++;
+            }
+        }
+        return (double) intersection / union;
+    }
+
+    static double priceSignal(Long basePrice, Long candidatePrice) {
+        if (basePrice == null || candidatePrice == null || basePrice <= 0 || candidatePrice <= 0) {
+            return 0.0;
+        }
+        double distance = Math.abs(Math.log((double) candidatePrice / basePrice));
+        return Math.max(0.0, 1.0 - distance / MAX_PRICE_RATIO_LOG);
+    }
+
+    static double salesSignal(Integer soldQuantity) {
+        int sold = soldQuantity != null ? Math.max(soldQuantity, 0) : 0;
+        return sold / (sold + SALES_HALF_POINT);
+    }
+
+    private static Set<String> attributePairs(Collection<ItemAttribute> attributes) {
+        Set<String> pairs = new HashSet<>();
+        if (attributes != null) {
+            for (ItemAttribute attribute : attributes) {
+                if (attribute.getValue() != null) {
+                    pairs.add(attribute.getAttributeId() + "=" + attribute.getValue().trim().toLowerCase());
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.challenge.domain.recommendation.repository;
+
+import com.mercadolibre.challenge.domain.recommendation.ItemEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Puerto de salida del log de eventos de items (append-only)
+ */
+public interface ItemEventRepository {
+
+    /**
+     * Agrega un evento al log
+     * @return El evento con su id asignado
+     */
+    ItemEvent save(ItemEvent event);
+
+    /**
+     * Eventos con id mayor a afterId, en orden de id
+     */
+    List<ItemEvent> findAfter(long afterId, int limit);
+
+    /**
+     * Id del primer evento registrado desde since; si no hay ninguno, el id que tendría el próximo evento
+     */
+    long findFirstIdSince(LocalDateTime since);
+}
@@ -0,0 +1,25 @@
+package com.mercadolibre.challenge.domain.seller;
+
+import com.mercadolibre.challenge.domain.item_detail.Seller;
+
+/**
+ * Vendedor con su score compuesto de ranking (0 a 1).
+ */
+public class RankedSeller {
+
+    private final Seller seller;
+    private final double score;
+
+    public RankedSeller(Seller seller, double score) {
+        this.seller = seller;
+        this.score = score;
+    }
+
+    public Seller getSeller() {
+        return seller;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,91 @@
+package com.mercadolibre.challenge.domain.seller;
+
+import com.mercadolibre.challenge.domain.common.exception.ValidateArgument;
+import com.mercadolibre.challenge.domain.item_detail.Seller;
+
+import java.util.Optional;
+
+/**
+ * Métricas agregadas de un vendedor sobre todo su catálogo.
+ *
+ * Los importes están en centavos. activeItems, precios y categoría principal cuentan solo items
+ * activos; gmv es la suma de precio por unidades vendidas de todos sus items.
+ */
+public class SellerStats {
+
+    private final Seller seller;
+    private final int activeItems;
+    private final long priceSum;
+    private final Long minPrice;
+    private final Long maxPrice;
+    private final long gmv;
+    private final String topCategoryId;
+    private final String topCategoryName;
+
+    private SellerStats(Seller seller, int activeItems, long priceSum, Long minPrice, Long maxPrice, long gmv,
+                        String topCategoryId, String topCategoryName) {
+        this.seller = seller;
+        this.activeItems = activeItems;
+        this.priceSum = priceSum;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.gmv = gmv;
+        this.topCategoryId = topCategoryId;
+        this.topCategoryName = topCategoryName;
+    }
+
+    public static SellerStats from(Seller seller, int activeItems, long priceSum, Long minPrice, Long maxPrice,
+                                   long gmv, String topCategoryId, String topCategoryName) {
+        ValidateArgument.validateNotNull(seller, "seller");
+
+        return new SellerStats(seller, Math.max(activeItems, 0), priceSum, minPrice, maxPrice, gmv,
+                topCategoryId, topCategoryName);
+    }
+
+    /**
+     * Vendedor sin items registrados
+     */
+    public static SellerStats empty(Seller seller) {
+        return from(seller, 0, 0L, null, null, 0L, null, null);
+    }
+
+    public Seller getSeller() {
+        return seller;
+    }
+
+    public int getActiveItems() {
+        return activeItems;
+    }
+
+    /**
+     * Precio promedio de los items activos en centavos, 0 si no tiene
+     */
+    public double getAveragePrice() {
+        return activeItems > 0 ? (double) priceSum / activeItems : 0.0;
+    }
+
+    public Optional<Long> getMinPrice() {
+        return Optional.ofNullable(minPrice);
+    }
+
+    public Optional<Long> getMaxPrice() {
+        return Optional.ofNullable(maxPrice);
+    }
+
+    public long getGmv() {
+        return gmv;
+    }
+
+    public Optional<String> getTopCategoryId() {
+        return Optional.ofNullable(topCategoryId);
+    }
+
+    public Optional<String> getTopCategoryName() {
+        return Optional.ofNullable(topCategoryName);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SellerStats{sellerId=%s, activeItems=%d, gmv=%d}", seller.getId(), activeItems, gmv);
+    }
+}
@@ -0,0 +1,22 @@
+package com.mercadolibre.challenge.domain.seller.repository;
+
+import com.mercadolibre.challenge.domain.seller.RankedSeller;
+import com.mercadolibre.challenge.domain.seller.SellerStats;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface SellerRepository {
+
+    /**
+     * Vendedor con sus métricas agregadas (seller_stats), en una lectura por clave primaria.
+     * Vacío si el vendedor no existe; un vendedor sin items devuelve métricas en cero.
+     */
+    Optional<SellerStats> findStats(Long sellerId);
+
+    /**
+     * Los limit vendedores con mayor score de ranking (reputación, power seller, calificación positiva
+     * y volumen de transacciones), de mayor a menor y con el id como desempate
+     */
+    List<RankedSeller> findTopRanked(int limit);
+}
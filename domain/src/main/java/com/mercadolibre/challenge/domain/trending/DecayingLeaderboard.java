@@ -0,0 +1,136 @@
+package com.mercadolibre.challenge.domain.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Ranking de items con puntajes que decaen exponencialmente en el tiempo (forward decay).
+ *
+ * Un evento de peso w en el instante t suma w * e^((t - L) / window) al item, donde L es un instante
+ * de referencia fijo. Al consultar en el instante now el puntaje real es el guardado por
+ * e^(-(now - L) / window): el factor es el mismo para todos los items, así que el paso del tiempo no
+ * cambia el orden y no hace falta re-ordenar nada mientras no lleguen eventos. Un evento de hace un
+ * window pesa 1/e de uno de ahora.
+ *
+ * El top-N se mantiene en un min-heap que se corrige en cada add (los puntajes guardados solo crecen)
+ * y se publica ordenado en un campo volatile: las lecturas no toman locks. rebase mueve L al presente
+ * para que los exponentes no crezcan sin límite y descarta los items que ya no pesan.
+ */
+public class DecayingLeaderboard {
+
+    private static final Comparator<Map.Entry<String, Double>> BY_SCORE =
+            Map.Entry.<String, Double>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final double windowMillis;
+    private final int topN;
+
+    private final Map<String, Double> scores = new HashMap<>();
+    private final PriorityQueue<Map.Entry<String, Double>> top = new PriorityQueue<>(BY_SCORE);
+    private final Set<String> inTop = new HashSet<>();
+    private long landmark;
+
+    private volatile Snapshot snapshot;
+
+    public DecayingLeaderboard(long windowMillis, int topN, long landmark) {
+        if (windowMillis <= 0 || topN <= 0) {
+            throw new IllegalArgumentException("windowMillis y topN deben ser positivos");
+        }
+        this.windowMillis = windowMillis;
+        this.topN = topN;
+        this.landmark = landmark;
+        this.snapshot = new Snapshot(landmark, new String[0], new double[0]);
+    }
+
+    /**
+     * Suma un evento de peso weight ocurrido en atMillis. Acepta eventos fuera de orden.
+     */
+    public synchronized void add(String itemId, double weight, long atMillis) {
+        double score = scores.merge(itemId, weight * Math.exp((atMillis - landmark) / windowMillis), Double::sum);
+
+        if (inTop.contains(itemId)) {
+            top.removeIf(entry -> entry.getKey().equals(itemId));
+            top.add(Map.entry(itemId, score));
+        } else if (top.size() < topN) {
+            top.add(Map.entry(itemId, score));
+            inTop.add(itemId);
+        } else if (BY_SCORE.compare(Map.entry(itemId, score), top.peek()) > 0) {
+            inTop.remove(top.poll().getKey());
+            top.add(Map.entry(itemId, score));
+            inTop.add(itemId);
+        } else {
+            return;
+        }
+        publish();
+    }
+
+    /**
+     * Los primeros limit items con su puntaje decaído a nowMillis, de mayor a menor
+     */
+    public List<RankedItem> top(int limit, long nowMillis) {
+        Snapshot current = snapshot;
+        double decay = Math.exp(-(nowMillis - current.landmark) / windowMillis);
+        int size = Math.min(limit, current.itemIds.length);
+        List<RankedItem> ranked = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranked.add(new RankedItem(current.itemIds[i], current.scores[i] * decay));
+        }
+        return ranked;
+    }
+
+    /**
+     * Lleva el instante de referencia a nowMillis y descarta los items cuyo puntaje decaído
+     * quedó por debajo de minScore. Devuelve cuántos items quedan.
+     */
+    public synchronized int rebase(long nowMillis, double minScore) {
+        double factor = Math.exp(-(nowMillis - landmark) / windowMillis);
+        scores.replaceAll((itemId, score) -> score * factor);
+        scores.values().removeIf(score -> score < minScore);
+        landmark = nowMillis;
+
+        top.clear();
+        inTop.clear();
+        for (Map.Entry<String, Double> entry : scores.entrySet()) {
+            top.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (top.size() > topN) {
+                top.poll();
+            }
+        }
+        top.forEach(entry -> inTop.add(entry.getKey()));
+        publish();
+        return scores.size();
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    private void publish() {
+        List<Map.Entry<String, Double>> ordered = new ArrayList<>(top);
+        ordered.sort(BY_SCORE.reversed());
+        String[] itemIds = new String[ordered.size()];
+        double[] values = new double[ordered.size()];
+        for (int i = 0; i < itemIds.length; i++) {
+            itemIds[i] = ordered.get(i).getKey();
+            values[i] = ordered.get(i).getValue();
+        }
+        snapshot = new Snapshot(landmark, itemIds, values);
+    }
+
+    private static final class Snapshot {
+        private final long landmark;
+        private final String[] itemIds;
+        private final double[] scores;
+
+        private Snapshot(long landmark, String[] itemIds, double[] scores) {
+            this.landmark = landmark;
+            this.itemIds = itemIds;
+            this.scores = scores;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mercadolibre.challenge.domain.trending;
+
+/**
+ * Vistas acumuladas del detalle de un item.
+ */
+public class ItemViewCount {
+
+    private final String itemId;
+    private final long views;
+
+    public ItemViewCount(String itemId, long views) {
+        this.itemId = itemId;
+        this.views = views;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public long getViews() {
+        return views;
+    }
+}
@@ -0,0 +1,24 @@
+package com.mercadolibre.challenge.domain.trending;
+
+/**
+ * Posición de un item en un ranking de tendencias.
+ * score es la suma de los pesos de sus eventos, cada uno decaído a la fecha de la consulta.
+ */
+public class RankedItem {
+
+    private final String itemId;
+    private final double score;
+
+    public RankedItem(String itemId, double score) {
+        this.itemId = itemId;
+        this.score = score;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,28 @@
+package com.mercadolibre.challenge.domain.trending.repository;
+
+import com.mercadolibre.challenge.domain.trending.ItemViewCount;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contadores persistidos de vistas por item (item_view_counts).
+ */
+public interface ItemViewCountRepository {
+
+    /**
+     * Suma a cada item las vistas indicadas, creando el contador si no existe
+     */
+    void addViews(Map<String, Long> deltas);
+
+    /**
+     * Los limit contadores con más vistas, de mayor a menor
+     */
+    List<ItemViewCount> findTop(int limit);
+
+    /**
+     * Contadores persistidos de los items indicados; los items sin vistas no aparecen
+     */
+    List<ItemViewCount> findByItemIds(Collection<String> itemIds);
+}
@@ -0,0 +1,58 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for CoOccurrenceMatrix")
+class CoOccurrenceMatrixTest {
+
+    @Test
+    @DisplayName("Should rank neighbours by sessions in common")
+    void neighbours_ShouldRankByCoOccurrences() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10, 20, 1000);
+        session(matrix, "S1", "phone", "case", "charger");
+        session(matrix, "S2", "phone", "case");
+        session(matrix, "S3", "phone", "headphones");
+
+        List<ItemNeighbour> neighbours = matrix.neighbours("phone", 10);
+
+        assertThat(neighbours).extracting(ItemNeighbour::getItemId).containsExactly("case", "charger", "headphones");
+        assertThat(neighbours.get(0).getCoOccurrences()).isEqualTo(2);
+        assertThat(neighbours.get(0).getScore()).isEqualTo(2.0 / 3);
+        assertThat(matrix.neighbours("case", 10)).extracting(ItemNeighbour::getItemId).containsExactly("phone", "charger");
+    }
+
+    @Test
+    @DisplayName("Should count an item once per session")
+    void add_ShouldIgnoreRepeatedItemsInSession() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10, 20, 1000);
+        session(matrix, "S1", "phone", "case", "phone", "case");
+
+        assertThat(matrix.neighbours("phone", 10).get(0).getCoOccurrences()).isEqualTo(1);
+        assertThat(matrix.neighbours("phone", 10).get(0).getScore()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should keep only the top K neighbours and promote one that overtakes")
+    void neighbours_ShouldKeepTopK() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(2, 20, 1000);
+        session(matrix, "S1", "phone", "a", "b", "c");
+        session(matrix, "S2", "phone", "c");
+        session(matrix, "S3", "phone", "c");
+        session(matrix, "S4", "phone", "b");
+
+        assertThat(matrix.neighbours("phone", 10)).extracting(ItemNeighbour::getItemId).containsExactly("c", "b");
+        assertThat(matrix.neighbours("phone", 1)).extracting(ItemNeighbour::getItemId).containsExactly("c");
+        assertThat(matrix.neighbours("unknown", 5)).isEmpty();
+    }
+
+    private void session(CoOccurrenceMatrix matrix, String sessionId, String... items) {
+        for (String item : items) {
+            matrix.add(sessionId, item);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.mercadolibre.challenge.domain.recommendation;
+
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.recommendation.RecommendationScorer.Profile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("Tests for RecommendationScorer")
+class RecommendationScorerTest {
+
+    @Test
+    @DisplayName("Should score attribute overlap as Jaccard over attribute=value pairs")
+    void attributeSignal_ShouldBeJaccard() {
+        List<ItemAttribute> base = List.of(attribute("BRAND", "Apple"), attribute("COLOR", "Negro"));
+        List<ItemAttribute> candidate = List.of(attribute("BRAND", "apple "), attribute("COLOR", "Blanco"));
+
+        assertThat(RecommendationScorer.attributeSignal(base, candidate)).isEqualTo(1.0 / 3);
+        assertThat(RecommendationScorer.attributeSignal(base, List.of())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should decay price proximity symmetrically down to zero at 4x")
+    void priceSignal_ShouldBeSymmetricInLogScale() {
+        assertThat(RecommendationScorer.priceSignal(1000L, 1000L)).isEqualTo(1.0);
+        assertThat(RecommendationScorer.priceSignal(1000L, 2000L))
+                .isEqualTo(RecommendationScorer.priceSignal(2000L, 1000L))
+                .isCloseTo(0.5, offset(1e-9));
+        assertThat(RecommendationScorer.priceSignal(1000L, 9000L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should return the same score for the same candidate on every call")
+    void score_ShouldBeDeterministic() {
+        ItemSummary candidate = ItemSummary.from("MLA2", "Funda", Price.of(150000L, "ARS", 2), "new", null,
+                false, 1L, "SELLER", "gold", null, 100, "MLA1055", null);
+
+        double first = RecommendationScorer.score(Profile.SIMILAR, null, candidate, List.of());
+
+        assertThat(first).isEqualTo(0.5);
+        assertThat(RecommendationScorer.score(Profile.SIMILAR, null, candidate, List.of())).isEqualTo(first);
+    }
+
+    private static ItemAttribute attribute(String id, String value) {
+        return ItemAttribute.of(id, id, value, null, "string");
+    }
+}
@@ -0,0 +1,60 @@
+package com.mercadolibre.challenge.domain.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("Tests for DecayingLeaderboard")
+class DecayingLeaderboardTest {
+
+    private static final long WINDOW = 1_000L;
+
+    @Test
+    @DisplayName("Should rank a recent event above an older event of the same weight")
+    void top_ShouldFavourRecentEvents() {
+        DecayingLeaderboard leaderboard = new DecayingLeaderboard(WINDOW, 10, 0L);
+        leaderboard.add("old", 1.0, 0L);
+        leaderboard.add("old", 1.0, 0L);
+        leaderboard.add("new", 1.0, 2 * WINDOW);
+
+        List<RankedItem> top = leaderboard.top(10, 2 * WINDOW);
+
+        // "old" vale 2 / e^2 ≈ 0.27 frente a 1 de "new"
+        assertThat(top).extracting(RankedItem::getItemId).containsExactly("new", "old");
+        assertThat(top.get(0).getScore()).isCloseTo(1.0, offset(1e-9));
+        assertThat(top.get(1).getScore()).isCloseTo(2 * Math.exp(-2), offset(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should keep only the top N items and let a later item overtake")
+    void add_ShouldMaintainTopN() {
+        DecayingLeaderboard leaderboard = new DecayingLeaderboard(WINDOW, 2, 0L);
+        leaderboard.add("a", 3.0, 0L);
+        leaderboard.add("b", 2.0, 0L);
+        leaderboard.add("c", 1.0, 0L);
+        assertThat(leaderboard.top(10, 0L)).extracting(RankedItem::getItemId).containsExactly("a", "b");
+
+        leaderboard.add("c", 5.0, 0L);
+
+        assertThat(leaderboard.top(10, 0L)).extracting(RankedItem::getItemId).containsExactly("c", "a");
+    }
+
+    @Test
+    @DisplayName("Should preserve decayed scores on rebase and drop items below the threshold")
+    void rebase_ShouldMoveLandmarkAndPrune() {
+        DecayingLeaderboard leaderboard = new DecayingLeaderboard(WINDOW, 10, 0L);
+        leaderboard.add("stale", 1.0, 0L);
+        leaderboard.add("fresh", 1.0, 5 * WINDOW);
+        double before = leaderboard.top(10, 5 * WINDOW).get(0).getScore();
+
+        int remaining = leaderboard.rebase(5 * WINDOW, 0.05);
+
+        assertThat(remaining).isEqualTo(1);
+        assertThat(leaderboard.top(10, 5 * WINDOW)).extracting(RankedItem::getItemId).containsExactly("fresh");
+        assertThat(leaderboard.top(10, 5 * WINDOW).get(0).getScore()).isCloseTo(before, offset(1e-9));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.adapter;
+
+import com.mercadolibre.challenge.domain.item_detail.*;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemAttributeEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemPictureEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ShippingMethodEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Arma los agregados Item de una página de entidades.
+ *
+ * Las colecciones de ItemEntity (atributos, imágenes, métodos de envío) son LAZY; recorrerlas
+ * item por item dispara un SELECT por colección y por item. Este loader trae las tres colecciones
+ * de toda la página con una consulta IN por tabla y las reparte en memoria por itemId, así una
+ * página de N items cuesta 3 consultas adicionales en lugar de 3N.
+ */
+@Component
+public class ItemAggregateLoader {
+
+    private final JpaItemRepository jpaItemRepository;
+
+    public ItemAggregateLoader(JpaItemRepository jpaItemRepository) {
+        this.jpaItemRepository = jpaItemRepository;
+    }
+
+    public List<Item> load(List<ItemEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        List<String> itemIds = entities.stream()
+                .map(ItemEntity::getId)
+                .toList();
+
+        Map<String, List<ItemAttributeEntity>> attributes = jpaItemRepository.findAttributesByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(ItemAttributeEntity::getItemId));
+        Map<String, List<ItemPictureEntity>> pictures = jpaItemRepository.findPicturesByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(ItemPictureEntity::getItemId));
+        Map<String, List<ShippingMethodEntity>> shippingMethods = jpaItemRepository.findShippingMethodsByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(ShippingMethodEntity::getItemId));
+
+        List<Item> items = new ArrayList<>(entities.size());
+        for (ItemEntity entity : entities) {
+            items.add(entityToDomain(
+                    entity,
+                    attributes.getOrDefault(entity.getId(), List.of()),
+                    pictures.getOrDefault(entity.getId(), List.of()),
+                    shippingMethods.getOrDefault(entity.getId(), List.of())
+            ));
+        }
+        return items;
+    }
+
+    public Item load(ItemEntity entity) {
+        return load(List.of(entity)).get(0);
+    }
+
+    private Item entityToDomain(ItemEntity entity,
+                                List<ItemAttributeEntity> attributeEntities,
+                                List<ItemPictureEntity> pictureEntities,
+                                List<ShippingMethodEntity> shippingEntities) {
+        Price price = Price.of(
+                entity.getPriceAmount(),
+                entity.getPriceCurrency(),
+                entity.getPriceDecimals()
+        );
+
+        Category category = entity.getCategory() != null
+                ? entity.getCategory().toDomain()
+                : null;
+
+        Seller seller = entity.getSeller() != null
+                ? entity.getSeller().toDomain()
+                : null;
+
+        List<ItemAttribute> attributes = attributeEntities.stream()
+                .map(attr -> attr.toDomain())
+                .toList();
+
+        List<Picture> pictures = pictureEntities.stream()
+                .map(pic -> pic.toDomain())
+                .toList();
+
+        List<ShippingMethod> shippingMethods = shippingEntities.stream()
+                .map(shipping -> shipping.toDomain())
+                .toList();
+
+        PaymentMethod paymentMethod = null;
+
+        Warranty warranty = null;
+
+        return Item.from(
+                entity.getId(),
+                entity.getTitle(),
+                price,
+                entity.getConditionType(),
+                entity.getAvailableQuantity(),
+                entity.getSoldQuantity(),
+                entity.getPermalink(),
+                entity.getStatus(),
+                entity.getDescription(),
+                entity.getListingType(),
+                entity.getBuyingMode(),
+                entity.getFreeShipping(),
+                entity.getLocalPickUp(),
+                entity.getCreatedDate(),
+                entity.getUpdatedDate(),
+                category,
+                seller,
+                attributes,
+                pictures,
+                shippingMethods,
+                paymentMethod,
+                warranty
+        );
+    }
+}
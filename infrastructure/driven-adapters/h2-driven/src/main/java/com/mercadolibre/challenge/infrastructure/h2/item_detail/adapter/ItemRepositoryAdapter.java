@@ -1,112 +1,152 @@
 package com.mercadolibre.challenge.infrastructure.h2.item_detail.adapter;
 
-import com.mercadolibre.challenge.domain.item_detail.*;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
 import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.concurrency.SingleFlight;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemAttributeEntity;
 import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination.KeysetCursor;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSearchPage;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow;
 import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
 public class ItemRepositoryAdapter implements ItemRepository {
 
     private final JpaItemRepository jpaItemRepository;
+    private final ItemAggregateLoader aggregateLoader;
+    private final ItemSummaryLoader summaryLoader;
+    private final SingleFlight<String, Optional<Item>> detailLoads = new SingleFlight<>();
 
-    public ItemRepositoryAdapter(JpaItemRepository jpaItemRepository) {
+    public ItemRepositoryAdapter(JpaItemRepository jpaItemRepository, ItemAggregateLoader aggregateLoader,
+                                 ItemSummaryLoader summaryLoader) {
         this.jpaItemRepository = jpaItemRepository;
+        this.aggregateLoader = aggregateLoader;
+        this.summaryLoader = summaryLoader;
     }
 
+    /**
+     * Los pedidos concurrentes del mismo id comparten una sola carga del agregado
+     */
     @Override
     public Optional<Item> findById(String id) {
-        return jpaItemRepository.findByIdWithDetails(id)
-                .map(this::entityToDomain);
+        return detailLoads.execute(id, () -> jpaItemRepository.findByIdWithDetails(id)
+                .map(aggregateLoader::load));
     }
 
     @Override
-    public List<Item> searchItems(SearchCriteria criteria) {
-        Pageable pageable = createPageable(criteria);
+    public boolean existsById(String id) {
+        return jpaItemRepository.existsById(id);
+    }
+
+    /**
+     * Una consulta para items, categoría y vendedor más una por colección del agregado
+     */
+    @Override
+    public List<Item> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ItemEntity> entitiesById = jpaItemRepository.findAllByIdWithDetails(ids).stream()
+                .collect(Collectors.toMap(ItemEntity::getId, Function.identity()));
+
+        return aggregateLoader.load(ids.stream()
+                .map(entitiesById::get)
+                .filter(entity -> entity != null)
+                .toList());
+    }
 
-        Long minPriceAmount = convertToAmount(criteria.getMinPrice());
-        Long maxPriceAmount = convertToAmount(criteria.getMaxPrice());
+    @Override
+    public List<ItemSummary> findSummariesByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<String, ItemSummaryRow> rowsById = jpaItemRepository.findSummaryRowsByIds(ids).stream()
+                .collect(Collectors.toMap(ItemSummaryRow::getId, Function.identity()));
+
+        return summaryLoader.load(ids.stream()
+                .map(rowsById::get)
+                .filter(row -> row != null)
+                .toList());
+    }
 
-        List<ItemEntity> entities = jpaItemRepository.findItemsBySearchCriteria(
-                criteria.getQuery(),
-                criteria.getCategoryId(),
-                minPriceAmount,
-                maxPriceAmount,
-                criteria.getCondition(),
-                criteria.getFreeShipping(),
-                criteria.getSellerReputation(),
-                pageable
-        );
+    @Override
+    public Map<String, List<ItemAttribute>> findAttributesByItemIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return jpaItemRepository.findAttributesByItemIds(ids).stream()
+                .collect(Collectors.groupingBy(ItemAttributeEntity::getItemId,
+                        Collectors.mapping(ItemAttributeEntity::toDomain, Collectors.toList())));
+    }
 
-        return entities.stream()
-                .map(this::entityToDomain)
-                .collect(Collectors.toList());
+    @Override
+    public List<Item> searchItems(SearchCriteria criteria) {
+        return aggregateLoader.load(jpaItemRepository.searchPageWithTotal(criteria).getItems());
     }
 
     @Override
     public int countSearchResults(SearchCriteria criteria) {
-        Long minPriceAmount = convertToAmount(criteria.getMinPrice());
-        Long maxPriceAmount = convertToAmount(criteria.getMaxPrice());
+        return jpaItemRepository.countMatches(criteria);
+    }
+
+    @Override
+    public SearchResult searchWithTotal(SearchCriteria criteria) {
+        ItemSearchPage<ItemSummaryRow> page = jpaItemRepository.searchSummaryPage(criteria);
+
+        List<ItemSummary> items = summaryLoader.load(page.getItems());
 
-        return jpaItemRepository.countItemsBySearchCriteria(
-                criteria.getQuery(),
-                criteria.getCategoryId(),
-                minPriceAmount,
-                maxPriceAmount,
-                criteria.getCondition(),
-                criteria.getFreeShipping(),
-                criteria.getSellerReputation()
-        );
+        return new SearchResult(items, page.getTotal(), KeysetCursor.next(criteria, items, page.getTotal(), page.hasMore()));
     }
 
     @Override
-    public List<Item> findBestSellers(int limit) {
+    public List<ItemSummary> findBestSellers(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return jpaItemRepository.findBestSellers(pageable).stream()
-                .map(this::entityToDomain)
-                .collect(Collectors.toList());
+        return summaryLoader.load(jpaItemRepository.findBestSellerSummaries(pageable));
     }
 
     @Override
-    public List<Item> findTrendingByCategory(String categoryId, int limit) {
+    public List<ItemSummary> findTrendingByCategory(String categoryId, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return jpaItemRepository.findTrendingByCategory(categoryId, pageable).stream()
-                .map(this::entityToDomain)
-                .collect(Collectors.toList());
+        return summaryLoader.load(jpaItemRepository.findTrendingSummariesByCategory(categoryId, pageable));
     }
 
     @Override
-    public List<Item> findSimilarItems(String itemId, int limit) {
+    public List<ItemSummary> findSimilarItems(String itemId, int limit) {
         Pageable pageable = PageRequest.of(0, limit);
-        return jpaItemRepository.findSimilarItemsByCategory(itemId, pageable).stream()
-                .map(this::entityToDomain)
-                .collect(Collectors.toList());
+        return summaryLoader.load(jpaItemRepository.findSimilarItemSummaries(itemId, pageable));
+    }
+
+    @Override
+    public List<ItemSummary> findRecentBySeller(Long sellerId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return summaryLoader.load(jpaItemRepository.findRecentSummariesBySeller(sellerId, pageable));
     }
 
     @Override
     public List<Item> findByCategory(String categoryId, int limit, int offset) {
-        Pageable pageable = PageRequest.of(offset / limit, limit);
-        return jpaItemRepository.findByCategory(categoryId, pageable).stream()
-                .map(this::entityToDomain)
-                .collect(Collectors.toList());
+        SearchCriteria criteria = listingCriteria(limit, offset);
+        criteria.setCategoryId(categoryId);
+        return searchItems(criteria);
     }
 
     @Override
     public List<Item> findBySeller(Long sellerId, int limit, int offset) {
-        Pageable pageable = PageRequest.of(offset / limit, limit);
-        return jpaItemRepository.findBySeller(sellerId, pageable).stream()
-                .map(this::entityToDomain)
-                .collect(Collectors.toList());
+        SearchCriteria criteria = listingCriteria(limit, offset);
+        criteria.setSellerId(sellerId);
+        return searchItems(criteria);
     }
 
     @Override
@@ -114,93 +154,12 @@ public class ItemRepositoryAdapter implements ItemRepository {
         return jpaItemRepository.findDistinctAttributeValues(attributeId, categoryId);
     }
 
-    private Pageable createPageable(SearchCriteria criteria) {
-        Sort sort = createSort(criteria.getSortBy(), criteria.getSortDirection());
-        return PageRequest.of(
-                criteria.getOffset() / criteria.getLimit(),
-                criteria.getLimit(),
-                sort
-        );
-    }
-
-    private Sort createSort(String sortBy, String sortDirection) {
-        Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection)
-                ? Sort.Direction.ASC
-                : Sort.Direction.DESC;
-
-        return switch (sortBy != null ? sortBy.toLowerCase() : "relevance") {
-            case "price" -> Sort.by(direction, "priceAmount");
-            case "sold_quantity" -> Sort.by(direction, "soldQuantity");
-            case "created_date" -> Sort.by(direction, "createdDate");
-            default -> Sort.by(Sort.Direction.DESC, "soldQuantity", "createdDate");
-        };
-    }
-
-    private Long convertToAmount(BigDecimal price) {
-        if (price == null) return null;
-        return price.multiply(new BigDecimal("100")).longValue();
-    }
-    
-    private Item entityToDomain(ItemEntity entity) {
-        Price price = Price.of(
-                entity.getPriceAmount(),
-                entity.getPriceCurrency(),
-                entity.getPriceDecimals()
-        );
-        
-        Category category = entity.getCategory() != null 
-                ? entity.getCategory().toDomain() 
-                : null;
-        
-        Seller seller = entity.getSeller() != null 
-                ? entity.getSeller().toDomain() 
-                : null;
-        
-        List<ItemAttribute> attributes = entity.getAttributes() != null
-                ? entity.getAttributes().stream()
-                    .map(attr -> attr.toDomain())
-                    .toList()
-                : new ArrayList<>();
-        
-        List<Picture> pictures = entity.getPictures() != null
-                ? entity.getPictures().stream()
-                    .map(pic -> pic.toDomain())
-                    .toList()
-                : new ArrayList<>();
-        
-        List<ShippingMethod> shippingMethods = entity.getShippingMethods() != null
-                ? entity.getShippingMethods().stream()
-                    .map(shipping -> shipping.toDomain())
-                    .toList()
-                : new ArrayList<>();
-        
-        PaymentMethod paymentMethod = null;
-
-        Warranty warranty = null;
-        
-        return Item.from(
-                entity.getId(),
-                entity.getTitle(),
-                price,
-                entity.getConditionType(),
-                entity.getAvailableQuantity(),
-                entity.getSoldQuantity(),
-                entity.getPermalink(),
-                entity.getStatus(),
-                entity.getDescription(),
-                entity.getListingType(),
-                entity.getBuyingMode(),
-                entity.getFreeShipping(),
-                entity.getLocalPickUp(),
-                entity.getCreatedDate(),
-                entity.getUpdatedDate(),
-                category,
-                seller,
-                attributes,
-                pictures,
-                shippingMethods,
-                paymentMethod,
-                warranty
-        );
-    }
-}
\ No newline at end of file
+    private SearchCriteria listingCriteria(int limit, int offset) {
+        SearchCriteria criteria = new SearchCriteria();
+        criteria.setSortBy("created_date");
+        criteria.setSortDirection("desc");
+        criteria.setLimit(limit);
+        criteria.setOffset(offset);
+        return criteria;
+    }
+}
@@ -0,0 +1,67 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.adapter;
+
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemThumbnailRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Arma los ItemSummary de una página de filas proyectadas.
+ *
+ * Las filas ya traen item y vendedor; lo único que falta para la tarjeta es la imagen principal y
+ * si algún método de envío es gratis. Ambos se resuelven con una consulta IN por tabla para toda la
+ * página, sin cargar atributos ni el resto de las imágenes.
+ */
+@Component
+public class ItemSummaryLoader {
+
+    private final JpaItemRepository jpaItemRepository;
+
+    public ItemSummaryLoader(JpaItemRepository jpaItemRepository) {
+        this.jpaItemRepository = jpaItemRepository;
+    }
+
+    public List<ItemSummary> load(List<ItemSummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<String> itemIds = rows.stream()
+                .map(ItemSummaryRow::getId)
+                .toList();
+
+        Map<String, String> thumbnails = new HashMap<>();
+        for (ItemThumbnailRow thumbnail : jpaItemRepository.findThumbnailsByItemIds(itemIds)) {
+            thumbnails.putIfAbsent(thumbnail.getItemId(), thumbnail.getUrl());
+        }
+        Set<String> freeShippingMethod = new HashSet<>(jpaItemRepository.findItemIdsWithFreeShippingMethod(itemIds));
+
+        List<ItemSummary> summaries = new ArrayList<>(rows.size());
+        for (ItemSummaryRow row : rows) {
+            summaries.add(ItemSummary.from(
+                    row.getId(),
+                    row.getTitle(),
+                    Price.of(row.getPriceAmount(), row.getPriceCurrency(), row.getPriceDecimals()),
+                    row.getConditionType(),
+                    thumbnails.get(row.getId()),
+                    Boolean.TRUE.equals(row.getFreeShipping()) || freeShippingMethod.contains(row.getId()),
+                    row.getSellerId(),
+                    row.getSellerNickname(),
+                    row.getSellerReputation(),
+                    row.getSellerPowerStatus(),
+                    row.getSoldQuantity(),
+                    row.getCategoryId(),
+                    row.getCreatedDate()
+            ));
+        }
+        return summaries;
+    }
+}
@@ -45,6 +45,12 @@ public class SellerEntity {
     @Column(name = "rating_neutral", precision = 5, scale = 4)
     private BigDecimal ratingNeutral;
     
+    /**
+     * Columna calculada por la base (ver V1__schema.sql), solo lectura
+     */
+    @Column(name = "ranking_score", insertable = false, updatable = false)
+    private Double rankingScore;
+    
     @Column(name = "created_at")
     private LocalDateTime createdAt;
     
@@ -135,6 +141,8 @@ public class SellerEntity {
     public void setRatingNegative(BigDecimal ratingNegative) { this.ratingNegative = ratingNegative; }
     public BigDecimal getRatingNeutral() { return ratingNeutral; }
     public void setRatingNeutral(BigDecimal ratingNeutral) { this.ratingNeutral = ratingNeutral; }
+    public Double getRankingScore() { return rankingScore; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
@@ -0,0 +1,147 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination;
+
+import com.mercadolibre.challenge.domain.common.exception.ValidationException;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Cursor de paginación por keyset (seek).
+ *
+ * Guarda los valores de la clave de orden del último item entregado más su id como desempate,
+ * de modo que la página siguiente se pide con "clave después de X" en lugar de un offset.
+ * Se serializa como un token base64 url-safe que el cliente trata como opaco.
+ *
+ * El token también lleva el total de coincidencias calculado en la primera página, así las páginas
+ * siguientes no vuelven a contar: el total es el del momento en que empezó el recorrido.
+ *
+ * Claves por orden: relevance = soldQuantity, createdDate, id; price = priceAmount, id;
+ * sold_quantity = soldQuantity, id; created_date = createdDate, id.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION = "v2";
+    private static final int PARTS = 7;
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final String id;
+    private final long soldQuantity;
+    private final long priceAmount;
+    private final LocalDateTime createdDate;
+    private final int total;
+
+    private KeysetCursor(String sortBy, String id, long soldQuantity, long priceAmount, LocalDateTime createdDate,
+                         int total) {
+        this.sortBy = sortBy;
+        this.id = id;
+        this.soldQuantity = soldQuantity;
+        this.priceAmount = priceAmount;
+        this.createdDate = createdDate;
+        this.total = total;
+    }
+
+    /**
+     * Cursor que apunta justo después del item indicado para el orden dado
+     */
+    public static KeysetCursor after(String sortBy, ItemSummary item, int total) {
+        return new KeysetCursor(
+                normalizeSort(sortBy),
+                item.getId(),
+                item.getSoldQuantity() != null ? item.getSoldQuantity() : 0,
+                item.getPrice() != null && item.getPrice().getAmountInCents() != null ? item.getPrice().getAmountInCents() : 0,
+                item.getCreatedDate(),
+                total
+        );
+    }
+
+    /**
+     * Decodifica el cursor del criterio, o devuelve null si la búsqueda no usa cursor.
+     * Falla si el token está corrupto o fue generado para otro orden.
+     */
+    public static KeysetCursor from(SearchCriteria criteria) {
+        String token = criteria.getCursor();
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String expectedSort = normalizeSort(criteria.getSortBy());
+
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = decoded.split("\\" + SEPARATOR, PARTS);
+        } catch (IllegalArgumentException e) {
+            throw ValidationException.invalidFormat("cursor", "token no es base64 válido");
+        }
+        if (parts.length != PARTS || !VERSION.equals(parts[0])) {
+            throw ValidationException.invalidFormat("cursor", "token desconocido");
+        }
+        if (!expectedSort.equals(parts[1])) {
+            throw ValidationException.invalidValue("cursor", "generado para el orden " + parts[1] + ", no " + expectedSort);
+        }
+        try {
+            return new KeysetCursor(
+                    parts[1],
+                    parts[6],
+                    Long.parseLong(parts[2]),
+                    Long.parseLong(parts[3]),
+                    parts[4].isEmpty() ? null : LocalDateTime.parse(parts[4]),
+                    Integer.parseInt(parts[5])
+            );
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw ValidationException.invalidFormat("cursor", e.getMessage());
+        }
+    }
+
+    /**
+     * Cursor de la página siguiente, o null si la página entregada es la última (hasMore en false)
+     */
+    public static String next(SearchCriteria criteria, List<ItemSummary> page, int total, boolean hasMore) {
+        if (page.isEmpty() || !hasMore) {
+            return null;
+        }
+        return after(criteria.getSortBy(), page.get(page.size() - 1), total).encode();
+    }
+
+    public static String normalizeSort(String sortBy) {
+        return switch (sortBy != null ? sortBy.toLowerCase(Locale.ROOT) : "relevance") {
+            case "price" -> "price";
+            case "sold_quantity" -> "sold_quantity";
+            case "created_date" -> "created_date";
+            default -> "relevance";
+        };
+    }
+
+    /**
+     * relevance siempre ordena descendente; el resto respeta sortDirection (desc por defecto)
+     */
+    public static boolean isDescending(SearchCriteria criteria) {
+        return "relevance".equals(normalizeSort(criteria.getSortBy()))
+                || !"asc".equalsIgnoreCase(criteria.getSortDirection());
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                sortBy,
+                String.valueOf(soldQuantity),
+                String.valueOf(priceAmount),
+                createdDate != null ? createdDate.toString() : "",
+                String.valueOf(total),
+                id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSortBy() { return sortBy; }
+    public String getId() { return id; }
+    public long getSoldQuantity() { return soldQuantity; }
+    public long getPriceAmount() { return priceAmount; }
+    public LocalDateTime getCreatedDate() { return createdDate; }
+    public int getTotal() { return total; }
+}
@@ -0,0 +1,10 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.projection;
+
+/**
+ * Proyección de un valor de atributo asociado a su item
+ */
+public interface ItemAttributeValueRow {
+    String getItemId();
+    String getAttributeId();
+    String getAttributeValue();
+}
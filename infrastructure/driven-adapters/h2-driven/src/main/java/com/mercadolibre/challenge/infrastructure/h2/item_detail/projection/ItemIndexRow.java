@@ -0,0 +1,20 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Proyección con las columnas de items que necesita el índice de búsqueda
+ */
+public interface ItemIndexRow {
+    String getId();
+    String getTitle();
+    String getCategoryId();
+    String getCategoryPath();
+    Long getPriceAmount();
+    String getConditionType();
+    Boolean getFreeShipping();
+    String getSellerReputation();
+    Long getSellerId();
+    Integer getSoldQuantity();
+    LocalDateTime getCreatedDate();
+}
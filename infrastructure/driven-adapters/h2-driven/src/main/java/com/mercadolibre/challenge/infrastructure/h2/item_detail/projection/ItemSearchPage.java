@@ -0,0 +1,24 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.projection;
+
+import java.util.List;
+
+/**
+ * Página de una búsqueda (entidades o filas de resumen) junto con el total de coincidencias.
+ * hasMore indica si hay coincidencias después de la página.
+ */
+public class ItemSearchPage<T> {
+
+    private final List<T> items;
+    private final int total;
+    private final boolean hasMore;
+
+    public ItemSearchPage(List<T> items, int total, boolean hasMore) {
+        this.items = items;
+        this.total = total;
+        this.hasMore = hasMore;
+    }
+
+    public List<T> getItems() { return items; }
+    public int getTotal() { return total; }
+    public boolean hasMore() { return hasMore; }
+}
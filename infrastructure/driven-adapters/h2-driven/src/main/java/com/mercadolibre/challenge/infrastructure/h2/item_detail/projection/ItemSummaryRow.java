@@ -0,0 +1,60 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Columnas de items y sellers que necesita una tarjeta de listado.
+ * Se construye desde JPQL (SELECT new) y desde la búsqueda nativa.
+ */
+public class ItemSummaryRow {
+
+    private final String id;
+    private final String title;
+    private final Long priceAmount;
+    private final String priceCurrency;
+    private final Integer priceDecimals;
+    private final String conditionType;
+    private final Boolean freeShipping;
+    private final Long sellerId;
+    private final String sellerNickname;
+    private final String sellerReputation;
+    private final String sellerPowerStatus;
+    private final Integer soldQuantity;
+    private final String categoryId;
+    private final LocalDateTime createdDate;
+
+    public ItemSummaryRow(String id, String title, Long priceAmount, String priceCurrency, Integer priceDecimals,
+                          String conditionType, Boolean freeShipping, Long sellerId, String sellerNickname,
+                          String sellerReputation, String sellerPowerStatus, Integer soldQuantity,
+                          String categoryId, LocalDateTime createdDate) {
+        this.id = id;
+        this.title = title;
+        this.priceAmount = priceAmount;
+        this.priceCurrency = priceCurrency;
+        this.priceDecimals = priceDecimals;
+        this.conditionType = conditionType;
+        this.freeShipping = freeShipping;
+        this.sellerId = sellerId;
+        this.sellerNickname = sellerNickname;
+        this.sellerReputation = sellerReputation;
+        this.sellerPowerStatus = sellerPowerStatus;
+        this.soldQuantity = soldQuantity;
+        this.categoryId = categoryId;
+        this.createdDate = createdDate;
+    }
+
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public Long getPriceAmount() { return priceAmount; }
+    public String getPriceCurrency() { return priceCurrency; }
+    public Integer getPriceDecimals() { return priceDecimals; }
+    public String getConditionType() { return conditionType; }
+    public Boolean getFreeShipping() { return freeShipping; }
+    public Long getSellerId() { return sellerId; }
+    public String getSellerNickname() { return sellerNickname; }
+    public String getSellerReputation() { return sellerReputation; }
+    public String getSellerPowerStatus() { return sellerPowerStatus; }
+    public Integer getSoldQuantity() { return soldQuantity; }
+    public String getCategoryId() { return categoryId; }
+    public LocalDateTime getCreatedDate() { return createdDate; }
+}
@@ -0,0 +1,9 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.projection;
+
+/**
+ * Proyección de la imagen principal de un item
+ */
+public interface ItemThumbnailRow {
+    String getItemId();
+    String getUrl();
+}
@@ -0,0 +1,21 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.repository;
+
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSearchPage;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow;
+
+/**
+ * Fragmento de JpaItemRepository para búsquedas con SQL dinámico
+ */
+public interface ItemSearchRepository {
+
+    ItemSearchPage<ItemEntity> searchPageWithTotal(SearchCriteria criteria);
+
+    /**
+     * Misma búsqueda que searchPageWithTotal pero trae solo las columnas de la tarjeta de listado
+     */
+    ItemSearchPage<ItemSummaryRow> searchSummaryPage(SearchCriteria criteria);
+
+    int countMatches(SearchCriteria criteria);
+}
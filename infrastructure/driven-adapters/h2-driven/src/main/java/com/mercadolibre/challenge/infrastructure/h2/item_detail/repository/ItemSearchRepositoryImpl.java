@@ -0,0 +1,382 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.repository;
+
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination.KeysetCursor;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSearchPage;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Búsqueda de items en una sola consulta nativa: la página, su categoría y vendedor y el total
+ * (COUNT(*) OVER(), solo en la primera página) viajan en el mismo result set. El WHERE solo incluye los filtros presentes,
+ * así el optimizador no tiene que evaluar predicados del tipo ":param IS NULL OR ...".
+ *
+ * Con cursor la página se resuelve por keyset: el WHERE agrega "clave de orden después del cursor"
+ * y el id desempata en la misma dirección que el orden, así una página profunda cuesta lo mismo que
+ * la primera. En ese modo no se cuenta nada: el total viaja en el cursor desde la primera página y
+ * se pide una fila más que el límite para saber si hay página siguiente, así el LIMIT corta el
+ * recorrido del índice.
+ *
+ * Los filtros por atributo no se traducen en un EXISTS por atributo: cada uno es un SELECT de item_ids
+ * sobre el índice (attribute_id, attribute_value, item_id) y el WHERE recibe "i.id IN (... INTERSECT ...)",
+ * así la intersección la resuelve la base sin traer ids a memoria. Los valores pedidos se pasan primero
+ * a su forma exacta con el diccionario category_attribute_values, así el índice se usa por igualdad.
+ *
+ * searchSummaryPage corre el mismo WHERE/ORDER BY pero proyecta solo las columnas de la tarjeta de
+ * listado, sin materializar entidades ni hacer join con categorías.
+ */
+public class ItemSearchRepositoryImpl implements ItemSearchRepository {
+
+    private static final String FIND_EXACT_ATTRIBUTE_VALUES = """
+            SELECT DISTINCT attribute_value FROM category_attribute_values
+            WHERE attribute_id = :attributeId AND LOWER(attribute_value) IN (:values)
+            """;
+
+    private static final String CREATED_DATE = "i.created_date";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ItemSearchPage<ItemEntity> searchPageWithTotal(SearchCriteria criteria) {
+        PageQuery page = pageQuery(criteria);
+
+        String sql = "SELECT {i.*}, {c.*}, {s.*}" + page.totalColumn
+                + " FROM items i"
+                + " LEFT JOIN categories c ON c.id = i.category_id"
+                + " LEFT JOIN sellers s ON s.id = i.seller_id"
+                + page.where
+                + page.orderAndLimit;
+
+        NativeQuery<Object> query = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addEntity("i", ItemEntity.class)
+                .addJoin("c", "i.category")
+                .addJoin("s", "i.seller");
+        if (page.cursor == null) {
+            query.addScalar("total_count", StandardBasicTypes.LONG);
+        }
+        List<Object> rows = page.bind(query).getResultList();
+        if (rows.isEmpty()) {
+            return emptyPage(page);
+        }
+
+        // sin la columna del total (páginas con cursor) cada fila es la entidad sola
+        List<ItemEntity> items = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            items.add((ItemEntity) (row instanceof Object[] tuple ? tuple[0] : row));
+        }
+        return pageOf(items, rows, page);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ItemSearchPage<ItemSummaryRow> searchSummaryPage(SearchCriteria criteria) {
+        PageQuery page = pageQuery(criteria);
+
+        String sql = "SELECT i.id, i.title, i.price_amount, i.price_currency, i.price_decimals, i.condition_type,"
+                + " i.free_shipping, s.id AS seller_ref, s.nickname, s.reputation_level, s.power_seller_status,"
+                + " i.sold_quantity, i.category_id, i.created_date" + page.totalColumn
+                + " FROM items i"
+                + " LEFT JOIN sellers s ON s.id = i.seller_id"
+                + page.where
+                + page.orderAndLimit;
+
+        NativeQuery<Object[]> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        List<Object[]> rows = page.bind(query).getResultList();
+        if (rows.isEmpty()) {
+            return emptyPage(page);
+        }
+
+        List<ItemSummaryRow> items = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            items.add(new ItemSummaryRow(
+                    (String) row[0],
+                    (String) row[1],
+                    toLong(row[2]),
+                    (String) row[3],
+                    row[4] != null ? ((Number) row[4]).intValue() : null,
+                    (String) row[5],
+                    (Boolean) row[6],
+                    toLong(row[7]),
+                    (String) row[8],
+                    (String) row[9],
+                    (String) row[10],
+                    row[11] != null ? ((Number) row[11]).intValue() : null,
+                    (String) row[12],
+                    toLocalDateTime(row[13])
+            ));
+        }
+        return pageOf(items, rows, page);
+    }
+
+    @Override
+    public int countMatches(SearchCriteria criteria) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        return count(buildWhere(criteria, parameters), parameters);
+    }
+
+    private int count(String where, Map<String, Object> parameters) {
+        var query = entityManager.createNativeQuery("SELECT COUNT(*) FROM items i"
+                + " LEFT JOIN sellers s ON s.id = i.seller_id" + where);
+        parameters.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).intValue();
+    }
+
+    private PageQuery pageQuery(SearchCriteria criteria) {
+        Map<String, Object> filterParameters = new LinkedHashMap<>();
+        String filterWhere = buildWhere(criteria, filterParameters);
+
+        Map<String, Object> cursorParameters = new LinkedHashMap<>();
+        KeysetCursor cursor = KeysetCursor.from(criteria);
+        boolean descending = KeysetCursor.isDescending(criteria);
+        String keyset = buildKeysetPredicate(cursor, descending, cursorParameters);
+
+        int offset = cursor != null ? 0 : Math.max(criteria.getOffset(), 0);
+        String orderAndLimit = " ORDER BY " + buildOrderBy(criteria.getSortBy(), descending) + " LIMIT :limit OFFSET :offset";
+        return new PageQuery(filterWhere, filterParameters, keyset, cursorParameters, orderAndLimit, offset,
+                criteria.getLimit(), cursor);
+    }
+
+    /**
+     * Una página vacía no trae el total: con cursor es el que viaja en el token, y sin cursor solo
+     * hace falta contarlo si se pidió más allá del inicio
+     */
+    private <T> ItemSearchPage<T> emptyPage(PageQuery page) {
+        if (page.cursor != null) {
+            return new ItemSearchPage<>(List.of(), page.cursor.getTotal(), false);
+        }
+        return new ItemSearchPage<>(List.of(), page.offset > 0 ? count(page.filterWhere, page.filterParameters) : 0, false);
+    }
+
+    private <T> ItemSearchPage<T> pageOf(List<T> items, List<?> rows, PageQuery page) {
+        if (page.cursor != null) {
+            // la fila extra solo indica que hay página siguiente
+            boolean hasMore = items.size() > page.limit;
+            return new ItemSearchPage<>(hasMore ? items.subList(0, page.limit) : items, page.cursor.getTotal(), hasMore);
+        }
+        Object[] first = (Object[]) rows.get(0);
+        int total = ((Number) first[first.length - 1]).intValue();
+        return new ItemSearchPage<>(items, total, page.offset + items.size() < total);
+    }
+
+    private Long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private String buildWhere(SearchCriteria criteria, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder(" WHERE i.status = 'active'");
+
+        if (criteria.getQuery() != null) {
+            where.append(" AND LOWER(i.title) LIKE :query");
+            parameters.put("query", "%" + criteria.getQuery().toLowerCase(Locale.ROOT) + "%");
+        }
+        if (criteria.getCategoryId() != null) {
+            where.append(" AND i.category_id = :categoryId");
+            parameters.put("categoryId", criteria.getCategoryId());
+        }
+        if (criteria.getMinPrice() != null) {
+            where.append(" AND i.price_amount >= :minPrice");
+            parameters.put("minPrice", convertToAmount(criteria.getMinPrice()));
+        }
+        if (criteria.getMaxPrice() != null) {
+            where.append(" AND i.price_amount <= :maxPrice");
+            parameters.put("maxPrice", convertToAmount(criteria.getMaxPrice()));
+        }
+        if (criteria.getCondition() != null) {
+            where.append(" AND i.condition_type = :condition");
+            parameters.put("condition", criteria.getCondition());
+        }
+        if (Boolean.TRUE.equals(criteria.getFreeShipping())) {
+            where.append(" AND (i.free_shipping = TRUE OR EXISTS (SELECT 1 FROM shipping_methods sm")
+                    .append(" WHERE sm.item_id = i.id AND sm.free_shipping = TRUE))");
+        }
+        if (criteria.getSellerReputation() != null) {
+            where.append(" AND s.reputation_level = :sellerReputation");
+            parameters.put("sellerReputation", criteria.getSellerReputation());
+        }
+        if (criteria.getSellerId() != null) {
+            where.append(" AND i.seller_id = :sellerId");
+            parameters.put("sellerId", criteria.getSellerId());
+        }
+        if (!criteria.getAttributes().isEmpty()) {
+            where.append(buildAttributePredicate(criteria.getAttributes(), parameters));
+        }
+        return where.toString();
+    }
+
+    /**
+     * Un SELECT de item_ids por atributo, intersectados en la base; si algún atributo no tiene ninguno de
+     * los valores pedidos en el diccionario no hay coincidencias y no hace falta consultar item_attributes
+     */
+    private String buildAttributePredicate(Map<String, List<String>> attributes, Map<String, Object> parameters) {
+        List<String> selects = new ArrayList<>(attributes.size());
+        Map<String, Object> attributeParameters = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> attribute : attributes.entrySet()) {
+            List<String> values = exactAttributeValues(attribute.getKey(), attribute.getValue());
+            if (values.isEmpty()) {
+                return " AND FALSE";
+            }
+            int position = selects.size();
+            selects.add("SELECT item_id FROM item_attributes WHERE attribute_id = :attributeId" + position
+                    + " AND attribute_value IN (:attributeValues" + position + ")");
+            attributeParameters.put("attributeId" + position, attribute.getKey());
+            attributeParameters.put("attributeValues" + position, values);
+        }
+        parameters.putAll(attributeParameters);
+        return " AND i.id IN (" + String.join(" INTERSECT ", selects) + ")";
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> exactAttributeValues(String attributeId, List<String> values) {
+        List<String> lowered = values.stream()
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .toList();
+        return entityManager.createNativeQuery(FIND_EXACT_ATTRIBUTE_VALUES)
+                .setParameter("attributeId", attributeId)
+                .setParameter("values", lowered)
+                .getResultList();
+    }
+
+    /**
+     * (k1, k2, id) después del cursor, expandido como k1 op v1 OR (k1 = v1 AND (k2 op v2 OR (k2 = v2 AND id op v3))).
+     * created_date admite NULL y el ORDER BY los ubica como el valor más chico (primeros en ASC, últimos en DESC),
+     * así que sus comparaciones se arman con ramas IS NULL en lugar de un "=" o "<" que descartaría esas filas.
+     */
+    private String buildKeysetPredicate(KeysetCursor cursor, boolean descending, Map<String, Object> parameters) {
+        if (cursor == null) {
+            return "";
+        }
+        List<String> columns = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        switch (cursor.getSortBy()) {
+            case "price" -> {
+                columns.add("i.price_amount");
+                values.add(cursor.getPriceAmount());
+            }
+            case "sold_quantity" -> {
+                columns.add("i.sold_quantity");
+                values.add(cursor.getSoldQuantity());
+            }
+            case "created_date" -> {
+                columns.add(CREATED_DATE);
+                values.add(cursor.getCreatedDate());
+            }
+            default -> {
+                columns.add("i.sold_quantity");
+                values.add(cursor.getSoldQuantity());
+                columns.add(CREATED_DATE);
+                values.add(cursor.getCreatedDate());
+            }
+        }
+        columns.add("i.id");
+        values.add(cursor.getId());
+
+        String predicate = null;
+        for (int position = columns.size() - 1; position >= 0; position--) {
+            String column = columns.get(position);
+            Object value = values.get(position);
+            String parameter = "cursor" + position;
+            if (value != null) {
+                parameters.put(parameter, value);
+            }
+            String after = after(column, value, parameter, descending);
+            predicate = predicate == null
+                    ? after
+                    : "(" + after + " OR (" + equal(column, value, parameter) + " AND " + predicate + "))";
+        }
+        return " AND " + predicate;
+    }
+
+    /**
+     * Filas estrictamente después del valor del cursor, con NULL ordenado como el menor valor
+     */
+    private String after(String column, Object value, String parameter, boolean descending) {
+        boolean nullable = CREATED_DATE.equals(column);
+        if (value == null) {
+            // en ASC los NULL van primero y sigue cualquier valor; en DESC van últimos y no hay nada después
+            return descending ? "FALSE" : column + " IS NOT NULL";
+        }
+        if (descending) {
+            return nullable
+                    ? "(" + column + " < :" + parameter + " OR " + column + " IS NULL)"
+                    : column + " < :" + parameter;
+        }
+        return column + " > :" + parameter;
+    }
+
+    private String equal(String column, Object value, String parameter) {
+        return value == null ? column + " IS NULL" : column + " = :" + parameter;
+    }
+
+    private String buildOrderBy(String sortBy, boolean descending) {
+        String direction = descending ? "DESC" : "ASC";
+
+        return switch (KeysetCursor.normalizeSort(sortBy)) {
+            case "price" -> "i.price_amount " + direction + ", i.id " + direction;
+            case "sold_quantity" -> "i.sold_quantity " + direction + ", i.id " + direction;
+            case "created_date" -> "i.created_date " + direction + (descending ? " NULLS LAST" : " NULLS FIRST")
+                    + ", i.id " + direction;
+            default -> "i.sold_quantity DESC, i.created_date DESC NULLS LAST, i.id DESC";
+        };
+    }
+
+    private Long convertToAmount(BigDecimal price) {
+        return price.multiply(new BigDecimal("100")).longValue();
+    }
+
+    private static final class PageQuery {
+        private final String filterWhere;
+        private final Map<String, Object> filterParameters;
+        private final String where;
+        private final Map<String, Object> parameters;
+        private final String orderAndLimit;
+        private final int offset;
+        private final int limit;
+        private final KeysetCursor cursor;
+        private final String totalColumn;
+
+        private PageQuery(String filterWhere, Map<String, Object> filterParameters, String keyset,
+                          Map<String, Object> cursorParameters, String orderAndLimit, int offset, int limit,
+                          KeysetCursor cursor) {
+            this.filterWhere = filterWhere;
+            this.filterParameters = filterParameters;
+            this.where = filterWhere + keyset;
+            this.parameters = new LinkedHashMap<>(filterParameters);
+            this.parameters.putAll(cursorParameters);
+            this.orderAndLimit = orderAndLimit;
+            this.offset = offset;
+            this.limit = limit;
+            this.cursor = cursor;
+            this.totalColumn = cursor == null ? ", COUNT(*) OVER() AS total_count" : "";
+        }
+
+        private <T> NativeQuery<T> bind(NativeQuery<T> query) {
+            parameters.forEach(query::setParameter);
+            query.setParameter("limit", cursor != null ? limit + 1 : limit);
+            query.setParameter("offset", offset);
+            return query;
+        }
+    }
+}
@@ -1,18 +1,25 @@
 package com.mercadolibre.challenge.infrastructure.h2.item_detail.repository;
 
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemAttributeEntity;
 import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemPictureEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ShippingMethodEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemAttributeValueRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemIndexRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemThumbnailRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JpaItemRepository extends JpaRepository<ItemEntity, String> {
+public interface JpaItemRepository extends JpaRepository<ItemEntity, String>, ItemSearchRepository {
 
     @Query("""
             SELECT i FROM ItemEntity i
@@ -23,108 +30,134 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, String> {
     Optional<ItemEntity> findByIdWithDetails(@Param("id") String id);
 
     @Query("""
-            SELECT DISTINCT i FROM ItemEntity i
-            LEFT JOIN i.category c
-            LEFT JOIN i.seller s
-            LEFT JOIN i.shippingMethods sm
-            WHERE (:query IS NULL OR LOWER(i.title) LIKE LOWER(CONCAT('%', :query, '%')))
-            AND (:categoryId IS NULL OR c.id = :categoryId)
-            AND (:minPrice IS NULL OR i.priceAmount >= :minPrice)
-            AND (:maxPrice IS NULL OR i.priceAmount <= :maxPrice)
-            AND (:condition IS NULL OR i.conditionType = :condition)
-            AND (:freeShipping IS NULL OR :freeShipping = FALSE OR i.freeShipping = TRUE OR EXISTS (SELECT 1 FROM i.shippingMethods sm2 WHERE sm2.freeShipping = TRUE))
-            AND (:sellerReputation IS NULL OR s.reputationLevel = :sellerReputation)
-            AND i.status = 'active'
+            SELECT i FROM ItemEntity i
+            LEFT JOIN FETCH i.category
+            LEFT JOIN FETCH i.seller
+            WHERE i.id IN :ids
             """)
-    List<ItemEntity> findItemsBySearchCriteria(
-            @Param("query") String query,
-            @Param("categoryId") String categoryId,
-            @Param("minPrice") Long minPrice,
-            @Param("maxPrice") Long maxPrice,
-            @Param("condition") String condition,
-            @Param("freeShipping") Boolean freeShipping,
-            @Param("sellerReputation") String sellerReputation,
-            Pageable pageable
-    );
+    List<ItemEntity> findAllByIdWithDetails(@Param("ids") Collection<String> ids);
 
     @Query("""
-            SELECT COUNT(DISTINCT i) FROM ItemEntity i
-            LEFT JOIN i.category c
+            SELECT new com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow(
+                   i.id, i.title, i.priceAmount, i.priceCurrency, i.priceDecimals, i.conditionType, i.freeShipping,
+                   s.id, s.nickname, s.reputationLevel, s.powerSellerStatus, i.soldQuantity, i.categoryId, i.createdDate)
+            FROM ItemEntity i
             LEFT JOIN i.seller s
-            LEFT JOIN i.shippingMethods sm
-            WHERE (:query IS NULL OR LOWER(i.title) LIKE LOWER(CONCAT('%', :query, '%')))
-            AND (:categoryId IS NULL OR c.id = :categoryId)
-            AND (:minPrice IS NULL OR i.priceAmount >= :minPrice)
-            AND (:maxPrice IS NULL OR i.priceAmount <= :maxPrice)
-            AND (:condition IS NULL OR i.conditionType = :condition)
-            AND (:freeShipping IS NULL OR :freeShipping = FALSE OR i.freeShipping = TRUE OR EXISTS (SELECT 1 FROM i.shippingMethods sm2 WHERE sm2.freeShipping = TRUE))
-            AND (:sellerReputation IS NULL OR s.reputationLevel = :sellerReputation)
-            AND i.status = 'active'
+            WHERE i.id IN :ids
             """)
-    int countItemsBySearchCriteria(
-            @Param("query") String query,
-            @Param("categoryId") String categoryId,
-            @Param("minPrice") Long minPrice,
-            @Param("maxPrice") Long maxPrice,
-            @Param("condition") String condition,
-            @Param("freeShipping") Boolean freeShipping,
-            @Param("sellerReputation") String sellerReputation
-    );
+    List<ItemSummaryRow> findSummaryRowsByIds(@Param("ids") Collection<String> ids);
 
     @Query("""
-            SELECT i FROM ItemEntity i
-            LEFT JOIN FETCH i.category
-            LEFT JOIN FETCH i.seller
+            SELECT new com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow(
+                   i.id, i.title, i.priceAmount, i.priceCurrency, i.priceDecimals, i.conditionType, i.freeShipping,
+                   s.id, s.nickname, s.reputationLevel, s.powerSellerStatus, i.soldQuantity, i.categoryId, i.createdDate)
+            FROM ItemEntity i
+            LEFT JOIN i.seller s
             WHERE i.status = 'active'
             ORDER BY i.soldQuantity DESC
             """)
-    List<ItemEntity> findBestSellers(Pageable pageable);
+    List<ItemSummaryRow> findBestSellerSummaries(Pageable pageable);
 
     @Query("""
-            SELECT i FROM ItemEntity i
-            LEFT JOIN FETCH i.category c
-            LEFT JOIN FETCH i.seller
-            WHERE c.id = :categoryId AND i.status = 'active'
+            SELECT new com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow(
+                   i.id, i.title, i.priceAmount, i.priceCurrency, i.priceDecimals, i.conditionType, i.freeShipping,
+                   s.id, s.nickname, s.reputationLevel, s.powerSellerStatus, i.soldQuantity, i.categoryId, i.createdDate)
+            FROM ItemEntity i
+            LEFT JOIN i.seller s
+            WHERE i.categoryId = :categoryId AND i.status = 'active'
             ORDER BY i.soldQuantity DESC, i.createdDate DESC
             """)
-    List<ItemEntity> findTrendingByCategory(@Param("categoryId") String categoryId, Pageable pageable);
+    List<ItemSummaryRow> findTrendingSummariesByCategory(@Param("categoryId") String categoryId, Pageable pageable);
 
     @Query("""
-            SELECT i FROM ItemEntity i
-            LEFT JOIN FETCH i.category c1
-            LEFT JOIN FETCH i.seller
-            WHERE c1.id = (SELECT c2.id FROM ItemEntity i2 LEFT JOIN i2.category c2 WHERE i2.id = :itemId)
+            SELECT new com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow(
+                   i.id, i.title, i.priceAmount, i.priceCurrency, i.priceDecimals, i.conditionType, i.freeShipping,
+                   s.id, s.nickname, s.reputationLevel, s.powerSellerStatus, i.soldQuantity, i.categoryId, i.createdDate)
+            FROM ItemEntity i
+            LEFT JOIN i.seller s
+            WHERE i.categoryId = (SELECT i2.categoryId FROM ItemEntity i2 WHERE i2.id = :itemId)
             AND i.id != :itemId
             AND i.status = 'active'
             ORDER BY i.soldQuantity DESC
             """)
-    List<ItemEntity> findSimilarItemsByCategory(@Param("itemId") String itemId, Pageable pageable);
+    List<ItemSummaryRow> findSimilarItemSummaries(@Param("itemId") String itemId, Pageable pageable);
 
+    /**
+     * Recorre idx_items_seller_status_created en orden y corta en el límite; no cuenta el resto
+     */
     @Query("""
-            SELECT i FROM ItemEntity i
-            LEFT JOIN FETCH i.category
-            LEFT JOIN FETCH i.seller
-            WHERE i.category.id = :categoryId AND i.status = 'active'
-            ORDER BY i.createdDate DESC
+            SELECT new com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemSummaryRow(
+                   i.id, i.title, i.priceAmount, i.priceCurrency, i.priceDecimals, i.conditionType, i.freeShipping,
+                   s.id, s.nickname, s.reputationLevel, s.powerSellerStatus, i.soldQuantity, i.categoryId, i.createdDate)
+            FROM ItemEntity i
+            LEFT JOIN i.seller s
+            WHERE i.sellerId = :sellerId AND i.status = 'active'
+            ORDER BY i.createdDate DESC NULLS LAST, i.id DESC
+            """)
+    List<ItemSummaryRow> findRecentSummariesBySeller(@Param("sellerId") Long sellerId, Pageable pageable);
+
+    /**
+     * Lee el diccionario category_attribute_values que mantienen los triggers sobre items e item_attributes:
+     * con categoría es un rango de la clave primaria, ya ordenado, sin recorrer item_attributes
+     */
+    @Query(value = """
+            SELECT DISTINCT attribute_value FROM category_attribute_values
+            WHERE attribute_id = :attributeId
+            AND (:categoryId IS NULL OR category_id = :categoryId)
+            ORDER BY attribute_value
+            """, nativeQuery = true)
+    List<String> findDistinctAttributeValues(@Param("attributeId") String attributeId, @Param("categoryId") String categoryId);
+
+    @Query("""
+            SELECT a FROM ItemAttributeEntity a
+            WHERE a.itemId IN :itemIds
+            ORDER BY a.id
             """)
-    List<ItemEntity> findByCategory(@Param("categoryId") String categoryId, Pageable pageable);
+    List<ItemAttributeEntity> findAttributesByItemIds(@Param("itemIds") Collection<String> itemIds);
 
     @Query("""
-            SELECT i FROM ItemEntity i
-            LEFT JOIN FETCH i.category
-            LEFT JOIN FETCH i.seller
-            WHERE i.seller.id = :sellerId AND i.status = 'active'
-            ORDER BY i.createdDate DESC
+            SELECT p FROM ItemPictureEntity p
+            WHERE p.itemId IN :itemIds
+            ORDER BY p.pictureOrder ASC
             """)
-    List<ItemEntity> findBySeller(@Param("sellerId") Long sellerId, Pageable pageable);
+    List<ItemPictureEntity> findPicturesByItemIds(@Param("itemIds") Collection<String> itemIds);
 
     @Query("""
-            SELECT DISTINCT a.attributeValue FROM ItemAttributeEntity a
-            LEFT JOIN a.item i
-            WHERE a.attributeId = :attributeId
-            AND (:categoryId IS NULL OR i.category.id = :categoryId)
-            AND i.status = 'active'
-            ORDER BY a.attributeValue
+            SELECT sm FROM ShippingMethodEntity sm
+            WHERE sm.itemId IN :itemIds
+            ORDER BY sm.id
             """)
-    List<String> findDistinctAttributeValues(@Param("attributeId") String attributeId, @Param("categoryId") String categoryId);
-}
\ No newline at end of file
+    List<ShippingMethodEntity> findShippingMethodsByItemIds(@Param("itemIds") Collection<String> itemIds);
+
+    @Query("""
+            SELECT p.itemId AS itemId, p.url AS url FROM ItemPictureEntity p
+            WHERE p.itemId IN :itemIds
+            AND p.pictureOrder = (SELECT MIN(p2.pictureOrder) FROM ItemPictureEntity p2 WHERE p2.itemId = p.itemId)
+            """)
+    List<ItemThumbnailRow> findThumbnailsByItemIds(@Param("itemIds") Collection<String> itemIds);
+
+    @Query("""
+            SELECT i.id AS id, i.title AS title, i.categoryId AS categoryId, c.pathFromRoot AS categoryPath,
+                   i.priceAmount AS priceAmount, i.conditionType AS conditionType, i.freeShipping AS freeShipping,
+                   s.reputationLevel AS sellerReputation, i.sellerId AS sellerId, i.soldQuantity AS soldQuantity, i.createdDate AS createdDate
+            FROM ItemEntity i
+            LEFT JOIN i.category c
+            LEFT JOIN i.seller s
+            WHERE i.status = 'active' AND i.id > :afterId
+            ORDER BY i.id
+            """)
+    List<ItemIndexRow> findIndexRowsAfter(@Param("afterId") String afterId, Pageable pageable);
+
+    @Query("""
+            SELECT a.itemId AS itemId, a.attributeId AS attributeId, a.attributeValue AS attributeValue
+            FROM ItemAttributeEntity a
+            WHERE a.itemId IN :itemIds
+            """)
+    List<ItemAttributeValueRow> findAttributeValuesByItemIds(@Param("itemIds") Collection<String> itemIds);
+
+    @Query("""
+            SELECT DISTINCT sm.itemId FROM ShippingMethodEntity sm
+            WHERE sm.itemId IN :itemIds AND sm.freeShipping = TRUE
+            """)
+    List<String> findItemIdsWithFreeShippingMethod(@Param("itemIds") Collection<String> itemIds);
+}
@@ -0,0 +1,58 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.search;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Documento de entrada del índice: solo los campos de un item que la búsqueda filtra u ordena
+ */
+public class IndexedItem {
+
+    private final String id;
+    private final String title;
+    private final String categoryId;
+    private final String categoryPath;
+    private final Map<String, List<String>> attributes;
+    private final long priceAmount;
+    private final String conditionType;
+    private final boolean freeShipping;
+    private final String sellerReputation;
+    private final Long sellerId;
+    private final int soldQuantity;
+    private final LocalDateTime createdDate;
+
+    public IndexedItem(String id, String title, String categoryId, String categoryPath,
+                       Map<String, List<String>> attributes, long priceAmount, String conditionType,
+                       boolean freeShipping, String sellerReputation, Long sellerId, int soldQuantity,
+                       LocalDateTime createdDate) {
+        this.id = id;
+        this.title = title;
+        this.categoryId = categoryId;
+        this.categoryPath = categoryPath;
+        this.attributes = attributes != null ? attributes : Map.of();
+        this.priceAmount = priceAmount;
+        this.conditionType = conditionType;
+        this.freeShipping = freeShipping;
+        this.sellerReputation = sellerReputation;
+        this.sellerId = sellerId;
+        this.soldQuantity = soldQuantity;
+        this.createdDate = createdDate;
+    }
+
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public String getCategoryId() { return categoryId; }
+    public String getCategoryPath() { return categoryPath; }
+    /**
+     * Valores de atributo por attributeId
+     */
+    public Map<String, List<String>> getAttributes() { return attributes; }
+    public long getPriceAmount() { return priceAmount; }
+    public String getConditionType() { return conditionType; }
+    public boolean isFreeShipping() { return freeShipping; }
+    public String getSellerReputation() { return sellerReputation; }
+    public Long getSellerId() { return sellerId; }
+    public int getSoldQuantity() { return soldQuantity; }
+    public LocalDateTime getCreatedDate() { return createdDate; }
+}
@@ -0,0 +1,132 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.search;
+
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.adapter.ItemRepositoryAdapter;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination.KeysetCursor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decorador de ItemRepositoryAdapter que resuelve las búsquedas con el índice invertido en memoria
+ * y solo va a la base de datos para hidratar la página de resultados por id (resúmenes de listado,
+ * o agregados completos para searchItems).
+ * El resto de las operaciones se delegan sin cambios.
+ *
+ * El texto libre no se busca igual en las dos rutas:
+ * - El índice separa la consulta en términos (sin acentos, cortando en lo que no es alfanumérico) y exige
+ *   que cada uno sea prefijo de alguna palabra del título, la ruta de categorías o los valores de atributo.
+ * - El delegado busca la consulta entera como subcadena del título (LOWER(title) LIKE '%q%').
+ * Así "camara" encuentra "Cámara de fotos" y "celulares" los items de esa categoría solo con el índice,
+ * mientras que "phone" (dentro de "iPhone") o "!!!" solo coinciden en la base. La ruta de la base se usa
+ * con search.index.enabled=false y, con el índice activo, hasta que termina de construirse el primer
+ * snapshot; los filtros exactos, el orden y la paginación son los mismos en ambas.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "search.index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IndexedItemRepository implements ItemRepository {
+
+    private final ItemRepositoryAdapter delegate;
+    private final ItemSearchIndex searchIndex;
+
+    public IndexedItemRepository(ItemRepositoryAdapter delegate, ItemSearchIndex searchIndex) {
+        this.delegate = delegate;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public Optional<Item> findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public List<Item> findAllByIds(Collection<String> ids) {
+        return delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<ItemSummary> findSummariesByIds(Collection<String> ids) {
+        return delegate.findSummariesByIds(ids);
+    }
+
+    @Override
+    public Map<String, List<ItemAttribute>> findAttributesByItemIds(Collection<String> ids) {
+        return delegate.findAttributesByItemIds(ids);
+    }
+
+    @Override
+    public List<Item> searchItems(SearchCriteria criteria) {
+        if (!searchIndex.isReady()) {
+            return delegate.searchItems(criteria);
+        }
+        return delegate.findAllByIds(searchIndex.search(criteria).getIds());
+    }
+
+    @Override
+    public int countSearchResults(SearchCriteria criteria) {
+        if (!searchIndex.isReady()) {
+            return delegate.countSearchResults(criteria);
+        }
+        return searchIndex.search(criteria).getTotal();
+    }
+
+    @Override
+    public SearchResult searchWithTotal(SearchCriteria criteria) {
+        if (!searchIndex.isReady()) {
+            return delegate.searchWithTotal(criteria);
+        }
+        ItemIndexSnapshot.Hits hits = searchIndex.searchWithFacets(criteria);
+        List<ItemSummary> items = delegate.findSummariesByIds(hits.getIds());
+        return new SearchResult(items, hits.getTotal(), KeysetCursor.next(criteria, items, hits.getTotal(), hits.hasMore()),
+                hits.getFacets());
+    }
+
+    @Override
+    public List<ItemSummary> findBestSellers(int limit) {
+        return delegate.findBestSellers(limit);
+    }
+
+    @Override
+    public List<ItemSummary> findTrendingByCategory(String categoryId, int limit) {
+        return delegate.findTrendingByCategory(categoryId, limit);
+    }
+
+    @Override
+    public List<ItemSummary> findSimilarItems(String itemId, int limit) {
+        return delegate.findSimilarItems(itemId, limit);
+    }
+
+    @Override
+    public List<Item> findByCategory(String categoryId, int limit, int offset) {
+        return delegate.findByCategory(categoryId, limit, offset);
+    }
+
+    @Override
+    public List<Item> findBySeller(Long sellerId, int limit, int offset) {
+        return delegate.findBySeller(sellerId, limit, offset);
+    }
+
+    @Override
+    public List<ItemSummary> findRecentBySeller(Long sellerId, int limit) {
+        return delegate.findRecentBySeller(sellerId, limit);
+    }
+
+    @Override
+    public List<String> getDistinctAttributeValues(String attributeId, String categoryId) {
+        return delegate.getDistinctAttributeValues(attributeId, categoryId);
+    }
+}
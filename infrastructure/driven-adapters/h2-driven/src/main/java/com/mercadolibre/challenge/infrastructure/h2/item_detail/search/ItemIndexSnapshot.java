@@ -0,0 +1,574 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.search;
+
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets.FacetCount;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets.PriceRangeCount;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination.KeysetCursor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Índice invertido inmutable sobre los items activos.
+ *
+ * Cada item recibe un docId denso (0..n-1). Los términos de título, valores de atributos y
+ * ruta de categoría apuntan a listas ordenadas de docIds, y los filtros exactos (categoría,
+ * condición, reputación, envío gratis, cada par atributo/valor) se guardan como BitSet.
+ * Un filtro por atributo es el OR de los BitSet de sus valores, intersectado con el resto. Para ordenar se precalcula,
+ * por cada criterio de orden, la permutación de docIds y el rank de cada doc, de modo que
+ * paginar no requiere comparar objetos en cada request.
+ *
+ * La permutación está ordenada por clave ascendente y luego id, igual que el ORDER BY de la
+ * búsqueda en base, por lo que un cursor de keyset se traduce a un rango de posiciones con
+ * una búsqueda binaria.
+ *
+ * Las facetas (condición, envío gratis, reputación, marca y rangos de precio) se cuentan sobre
+ * el mismo BitSet de coincidencias que produce el filtro: cada valor guarda sus docs como palabras
+ * de 64 bits y el conteo es un AND + bitCount palabra a palabra, sin materializar intersecciones.
+ * Los límites de los rangos de precio salen de los quintiles de precio del índice, redondeados.
+ */
+public final class ItemIndexSnapshot {
+
+    private static final BitSet EMPTY = new BitSet();
+    private static final int DENSE_RESULT_RATIO = 16;
+    private static final int PRICE_RANGES = 5;
+    private static final int MAX_BRAND_VALUES = 20;
+    private static final String BRAND_ATTRIBUTE = "BRAND";
+
+    private final int size;
+    private final String[] ids;
+    private final long[] prices;
+    private final int[] soldQuantities;
+    private final long[] createdDates;
+
+    private final String[] terms;
+    private final int[][] postings;
+
+    private final Map<String, BitSet> byCategory;
+    private final Map<String, BitSet> byCondition;
+    private final Map<String, BitSet> bySellerReputation;
+    private final Map<Long, BitSet> bySeller;
+    private final Map<String, Map<String, BitSet>> byAttribute;
+    private final BitSet freeShipping;
+
+    private final FacetField conditionFacet;
+    private final FacetField reputationFacet;
+    private final FacetField brandFacet;
+    private final long[] freeShippingWords;
+    private final long[] priceRangeStarts;
+    private final long[][] priceRangeWords;
+
+    private final EnumMap<SortKey, Ordering> orderings;
+
+    private ItemIndexSnapshot(List<IndexedItem> items) {
+        this.size = items.size();
+        this.ids = new String[size];
+        this.prices = new long[size];
+        this.soldQuantities = new int[size];
+        this.createdDates = new long[size];
+        this.byCategory = new HashMap<>();
+        this.byCondition = new HashMap<>();
+        this.bySellerReputation = new HashMap<>();
+        this.bySeller = new HashMap<>();
+        this.byAttribute = new HashMap<>();
+        this.freeShipping = new BitSet(size);
+        Map<String, BitSet> byBrand = new HashMap<>();
+
+        TreeMap<String, IntList> termPostings = new TreeMap<>();
+
+        for (int doc = 0; doc < size; doc++) {
+            IndexedItem item = items.get(doc);
+            ids[doc] = item.getId();
+            prices[doc] = item.getPriceAmount();
+            soldQuantities[doc] = item.getSoldQuantity();
+            createdDates[doc] = toEpochMilli(item.getCreatedDate());
+
+            addToBitSet(byCategory, item.getCategoryId(), doc);
+            addToBitSet(byCondition, item.getConditionType(), doc);
+            addToBitSet(bySellerReputation, item.getSellerReputation(), doc);
+            addToBitSet(bySeller, item.getSellerId(), doc);
+            List<String> brands = item.getAttributes().getOrDefault(BRAND_ATTRIBUTE, List.of());
+            addToBitSet(byBrand, brands.isEmpty() ? null : brands.get(0), doc);
+            if (item.isFreeShipping()) {
+                freeShipping.set(doc);
+            }
+
+            Set<String> docTerms = new HashSet<>(SearchTextAnalyzer.tokenize(item.getTitle()));
+            docTerms.addAll(SearchTextAnalyzer.tokenize(item.getCategoryPath()));
+            for (Map.Entry<String, List<String>> attribute : item.getAttributes().entrySet()) {
+                Map<String, BitSet> byValue = byAttribute.computeIfAbsent(attribute.getKey(), k -> new HashMap<>());
+                for (String value : attribute.getValue()) {
+                    addToBitSet(byValue, value.toLowerCase(Locale.ROOT), doc);
+                    docTerms.addAll(SearchTextAnalyzer.tokenize(value));
+                }
+            }
+            for (String term : docTerms) {
+                termPostings.computeIfAbsent(term, k -> new IntList()).add(doc);
+            }
+        }
+
+        this.terms = termPostings.keySet().toArray(new String[0]);
+        this.postings = termPostings.values().stream()
+                .map(IntList::toArray)
+                .toArray(int[][]::new);
+
+        this.orderings = new EnumMap<>(SortKey.class);
+        for (SortKey key : SortKey.values()) {
+            orderings.put(key, new Ordering(sortedDocs(key)));
+        }
+
+        this.conditionFacet = new FacetField(byCondition);
+        this.reputationFacet = new FacetField(bySellerReputation);
+        this.brandFacet = new FacetField(byBrand);
+        this.freeShippingWords = freeShipping.toLongArray();
+        this.priceRangeStarts = priceRangeStarts(orderings.get(SortKey.PRICE).order);
+        this.priceRangeWords = priceRangeWords();
+    }
+
+    public static ItemIndexSnapshot build(List<IndexedItem> items) {
+        return new ItemIndexSnapshot(items);
+    }
+
+    public Hits search(SearchCriteria criteria) {
+        return search(criteria, false);
+    }
+
+    /**
+     * Busca y, si withFacets, cuenta las facetas sobre todas las coincidencias del filtro.
+     * El cursor y el offset solo acotan la página, no los conteos: total es siempre el de todas las
+     * coincidencias y remaining el de las que quedan desde el cursor.
+     */
+    public Hits search(SearchCriteria criteria, boolean withFacets) {
+        BitSet matches = filter(criteria);
+        SearchFacets facets = withFacets ? facets(matches) : null;
+
+        SortKey key = SortKey.from(criteria.getSortBy());
+        Ordering ordering = orderings.get(key);
+        boolean descending = KeysetCursor.isDescending(criteria);
+        KeysetCursor cursor = KeysetCursor.from(criteria);
+
+        // Rango [from, to) de la permutación ascendente que queda después del cursor
+        int from = 0;
+        int to = size;
+        if (cursor != null) {
+            long[] cursorValues = cursorValues(key, cursor);
+            if (descending) {
+                to = firstPositionAtLeast(ordering, key, cursorValues, cursor.getId(), false);
+            } else {
+                from = firstPositionAtLeast(ordering, key, cursorValues, cursor.getId(), true);
+            }
+        }
+
+        int total = matches.cardinality();
+        int remaining = from == 0 && to == size ? total : countInRange(matches, ordering, from, to);
+        int offset = cursor != null ? 0 : Math.max(criteria.getOffset(), 0);
+        int[] page = page(matches, remaining, ordering, descending, from, to, offset, criteria.getLimit());
+
+        List<String> pageIds = new ArrayList<>(page.length);
+        for (int doc : page) {
+            pageIds.add(ids[doc]);
+        }
+        return new Hits(pageIds, total, remaining, offset + page.length < remaining, facets);
+    }
+
+    private SearchFacets facets(BitSet matches) {
+        long[] words = matches.toLongArray();
+        int fromWord = matches.isEmpty() ? 0 : matches.nextSetBit(0) >> 6;
+
+        List<PriceRangeCount> priceRanges = new ArrayList<>(priceRangeStarts.length);
+        for (int range = 0; range < priceRangeStarts.length; range++) {
+            int count = intersectionCount(words, priceRangeWords[range], fromWord);
+            if (count > 0) {
+                Long maxAmount = range + 1 < priceRangeStarts.length ? priceRangeStarts[range + 1] - 1 : null;
+                priceRanges.add(new PriceRangeCount(priceRangeStarts[range], maxAmount, count));
+            }
+        }
+
+        return new SearchFacets(
+                conditionFacet.count(words, fromWord, Integer.MAX_VALUE),
+                intersectionCount(words, freeShippingWords, fromWord),
+                reputationFacet.count(words, fromWord, Integer.MAX_VALUE),
+                brandFacet.count(words, fromWord, MAX_BRAND_VALUES),
+                priceRanges
+        );
+    }
+
+    /**
+     * Inicio (inclusivo, en centavos) de cada rango de precio: el primero arranca en 0 y los demás
+     * en los quintiles de precio redondeados a dos cifras significativas, sin repetir
+     */
+    private long[] priceRangeStarts(int[] byPrice) {
+        long[] starts = new long[PRICE_RANGES];
+        int count = 1;
+        for (int range = 1; range < PRICE_RANGES && size > 0; range++) {
+            long start = roundDownToTwoDigits(prices[byPrice[range * size / PRICE_RANGES]] / 100) * 100;
+            if (start > starts[count - 1]) {
+                starts[count++] = start;
+            }
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    private long[][] priceRangeWords() {
+        BitSet[] ranges = new BitSet[priceRangeStarts.length];
+        for (int range = 0; range < ranges.length; range++) {
+            ranges[range] = new BitSet(size);
+        }
+        for (int doc = 0; doc < size; doc++) {
+            int position = Arrays.binarySearch(priceRangeStarts, prices[doc]);
+            ranges[position >= 0 ? position : Math.max(-position - 2, 0)].set(doc);
+        }
+        return Arrays.stream(ranges)
+                .map(BitSet::toLongArray)
+                .toArray(long[][]::new);
+    }
+
+    private static long roundDownToTwoDigits(long value) {
+        long magnitude = 1;
+        while (value / magnitude >= 100) {
+            magnitude *= 10;
+        }
+        return value / magnitude * magnitude;
+    }
+
+    private static int intersectionCount(long[] matches, long[] values, int fromWord) {
+        int count = 0;
+        int toWord = Math.min(matches.length, values.length);
+        for (int word = fromWord; word < toWord; word++) {
+            count += Long.bitCount(matches[word] & values[word]);
+        }
+        return count;
+    }
+
+    private BitSet filter(SearchCriteria criteria) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+
+        if (criteria.getQuery() != null && !criteria.getQuery().isBlank()) {
+            List<String> tokens = SearchTextAnalyzer.tokenize(criteria.getQuery());
+            // sin términos alfanuméricos ("!!!") no hay prefijo que buscar en el índice: no coincide con nada.
+            // El LIKE de la base sí encuentra títulos con esa subcadena (ver IndexedItemRepository)
+            if (tokens.isEmpty()) {
+                result.clear();
+                return result;
+            }
+            for (String token : tokens) {
+                result.and(prefixPostings(token));
+                if (result.isEmpty()) return result;
+            }
+        }
+        if (criteria.getCategoryId() != null) {
+            result.and(byCategory.getOrDefault(criteria.getCategoryId(), EMPTY));
+        }
+        if (criteria.getCondition() != null) {
+            result.and(byCondition.getOrDefault(criteria.getCondition(), EMPTY));
+        }
+        if (criteria.getSellerReputation() != null) {
+            result.and(bySellerReputation.getOrDefault(criteria.getSellerReputation(), EMPTY));
+        }
+        if (criteria.getSellerId() != null) {
+            result.and(bySeller.getOrDefault(criteria.getSellerId(), EMPTY));
+        }
+        if (Boolean.TRUE.equals(criteria.getFreeShipping())) {
+            result.and(freeShipping);
+        }
+        for (Map.Entry<String, List<String>> attribute : criteria.getAttributes().entrySet()) {
+            result.and(attributeMatches(attribute.getKey(), attribute.getValue()));
+            if (result.isEmpty()) return result;
+        }
+        if (criteria.getMinPrice() != null || criteria.getMaxPrice() != null) {
+            applyPriceRange(result, toAmount(criteria.getMinPrice()), toAmount(criteria.getMaxPrice()));
+        }
+        return result;
+    }
+
+    private BitSet attributeMatches(String attributeId, List<String> values) {
+        Map<String, BitSet> byValue = byAttribute.getOrDefault(attributeId, Map.of());
+        BitSet docs = new BitSet(size);
+        for (String value : values) {
+            docs.or(byValue.getOrDefault(value.toLowerCase(Locale.ROOT), EMPTY));
+        }
+        return docs;
+    }
+
+    private BitSet prefixPostings(String prefix) {
+        BitSet docs = new BitSet(size);
+        int position = Arrays.binarySearch(terms, prefix);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        while (position < terms.length && terms[position].startsWith(prefix)) {
+            for (int doc : postings[position]) {
+                docs.set(doc);
+            }
+            position++;
+        }
+        return docs;
+    }
+
+    private void applyPriceRange(BitSet result, Long minAmount, Long maxAmount) {
+        int[] byPrice = orderings.get(SortKey.PRICE).order;
+        int from = minAmount != null ? firstPositionWithPriceAtLeast(byPrice, minAmount) : 0;
+        int to = maxAmount != null ? firstPositionWithPriceAtLeast(byPrice, maxAmount + 1) : size;
+
+        if (from >= to) {
+            result.clear();
+            return;
+        }
+
+        if (result.cardinality() <= to - from) {
+            for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+                if ((minAmount != null && prices[doc] < minAmount) || (maxAmount != null && prices[doc] > maxAmount)) {
+                    result.clear(doc);
+                }
+            }
+        } else {
+            BitSet inRange = new BitSet(size);
+            for (int position = from; position < to; position++) {
+                inRange.set(byPrice[position]);
+            }
+            result.and(inRange);
+        }
+    }
+
+    private int firstPositionWithPriceAtLeast(int[] byPrice, long amount) {
+        int low = 0;
+        int high = byPrice.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[byPrice[mid]] < amount) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int[] page(BitSet matches, int total, Ordering ordering, boolean descending,
+                       int from, int to, int offset, int limit) {
+        if (limit <= 0 || offset >= total) {
+            return new int[0];
+        }
+        int pageSize = Math.min(limit, total - offset);
+        int[] page = new int[pageSize];
+        int span = to - from;
+
+        if ((long) total * DENSE_RESULT_RATIO >= span) {
+            // Resultado denso: recorrer la permutación encuentra la página en pocos pasos
+            int skipped = 0;
+            int collected = 0;
+            for (int step = 0; step < span && collected < pageSize; step++) {
+                int doc = ordering.order[descending ? to - 1 - step : from + step];
+                if (!matches.get(doc)) continue;
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    page[collected++] = doc;
+                }
+            }
+            return page;
+        }
+
+        // Resultado disperso: ordenar solo los ranks de los docs que coinciden
+        int[] ranks = new int[total];
+        int count = 0;
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            int rank = ordering.rank[doc];
+            if (rank >= from && rank < to) {
+                ranks[count++] = rank;
+            }
+        }
+        Arrays.sort(ranks);
+        for (int i = 0; i < pageSize; i++) {
+            int position = descending ? total - 1 - offset - i : offset + i;
+            page[i] = ordering.order[ranks[position]];
+        }
+        return page;
+    }
+
+    private int countInRange(BitSet matches, Ordering ordering, int from, int to) {
+        int count = 0;
+        for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+            int rank = ordering.rank[doc];
+            if (rank >= from && rank < to) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Primera posición cuya clave (valores, id) es mayor (strict) o mayor o igual que la del cursor
+     */
+    private int firstPositionAtLeast(Ordering ordering, SortKey key, long[] cursorValues, String cursorId, boolean strict) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = compareToCursor(ordering.order[mid], key, cursorValues, cursorId);
+            if (comparison < 0 || (strict && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compareToCursor(int doc, SortKey key, long[] cursorValues, String cursorId) {
+        int comparison = switch (key) {
+            case PRICE -> Long.compare(prices[doc], cursorValues[0]);
+            case SOLD_QUANTITY -> Long.compare(soldQuantities[doc], cursorValues[0]);
+            case CREATED_DATE -> Long.compare(createdDates[doc], cursorValues[0]);
+            case RELEVANCE -> {
+                int bySold = Long.compare(soldQuantities[doc], cursorValues[0]);
+                yield bySold != 0 ? bySold : Long.compare(createdDates[doc], cursorValues[1]);
+            }
+        };
+        return comparison != 0 ? comparison : ids[doc].compareTo(cursorId);
+    }
+
+    private static long[] cursorValues(SortKey key, KeysetCursor cursor) {
+        return switch (key) {
+            case PRICE -> new long[]{cursor.getPriceAmount()};
+            case SOLD_QUANTITY -> new long[]{cursor.getSoldQuantity()};
+            case CREATED_DATE -> new long[]{toEpochMilli(cursor.getCreatedDate())};
+            case RELEVANCE -> new long[]{cursor.getSoldQuantity(), toEpochMilli(cursor.getCreatedDate())};
+        };
+    }
+
+    private int[] sortedDocs(SortKey key) {
+        Comparator<Integer> comparator = switch (key) {
+            case PRICE -> Comparator.comparingLong((Integer doc) -> prices[doc]);
+            case SOLD_QUANTITY -> Comparator.comparingInt((Integer doc) -> soldQuantities[doc]);
+            case CREATED_DATE -> Comparator.comparingLong((Integer doc) -> createdDates[doc]);
+            case RELEVANCE -> Comparator.comparingInt((Integer doc) -> soldQuantities[doc])
+                    .thenComparingLong(doc -> createdDates[doc]);
+        };
+        return IntStream.range(0, size)
+                .boxed()
+                .sorted(comparator.thenComparing(doc -> ids[doc]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static <K> void addToBitSet(Map<K, BitSet> index, K value, int doc) {
+        if (value != null) {
+            index.computeIfAbsent(value, k -> new BitSet()).set(doc);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toInstant(ZoneOffset.UTC).toEpochMilli() : Long.MIN_VALUE;
+    }
+
+    private static Long toAmount(BigDecimal price) {
+        if (price == null) return null;
+        return price.multiply(new BigDecimal("100")).longValue();
+    }
+
+    enum SortKey {
+        RELEVANCE, PRICE, SOLD_QUANTITY, CREATED_DATE;
+
+        static SortKey from(String sortBy) {
+            return switch (sortBy != null ? sortBy.toLowerCase(Locale.ROOT) : "relevance") {
+                case "price" -> PRICE;
+                case "sold_quantity" -> SOLD_QUANTITY;
+                case "created_date" -> CREATED_DATE;
+                default -> RELEVANCE;
+            };
+        }
+    }
+
+    private static final class Ordering {
+        private final int[] order;
+        private final int[] rank;
+
+        private Ordering(int[] order) {
+            this.order = order;
+            this.rank = new int[order.length];
+            for (int position = 0; position < order.length; position++) {
+                rank[order[position]] = position;
+            }
+        }
+    }
+
+    /**
+     * Valores de un campo de faceta con sus docs como palabras de BitSet
+     */
+    private static final class FacetField {
+        private final String[] values;
+        private final long[][] words;
+
+        private FacetField(Map<String, BitSet> index) {
+            this.values = index.keySet().stream().sorted().toArray(String[]::new);
+            this.words = new long[values.length][];
+            for (int i = 0; i < values.length; i++) {
+                words[i] = index.get(values[i]).toLongArray();
+            }
+        }
+
+        /**
+         * Valores con al menos una coincidencia, por conteo descendente y luego valor, hasta maxValues
+         */
+        private List<FacetCount> count(long[] matches, int fromWord, int maxValues) {
+            List<FacetCount> counts = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                int count = intersectionCount(matches, words[i], fromWord);
+                if (count > 0) {
+                    counts.add(new FacetCount(values[i], count));
+                }
+            }
+            counts.sort(Comparator.comparingInt(FacetCount::getCount).reversed()
+                    .thenComparing(FacetCount::getValue));
+            return counts.size() > maxValues ? counts.subList(0, maxValues) : counts;
+        }
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int count;
+
+        void add(int value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    public static final class Hits {
+        private final List<String> ids;
+        private final int total;
+        private final int remaining;
+        private final boolean hasMore;
+        private final SearchFacets facets;
+
+        public Hits(List<String> ids, int total) {
+            this(ids, total, total, false, null);
+        }
+
+        public Hits(List<String> ids, int total, int remaining, boolean hasMore, SearchFacets facets) {
+            this.ids = ids;
+            this.total = total;
+            this.remaining = remaining;
+            this.hasMore = hasMore;
+            this.facets = facets;
+        }
+
+        public List<String> getIds() { return ids; }
+        public int getTotal() { return total; }
+        public int getRemaining() { return remaining; }
+        public boolean hasMore() { return hasMore; }
+        public SearchFacets getFacets() { return facets; }
+    }
+}
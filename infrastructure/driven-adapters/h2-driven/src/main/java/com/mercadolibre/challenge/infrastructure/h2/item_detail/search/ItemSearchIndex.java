@@ -0,0 +1,113 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.search;
+
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemAttributeValueRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.projection.ItemIndexRow;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mantiene el snapshot vigente del índice de búsqueda de items.
+ *
+ * El índice se construye al arrancar la aplicación leyendo los items activos por lotes
+ * (paginación por id) y se publica con un swap atómico, por lo que las búsquedas nunca
+ * esperan a una reconstrucción: mientras no hay snapshot, el repositorio consulta la base.
+ *
+ * Se reconstruye cada search.index.rebuild-interval, como los demás modelos de lectura en memoria:
+ * altas, bajas, cambios de precio y ventas se reflejan en hits, facetas y orden con ese retraso máximo.
+ */
+@Component
+@ConditionalOnProperty(prefix = "search.index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ItemSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ItemSearchIndex.class);
+
+    private final JpaItemRepository jpaItemRepository;
+    private final int batchSize;
+    // lock y no synchronized: el rebuild lee de la base y no debe fijar un hilo virtual a su carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile ItemIndexSnapshot snapshot;
+
+    public ItemSearchIndex(JpaItemRepository jpaItemRepository,
+                           @Value("${search.index.batch-size:1000}") int batchSize) {
+        this.jpaItemRepository = jpaItemRepository;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public ItemIndexSnapshot.Hits search(SearchCriteria criteria) {
+        return snapshot.search(criteria);
+    }
+
+    public ItemIndexSnapshot.Hits searchWithFacets(SearchCriteria criteria) {
+        return snapshot.search(criteria, true);
+    }
+
+    @Scheduled(initialDelayString = "${search.index.initial-delay:PT0S}",
+            fixedDelayString = "${search.index.rebuild-interval:PT5M}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            List<IndexedItem> items = new ArrayList<>();
+
+            String lastId = "";
+            List<ItemIndexRow> rows;
+            do {
+                rows = jpaItemRepository.findIndexRowsAfter(lastId, PageRequest.of(0, batchSize));
+                if (rows.isEmpty()) break;
+
+                List<String> ids = rows.stream().map(ItemIndexRow::getId).toList();
+                Map<String, Map<String, List<String>>> attributes = new HashMap<>();
+                for (ItemAttributeValueRow attribute : jpaItemRepository.findAttributeValuesByItemIds(ids)) {
+                    if (attribute.getAttributeValue() != null) {
+                        attributes.computeIfAbsent(attribute.getItemId(), k -> new HashMap<>())
+                                .computeIfAbsent(attribute.getAttributeId(), k -> new ArrayList<>())
+                                .add(attribute.getAttributeValue());
+                    }
+                }
+                Set<String> freeShippingMethods = new HashSet<>(jpaItemRepository.findItemIdsWithFreeShippingMethod(ids));
+
+                for (ItemIndexRow row : rows) {
+                    items.add(toIndexedItem(row, attributes.get(row.getId()), freeShippingMethods.contains(row.getId())));
+                }
+                lastId = rows.get(rows.size() - 1).getId();
+            } while (rows.size() == batchSize);
+
+            snapshot = ItemIndexSnapshot.build(items);
+            log.info("Item search index built with {} items in {} ms", items.size(), System.currentTimeMillis() - start);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private IndexedItem toIndexedItem(ItemIndexRow row, Map<String, List<String>> attributes,
+                                      boolean hasFreeShippingMethod) {
+        return new IndexedItem(
+                row.getId(),
+                row.getTitle(),
+                row.getCategoryId(),
+                row.getCategoryPath(),
+                attributes,
+                row.getPriceAmount() != null ? row.getPriceAmount() : 0L,
+                row.getConditionType(),
+                Boolean.TRUE.equals(row.getFreeShipping()) || hasFreeShippingMethod,
+                row.getSellerReputation(),
+                row.getSellerId(),
+                row.getSoldQuantity() != null ? row.getSoldQuantity() : 0,
+                row.getCreatedDate()
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.trigger;
+
+import org.h2.tools.TriggerAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Mantiene category_attribute_values, el diccionario de valores de atributo por (atributo, categoría)
+ * con la cantidad de items activos que usan cada valor.
+ *
+ * Se registra sobre item_attributes (AFTER INSERT, UPDATE, DELETE) y sobre items (AFTER UPDATE y
+ * BEFORE DELETE): un atributo que entra o sale suma o resta 1 a su valor en la categoría de su item, y
+ * un item que cambia de categoría o de estado mueve todos sus atributos. Los valores que llegan a 0 se
+ * borran, así que la tabla solo tiene valores en uso y su clave primaria los deja ordenados para cada par.
+ *
+ * Al borrar un item, H2 borra sus atributos por cascada cuando la fila del item ya no es visible, así
+ * que el trigger de item_attributes no sabe de qué categoría restarlos; por eso el borrado se descuenta
+ * antes, desde items, mientras los atributos todavía existen.
+ */
+public class AttributeValueDictionaryTrigger extends TriggerAdapter {
+
+    private static final String ITEMS_TABLE = "ITEMS";
+
+    private static final String FIND_ITEM = "SELECT category_id, status FROM items WHERE id = ?";
+
+    private static final String FIND_ITEM_ATTRIBUTES = """
+            SELECT attribute_id, attribute_value FROM item_attributes WHERE item_id = ?
+            """;
+
+    private static final String ENSURE_VALUE = """
+            MERGE INTO category_attribute_values (attribute_id, category_id, attribute_value)
+            KEY (attribute_id, category_id, attribute_value) VALUES (?, ?, ?)
+            """;
+
+    private static final String APPLY_VALUE = """
+            UPDATE category_attribute_values SET active_items = active_items + ?
+            WHERE attribute_id = ? AND category_id = ? AND attribute_value = ?
+            """;
+
+    private static final String PRUNE_VALUE = """
+            DELETE FROM category_attribute_values
+            WHERE attribute_id = ? AND category_id = ? AND attribute_value = ? AND active_items <= 0
+            """;
+
+    @Override
+    public void fire(Connection conn, ResultSet oldRow, ResultSet newRow) throws SQLException {
+        if (ITEMS_TABLE.equalsIgnoreCase(tableName)) {
+            onItemChange(conn, ItemState.of(oldRow), ItemState.of(newRow));
+        } else {
+            onAttributeChange(conn, AttributeRow.of(oldRow), AttributeRow.of(newRow));
+        }
+    }
+
+    private void onAttributeChange(Connection conn, AttributeRow before, AttributeRow after) throws SQLException {
+        if (Objects.equals(before, after)) {
+            // cambió el nombre, la unidad u otra columna que no entra en el diccionario
+            return;
+        }
+        if (before != null) {
+            apply(conn, findItem(conn, before.itemId), before, -1);
+        }
+        if (after != null) {
+            apply(conn, findItem(conn, after.itemId), after, 1);
+        }
+    }
+
+    private void onItemChange(Connection conn, ItemState before, ItemState after) throws SQLException {
+        if (before == null || before.equals(after)) {
+            return;
+        }
+        for (AttributeRow attribute : findAttributes(conn, before.itemId)) {
+            apply(conn, before, attribute, -1);
+            apply(conn, after, attribute, 1);
+        }
+    }
+
+    private void apply(Connection conn, ItemState item, AttributeRow attribute, int sign) throws SQLException {
+        if (item == null || !item.active || item.categoryId == null) {
+            return;
+        }
+        if (sign > 0) {
+            update(conn, ENSURE_VALUE, attribute.attributeId, item.categoryId, attribute.value);
+        }
+        update(conn, APPLY_VALUE, sign, attribute.attributeId, item.categoryId, attribute.value);
+        if (sign < 0) {
+            update(conn, PRUNE_VALUE, attribute.attributeId, item.categoryId, attribute.value);
+        }
+    }
+
+    /**
+     * Estado del item dueño del atributo, o null si ya no existe
+     */
+    private ItemState findItem(Connection conn, String itemId) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(FIND_ITEM)) {
+            statement.setString(1, itemId);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? new ItemState(itemId, rs.getString(1), "active".equals(rs.getString(2))) : null;
+            }
+        }
+    }
+
+    private List<AttributeRow> findAttributes(Connection conn, String itemId) throws SQLException {
+        List<AttributeRow> attributes = new ArrayList<>();
+        try (PreparedStatement statement = conn.prepareStatement(FIND_ITEM_ATTRIBUTES)) {
+            statement.setString(1, itemId);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    attributes.add(new AttributeRow(itemId, rs.getString(1), rs.getString(2)));
+                }
+            }
+        }
+        return attributes;
+    }
+
+    private static void update(Connection conn, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Columnas de items que deciden si sus atributos cuentan y en qué categoría
+     */
+    private record ItemState(String itemId, String categoryId, boolean active) {
+
+        static ItemState of(ResultSet row) throws SQLException {
+            if (row == null) {
+                return null;
+            }
+            return new ItemState(row.getString("ID"), row.getString("CATEGORY_ID"), "active".equals(row.getString("STATUS")));
+        }
+    }
+
+    private record AttributeRow(String itemId, String attributeId, String value) {
+
+        static AttributeRow of(ResultSet row) throws SQLException {
+            if (row == null) {
+                return null;
+            }
+            return new AttributeRow(row.getString("ITEM_ID"), row.getString("ATTRIBUTE_ID"), row.getString("ATTRIBUTE_VALUE"));
+        }
+    }
+}
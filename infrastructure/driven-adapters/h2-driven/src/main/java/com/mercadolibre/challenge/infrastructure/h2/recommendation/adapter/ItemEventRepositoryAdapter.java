@@ -0,0 +1,39 @@
+package com.mercadolibre.challenge.infrastructure.h2.recommendation.adapter;
+
+import com.mercadolibre.challenge.domain.recommendation.ItemEvent;
+import com.mercadolibre.challenge.domain.recommendation.repository.ItemEventRepository;
+import com.mercadolibre.challenge.infrastructure.h2.recommendation.entity.ItemEventEntity;
+import com.mercadolibre.challenge.infrastructure.h2.recommendation.repository.JpaItemEventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public class ItemEventRepositoryAdapter implements ItemEventRepository {
+
+    private final JpaItemEventRepository jpaItemEventRepository;
+
+    public ItemEventRepositoryAdapter(JpaItemEventRepository jpaItemEventRepository) {
+        this.jpaItemEventRepository = jpaItemEventRepository;
+    }
+
+    @Override
+    public ItemEvent save(ItemEvent event) {
+        return jpaItemEventRepository.save(ItemEventEntity.fromDomain(event)).toDomain();
+    }
+
+    @Override
+    public List<ItemEvent> findAfter(long afterId, int limit) {
+        return jpaItemEventRepository.findAfter(afterId, PageRequest.of(0, limit)).stream()
+                .map(ItemEventEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long findFirstIdSince(LocalDateTime since) {
+        List<Long> ids = jpaItemEventRepository.findIdsSince(since, PageRequest.of(0, 1));
+        return ids.isEmpty() ? jpaItemEventRepository.findMaxId() + 1 : ids.get(0);
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolibre.challenge.infrastructure.h2.recommendation.entity;
+
+import com.mercadolibre.challenge.domain.recommendation.ItemEvent;
+import com.mercadolibre.challenge.domain.recommendation.ItemEventType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "item_events")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemEventEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "item_id", nullable = false, length = 50)
+    private String itemId;
+
+    @Column(name = "session_id", nullable = false, length = 100)
+    private String sessionId;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    private String eventType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    public static ItemEventEntity fromDomain(ItemEvent event) {
+        return new ItemEventEntity(
+                event.getId(),
+                event.getItemId(),
+                event.getSessionId(),
+                event.getType().getCode(),
+                event.getOccurredAt()
+        );
+    }
+
+    public ItemEvent toDomain() {
+        return ItemEvent.from(id, itemId, sessionId, ItemEventType.fromCode(eventType), occurredAt);
+    }
+}
@@ -0,0 +1,35 @@
+package com.mercadolibre.challenge.infrastructure.h2.recommendation.repository;
+
+import com.mercadolibre.challenge.infrastructure.h2.recommendation.entity.ItemEventEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JpaItemEventRepository extends JpaRepository<ItemEventEntity, Long> {
+
+    @Query("""
+            SELECT e FROM ItemEventEntity e
+            WHERE e.id > :afterId
+            ORDER BY e.id
+            """)
+    List<ItemEventEntity> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Recorre idx_item_events_occurred_at desde since; con un Pageable de tamaño 1 es una sola búsqueda en el índice
+     */
+    @Query("""
+            SELECT e.id FROM ItemEventEntity e
+            WHERE e.occurredAt >= :since
+            ORDER BY e.occurredAt, e.id
+            """)
+    List<Long> findIdsSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM ItemEventEntity e")
+    long findMaxId();
+}
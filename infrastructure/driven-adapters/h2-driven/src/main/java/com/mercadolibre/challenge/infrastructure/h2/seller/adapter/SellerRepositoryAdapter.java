@@ -0,0 +1,60 @@
+package com.mercadolibre.challenge.infrastructure.h2.seller.adapter;
+
+import com.mercadolibre.challenge.domain.item_detail.Seller;
+import com.mercadolibre.challenge.domain.seller.RankedSeller;
+import com.mercadolibre.challenge.domain.seller.SellerStats;
+import com.mercadolibre.challenge.domain.seller.repository.SellerRepository;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.SellerEntity;
+import com.mercadolibre.challenge.infrastructure.h2.seller.entity.SellerStatsEntity;
+import com.mercadolibre.challenge.infrastructure.h2.seller.repository.JpaSellerRepository;
+import com.mercadolibre.challenge.infrastructure.h2.seller.repository.JpaSellerStatsRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class SellerRepositoryAdapter implements SellerRepository {
+
+    private final JpaSellerRepository jpaSellerRepository;
+    private final JpaSellerStatsRepository jpaSellerStatsRepository;
+
+    public SellerRepositoryAdapter(JpaSellerRepository jpaSellerRepository,
+                                   JpaSellerStatsRepository jpaSellerStatsRepository) {
+        this.jpaSellerRepository = jpaSellerRepository;
+        this.jpaSellerStatsRepository = jpaSellerStatsRepository;
+    }
+
+    @Override
+    public Optional<SellerStats> findStats(Long sellerId) {
+        List<Object[]> rows = jpaSellerStatsRepository.findSellerWithStats(sellerId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        Seller seller = ((SellerEntity) row[0]).toDomain();
+        SellerStatsEntity stats = (SellerStatsEntity) row[1];
+        if (stats == null) {
+            return Optional.of(SellerStats.empty(seller));
+        }
+        return Optional.of(SellerStats.from(
+                seller,
+                stats.getActiveItems(),
+                stats.getPriceSum(),
+                stats.getMinPrice(),
+                stats.getMaxPrice(),
+                stats.getGmv(),
+                stats.getTopCategoryId(),
+                (String) row[2]
+        ));
+    }
+
+    @Override
+    public List<RankedSeller> findTopRanked(int limit) {
+        return jpaSellerRepository.findTopRanked(PageRequest.of(0, limit)).stream()
+                .map(entity -> new RankedSeller(entity.toDomain(),
+                        entity.getRankingScore() != null ? entity.getRankingScore() : 0.0))
+                .toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.mercadolibre.challenge.infrastructure.h2.seller.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de seller_stats. Solo lectura desde la aplicación: la mantiene SellerStatsTrigger.
+ */
+@Entity
+@Table(name = "seller_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerStatsEntity {
+
+    @Id
+    @Column(name = "seller_id")
+    private Long sellerId;
+
+    @Column(name = "active_items", nullable = false)
+    private Integer activeItems;
+
+    @Column(name = "price_sum", nullable = false)
+    private Long priceSum;
+
+    @Column(name = "min_price")
+    private Long minPrice;
+
+    @Column(name = "max_price")
+    private Long maxPrice;
+
+    @Column(name = "gmv", nullable = false)
+    private Long gmv;
+
+    @Column(name = "top_category_id", length = 50)
+    private String topCategoryId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
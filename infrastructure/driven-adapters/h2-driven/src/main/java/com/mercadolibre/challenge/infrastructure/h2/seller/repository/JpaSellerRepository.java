@@ -0,0 +1,22 @@
+package com.mercadolibre.challenge.infrastructure.h2.seller.repository;
+
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.SellerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JpaSellerRepository extends JpaRepository<SellerEntity, Long> {
+
+    /**
+     * Recorre idx_sellers_ranking (ranking_score DESC, id) y corta en el tamaño de página
+     */
+    @Query("""
+            SELECT s FROM SellerEntity s
+            ORDER BY s.rankingScore DESC, s.id
+            """)
+    List<SellerEntity> findTopRanked(Pageable pageable);
+}
@@ -0,0 +1,25 @@
+package com.mercadolibre.challenge.infrastructure.h2.seller.repository;
+
+import com.mercadolibre.challenge.infrastructure.h2.seller.entity.SellerStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface JpaSellerStatsRepository extends JpaRepository<SellerStatsEntity, Long> {
+
+    /**
+     * Vendedor, sus métricas y el nombre de su categoría principal en una consulta por clave primaria.
+     * Cada fila es [SellerEntity, SellerStatsEntity o null, nombre de categoría o null].
+     */
+    @Query("""
+            SELECT s, st, c.name FROM SellerEntity s
+            LEFT JOIN SellerStatsEntity st ON st.sellerId = s.id
+            LEFT JOIN CategoryEntity c ON c.id = st.topCategoryId
+            WHERE s.id = :sellerId
+            """)
+    List<Object[]> findSellerWithStats(@Param("sellerId") Long sellerId);
+}
@@ -0,0 +1,146 @@
+package com.mercadolibre.challenge.infrastructure.h2.seller.trigger;
+
+import org.h2.tools.TriggerAdapter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mantiene seller_stats y seller_category_stats al día con cada cambio de una fila de items.
+ *
+ * Se registra en la migración V1__schema.sql como trigger AFTER INSERT, UPDATE, DELETE FOR EACH ROW, así que
+ * corre en la misma transacción que el cambio y cubre cualquier escritura sobre items, venga de donde venga.
+ * Cada cambio se aplica como delta: la fila vieja resta y la nueva suma (contador de activos, suma de
+ * precios, GMV e histograma por categoría). Solo cuando sale un item activo con el precio mínimo o
+ * máximo del vendedor se vuelven a leer esos extremos, y la categoría principal se recalcula sobre el
+ * histograma del vendedor, que tiene una fila por categoría.
+ */
+public class SellerStatsTrigger extends TriggerAdapter {
+
+    private static final String ENSURE_STATS = "MERGE INTO seller_stats (seller_id) KEY (seller_id) VALUES (?)";
+
+    private static final String APPLY_STATS = """
+            UPDATE seller_stats SET
+                active_items = active_items + ?,
+                price_sum = price_sum + ?,
+                gmv = gmv + ?,
+                min_price = CASE WHEN ? THEN LEAST(COALESCE(min_price, ?), ?) ELSE min_price END,
+                max_price = CASE WHEN ? THEN GREATEST(COALESCE(max_price, ?), ?) ELSE max_price END,
+                updated_at = CURRENT_TIMESTAMP
+            WHERE seller_id = ?
+            """;
+
+    private static final String ENSURE_CATEGORY = """
+            MERGE INTO seller_category_stats (seller_id, category_id) KEY (seller_id, category_id) VALUES (?, ?)
+            """;
+
+    private static final String APPLY_CATEGORY = """
+            UPDATE seller_category_stats SET active_items = active_items + ? WHERE seller_id = ? AND category_id = ?
+            """;
+
+    private static final String REFRESH_PRICE_BOUNDS = """
+            UPDATE seller_stats SET
+                min_price = (SELECT MIN(price_amount) FROM items WHERE seller_id = ? AND status = 'active'),
+                max_price = (SELECT MAX(price_amount) FROM items WHERE seller_id = ? AND status = 'active')
+            WHERE seller_id = ? AND (min_price = ? OR max_price = ?)
+            """;
+
+    private static final String REFRESH_TOP_CATEGORY = """
+            UPDATE seller_stats SET top_category_id = (
+                SELECT category_id FROM seller_category_stats
+                WHERE seller_id = ? AND active_items > 0
+                ORDER BY active_items DESC, category_id
+                LIMIT 1)
+            WHERE seller_id = ?
+            """;
+
+    @Override
+    public void fire(Connection conn, ResultSet oldRow, ResultSet newRow) throws SQLException {
+        ItemRow before = ItemRow.of(oldRow);
+        ItemRow after = ItemRow.of(newRow);
+        if (before != null && before.equals(after)) {
+            // cambió algo que no afecta las métricas (stock, descripción, ...)
+            return;
+        }
+
+        if (before != null) {
+            apply(conn, before, -1);
+        }
+        if (after != null) {
+            apply(conn, after, 1);
+        }
+        boolean removedActive = before != null && before.active && before.sellerId != null;
+        boolean addedActive = after != null && after.active && after.sellerId != null;
+        if (removedActive) {
+            refreshPriceBounds(conn, before);
+            refreshTopCategory(conn, before.sellerId);
+        }
+        if (addedActive && !(removedActive && before.sellerId.equals(after.sellerId))) {
+            refreshTopCategory(conn, after.sellerId);
+        }
+    }
+
+    private void apply(Connection conn, ItemRow row, int sign) throws SQLException {
+        if (row.sellerId == null) {
+            return;
+        }
+        update(conn, ENSURE_STATS, row.sellerId);
+
+        boolean adding = sign > 0 && row.active;
+        update(conn, APPLY_STATS,
+                row.active ? sign : 0,
+                row.active ? sign * row.price : 0L,
+                sign * row.price * row.soldQuantity,
+                adding, row.price, row.price,
+                adding, row.price, row.price,
+                row.sellerId);
+
+        if (row.active && row.categoryId != null) {
+            update(conn, ENSURE_CATEGORY, row.sellerId, row.categoryId);
+            update(conn, APPLY_CATEGORY, sign, row.sellerId, row.categoryId);
+        }
+    }
+
+    /**
+     * Solo relee los extremos si el precio que salió era el mínimo o el máximo del vendedor
+     */
+    private void refreshPriceBounds(Connection conn, ItemRow removed) throws SQLException {
+        update(conn, REFRESH_PRICE_BOUNDS, removed.sellerId, removed.sellerId, removed.sellerId,
+                removed.price, removed.price);
+    }
+
+    private void refreshTopCategory(Connection conn, Long sellerId) throws SQLException {
+        update(conn, REFRESH_TOP_CATEGORY, sellerId, sellerId);
+    }
+
+    private static void update(Connection conn, String sql, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = conn.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Columnas de items que afectan las métricas del vendedor
+     */
+    private record ItemRow(Long sellerId, String categoryId, long price, long soldQuantity, boolean active) {
+
+        static ItemRow of(ResultSet row) throws SQLException {
+            if (row == null) {
+                return null;
+            }
+            long sellerId = row.getLong("SELLER_ID");
+            return new ItemRow(
+                    row.wasNull() ? null : sellerId,
+                    row.getString("CATEGORY_ID"),
+                    row.getLong("PRICE_AMOUNT"),
+                    row.getLong("SOLD_QUANTITY"),
+                    "active".equals(row.getString("STATUS"))
+            );
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.mercadolibre.challenge.infrastructure.h2.trending.adapter;
+
+import com.mercadolibre.challenge.domain.trending.ItemViewCount;
+import com.mercadolibre.challenge.domain.trending.repository.ItemViewCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Los contadores se escriben con un MERGE que suma el delta al valor actual, enviado como batch JDBC
+ * de hasta batchSize filas: un flush de N items cuesta N/batchSize viajes a la base y no pisa vistas
+ * contadas por otra instancia entre lectura y escritura.
+ *
+ * Las lecturas nunca recorren la tabla: el top sale de idx_item_view_counts_views y los totales por item,
+ * de la clave primaria en bloques de batchSize ids.
+ */
+@Repository
+public class ItemViewCountRepositoryAdapter implements ItemViewCountRepository {
+
+    private static final String UPSERT = """
+            MERGE INTO item_view_counts t
+            USING (VALUES (CAST(? AS VARCHAR(50)), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) s(item_id, delta, updated_at)
+            ON t.item_id = s.item_id
+            WHEN MATCHED THEN UPDATE SET view_count = t.view_count + s.delta, updated_at = s.updated_at
+            WHEN NOT MATCHED THEN INSERT (item_id, view_count, updated_at) VALUES (s.item_id, s.delta, s.updated_at)
+            """;
+
+    private static final RowMapper<ItemViewCount> COUNT_MAPPER = (resultSet, rowNum) ->
+            new ItemViewCount(resultSet.getString("item_id"), resultSet.getLong("view_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public ItemViewCountRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                          @Value("${views.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public void addViews(Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((itemId, delta) -> rows.add(new Object[]{itemId, delta, now}));
+        jdbcTemplate.batchUpdate(UPSERT, rows, batchSize, (statement, row) -> {
+            statement.setString(1, (String) row[0]);
+            statement.setLong(2, (Long) row[1]);
+            statement.setTimestamp(3, (Timestamp) row[2]);
+        });
+    }
+
+    @Override
+    public List<ItemViewCount> findTop(int limit) {
+        return jdbcTemplate.query("SELECT item_id, view_count FROM item_view_counts"
+                + " ORDER BY view_count DESC, item_id LIMIT ?", COUNT_MAPPER, limit);
+    }
+
+    @Override
+    public List<ItemViewCount> findByItemIds(Collection<String> itemIds) {
+        List<String> ids = List.copyOf(itemIds);
+        List<ItemViewCount> counts = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<String> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            counts.addAll(jdbcTemplate.query("SELECT item_id, view_count FROM item_view_counts"
+                    + " WHERE item_id IN (" + placeholders + ")", COUNT_MAPPER, chunk.toArray()));
+        }
+        return counts;
+    }
+}
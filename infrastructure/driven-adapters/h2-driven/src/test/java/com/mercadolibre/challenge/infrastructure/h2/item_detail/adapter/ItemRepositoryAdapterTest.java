@@ -0,0 +1,192 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.adapter;
+
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Picture;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchResult;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.entity.ItemEntity;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.repository.JpaItemRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        // el diccionario de valores no tiene entidad: se crea junto al esquema que genera Hibernate
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files=/attribute-dictionary-schema.sql"
+})
+@Sql("/item-aggregates.sql")
+@DisplayName("Tests for ItemRepositoryAdapter")
+class ItemRepositoryAdapterTest {
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = ItemEntity.class)
+    @EnableJpaRepositories(basePackageClasses = JpaItemRepository.class)
+    @Import({ItemRepositoryAdapter.class, ItemAggregateLoader.class, ItemSummaryLoader.class})
+    static class TestConfig {
+    }
+
+    @Autowired
+    private ItemRepositoryAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should load a search page as summaries without hydrating aggregates")
+    void searchWithTotal_ShouldProjectSummaries() {
+        SearchCriteria criteria = new SearchCriteria(null, null, null, null, null, null, null,
+                "relevance", "desc", 50, 0);
+
+        SearchResult result = adapter.searchWithTotal(criteria);
+
+        // página + total, imagen principal y envío gratis por método
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(result.getTotal()).isEqualTo(3);
+        assertThat(result.getItems()).extracting(ItemSummary::getId).containsExactly("MLA3", "MLA1", "MLA2");
+
+        ItemSummary iphone = result.getItems().get(1);
+        assertThat(iphone.getThumbnailUrl()).contains("https://http2.mlstatic.com/p1a.jpg");
+        assertThat(iphone.getSellerNickname()).isEqualTo("TECHSTORE_OFICIAL");
+        assertThat(iphone.getPrice().getAmountInCents()).isEqualTo(1299999L);
+        assertThat(iphone.hasFreeShipping()).isTrue();
+        assertThat(result.getItems().get(0).hasFreeShipping()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should walk every page with the keyset cursor, keeping null dates last and the first page's total")
+    void searchWithTotal_ShouldPaginateWithCursorOverNullDates() {
+        entityManager.createNativeQuery("UPDATE items SET created_date = NULL WHERE id = 'MLA2'").executeUpdate();
+
+        assertThat(walkPages("desc")).containsExactly("MLA3", "MLA1", "MLA2");
+        assertThat(walkPages("asc")).containsExactly("MLA2", "MLA1", "MLA3");
+    }
+
+    @Test
+    @DisplayName("Should intersect attribute filters in SQL, matching values case-insensitively")
+    void searchWithTotal_ShouldIntersectAttributeFilters() {
+        entityManager.createNativeQuery("""
+                INSERT INTO category_attribute_values (attribute_id, category_id, attribute_value, active_items) VALUES
+                    ('BRAND', 'MLA1055', 'Apple', 1), ('BRAND', 'MLA1055', 'Samsung', 1), ('BRAND', 'MLA1648', 'Sony', 1),
+                    ('MODEL', 'MLA1055', 'iPhone 15 Pro', 1), ('MODEL', 'MLA1055', 'Galaxy S24 Ultra', 1)
+                """).executeUpdate();
+        SearchCriteria criteria = new SearchCriteria(null, null, null, null, null, null, null,
+                "relevance", "desc", 50, 0);
+
+        criteria.setAttributes(Map.of("BRAND", List.of("APPLE", "samsung")));
+        assertThat(adapter.searchWithTotal(criteria).getItems()).extracting(ItemSummary::getId)
+                .containsExactly("MLA1", "MLA2");
+
+        criteria.setAttributes(Map.of("BRAND", List.of("apple", "samsung"), "MODEL", List.of("galaxy s24 ultra")));
+        SearchResult result = adapter.searchWithTotal(criteria);
+        assertThat(result.getItems()).extracting(ItemSummary::getId).containsExactly("MLA2");
+        assertThat(result.getTotal()).isEqualTo(1);
+
+        criteria.setAttributes(Map.of("BRAND", List.of("apple"), "COLOR", List.of("negro")));
+        assertThat(adapter.searchWithTotal(criteria).getTotal()).isZero();
+    }
+
+    private List<String> walkPages(String direction) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            SearchCriteria criteria = new SearchCriteria(null, null, null, null, null, null, null,
+                    "created_date", direction, 1, 0);
+            criteria.setCursor(cursor);
+            statistics.clear();
+
+            SearchResult result = adapter.searchWithTotal(criteria);
+
+            // el total viaja en el cursor: ninguna página vuelve a contar
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+            assertThat(result.getTotal()).isEqualTo(3);
+            assertThat(result.getItems()).hasSize(1);
+            ids.add(result.getItems().get(0).getId());
+            cursor = result.getNextCursor();
+        } while (cursor != null && ids.size() <= 3);
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Should load full aggregates with one query plus one per aggregate collection")
+    void searchItems_ShouldBatchFetchAggregates() {
+        SearchCriteria criteria = new SearchCriteria(null, null, null, null, null, null, null,
+                "relevance", "desc", 50, 0);
+
+        List<Item> items = adapter.searchItems(criteria);
+
+        // página + total, atributos, imágenes y métodos de envío
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(items).extracting(Item::getId).containsExactly("MLA3", "MLA1", "MLA2");
+
+        Item iphone = items.get(1);
+        assertThat(iphone.getAttributes()).extracting(ItemAttribute::getValue).containsExactly("Apple", "iPhone 15 Pro");
+        assertThat(iphone.getPictures()).extracting(Picture::getPictureId).containsExactly("P1A", "P1B");
+        assertThat(iphone.getShippingMethods()).hasSize(1);
+        assertThat(iphone.getSeller().getNickname()).isEqualTo("TECHSTORE_OFICIAL");
+        assertThat(iphone.getCategory().getName()).isEqualTo("Celulares y Teléfonos");
+    }
+
+    @Test
+    @DisplayName("Should list best sellers as summaries in two extra queries at most")
+    void findBestSellers_ShouldProjectSummaries() {
+        List<ItemSummary> items = adapter.findBestSellers(2);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(items).extracting(ItemSummary::getId).containsExactly("MLA3", "MLA1");
+        assertThat(items.get(0).getThumbnailUrl()).contains("https://http2.mlstatic.com/p3a.jpg");
+    }
+
+    @Test
+    @DisplayName("Should list a seller's newest items without counting the rest")
+    void findRecentBySeller_ShouldReturnNewestFirstWithoutTotal() {
+        List<ItemSummary> items = adapter.findRecentBySeller(12345L, 1);
+
+        // página, imagen principal y envío gratis por método: ninguna consulta de conteo
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(items).extracting(ItemSummary::getId).containsExactly("MLA3");
+        assertThat(adapter.findRecentBySeller(12345L, 5)).extracting(ItemSummary::getId)
+                .containsExactly("MLA3", "MLA1");
+    }
+
+    @Test
+    @DisplayName("Should keep the statement count independent of the page size")
+    void findAllByIds_ShouldNotIssueQueriesPerItem() {
+        List<Item> items = adapter.findAllByIds(List.of("MLA2", "MLA1", "MLA3"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(items).extracting(Item::getId).containsExactly("MLA2", "MLA1", "MLA3");
+    }
+}
@@ -0,0 +1,88 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Tests for SingleFlight")
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("Should share one load among concurrent callers of the same key")
+    void execute_ShouldCoalesceConcurrentCalls() throws Exception {
+        int callers = 16;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("MLA1", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                awaitQuietly(release);
+                return "item";
+            })));
+            loading.await(5, TimeUnit.SECONDS);
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("MLA1", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            // los que llegan después quedan esperando la carga en curso
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("item");
+            }
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous call finished")
+    void execute_ShouldNotCacheResults() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("MLA1", () -> "v" + loads.incrementAndGet());
+        String second = singleFlight.execute("MLA1", () -> "v" + loads.incrementAndGet());
+
+        assertThat(second).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("Should propagate the loader exception and release the key")
+    void execute_ShouldPropagateFailures() {
+        assertThatThrownBy(() -> singleFlight.execute("MLA1", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("db down");
+
+        assertThat(singleFlight.execute("MLA1", () -> "ok")).isEqualTo("ok");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
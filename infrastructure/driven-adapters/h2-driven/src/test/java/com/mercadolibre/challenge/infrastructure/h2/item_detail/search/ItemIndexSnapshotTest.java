@@ -0,0 +1,185 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.search;
+
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets.FacetCount;
+import com.mercadolibre.challenge.domain.item_detail.SearchFacets.PriceRangeCount;
+import com.mercadolibre.challenge.domain.item_detail.repository.ItemRepository.SearchCriteria;
+import com.mercadolibre.challenge.infrastructure.h2.item_detail.pagination.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("Tests for ItemIndexSnapshot")
+class ItemIndexSnapshotTest {
+
+    private ItemIndexSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        snapshot = ItemIndexSnapshot.build(List.of(
+                item("MLA1", "iPhone 15 Pro Máx", "MLA1055", List.of("Apple"), 1_299_999_00L, "new", true, "5_green", 150, now),
+                item("MLA2", "Samsung Galaxy S24", "MLA1055", List.of("Samsung"), 899_999_00L, "new", false, "5_green", 80, now.minusDays(1)),
+                item("MLA3", "Cámara de fotos", "MLA1648", List.of("Canon"), 450_000_00L, "used", true, "3_yellow", 80, now),
+                item("MLA4", "Funda para iPhone", "MLA1055", List.of("Genérica"), 15_000_00L, "new", false, "4_light_green", 300, now)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should match accent-folded prefixes across title, attributes and category path")
+    void search_ShouldMatchFoldedPrefixes() {
+        assertThat(snapshot.search(criteria("camara")).getIds()).containsExactly("MLA3");
+        assertThat(snapshot.search(criteria("MAX")).getIds()).containsExactly("MLA1");
+        assertThat(snapshot.search(criteria("apple")).getIds()).containsExactly("MLA1");
+        assertThat(snapshot.search(criteria("celulares telefonos")).getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should require every query token to match")
+    void search_ShouldIntersectTokens() {
+        ItemIndexSnapshot.Hits hits = snapshot.search(criteria("iphone funda"));
+
+        assertThat(hits.getIds()).containsExactly("MLA4");
+        assertThat(hits.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply exact filters and price range")
+    void search_ShouldApplyFilters() {
+        SearchCriteria criteria = criteria(null);
+        criteria.setCategoryId("MLA1055");
+        criteria.setFreeShipping(true);
+        assertThat(snapshot.search(criteria).getIds()).containsExactly("MLA1");
+
+        criteria = criteria(null);
+        criteria.setMinPrice(new BigDecimal("100000"));
+        criteria.setMaxPrice(new BigDecimal("900000"));
+        criteria.setSortBy("price");
+        criteria.setSortDirection("asc");
+        assertThat(snapshot.search(criteria).getIds()).containsExactly("MLA3", "MLA2");
+
+        criteria = criteria(null);
+        criteria.setCondition("used");
+        criteria.setSellerReputation("5_green");
+        assertThat(snapshot.search(criteria).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should match nothing when the query has no indexable terms")
+    void search_ShouldMatchNothingForQueryWithoutTerms() {
+        assertThat(snapshot.search(criteria("!!!")).getIds()).isEmpty();
+        assertThat(snapshot.search(criteria("!!!")).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should OR values within an attribute and AND across filters, ignoring case")
+    void search_ShouldFilterByAttributes() {
+        SearchCriteria criteria = criteria(null);
+        criteria.setAttributes(Map.of("BRAND", List.of("apple", "SAMSUNG")));
+        assertThat(snapshot.search(criteria).getIds()).containsExactly("MLA1", "MLA2");
+
+        criteria.setCondition("used");
+        assertThat(snapshot.search(criteria).getTotal()).isZero();
+
+        criteria = criteria(null);
+        criteria.setAttributes(Map.of("COLOR", List.of("negro")));
+        assertThat(snapshot.search(criteria).getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should order by relevance and paginate with offset")
+    void search_ShouldSortAndPaginate() {
+        SearchCriteria criteria = criteria(null);
+        assertThat(snapshot.search(criteria).getIds()).containsExactly("MLA4", "MLA1", "MLA3", "MLA2");
+
+        criteria.setOffset(1);
+        criteria.setLimit(2);
+        ItemIndexSnapshot.Hits hits = snapshot.search(criteria);
+        assertThat(hits.getIds()).containsExactly("MLA1", "MLA3");
+        assertThat(hits.getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor with the same order as offset paging")
+    void search_ShouldPaginateWithKeysetCursor() {
+        SearchCriteria firstPage = criteria(null);
+        firstPage.setSortBy("price");
+        firstPage.setSortDirection("asc");
+        firstPage.setLimit(2);
+        assertThat(snapshot.search(firstPage).getIds()).containsExactly("MLA4", "MLA3");
+        assertThat(snapshot.search(firstPage).hasMore()).isTrue();
+
+        SearchCriteria nextPage = criteria(null);
+        nextPage.setSortBy("price");
+        nextPage.setSortDirection("asc");
+        nextPage.setLimit(2);
+        nextPage.setCursor(cursorAfter("price", "MLA3", 80, 450_000_00L));
+
+        ItemIndexSnapshot.Hits hits = snapshot.search(nextPage);
+        assertThat(hits.getIds()).containsExactly("MLA2", "MLA1");
+        assertThat(hits.getTotal()).isEqualTo(4);
+        assertThat(hits.getRemaining()).isEqualTo(2);
+        assertThat(hits.hasMore()).isFalse();
+
+        SearchCriteria relevance = criteria(null);
+        relevance.setCursor(cursorAfter("relevance", "MLA1", 150, 1_299_999_00L));
+        assertThat(snapshot.search(relevance).getIds()).containsExactly("MLA3", "MLA2");
+    }
+
+    @Test
+    @DisplayName("Should count facets over the whole result set, not just the page")
+    void search_ShouldCountFacetsOverAllMatches() {
+        SearchCriteria criteria = criteria(null);
+        criteria.setCategoryId("MLA1055");
+        criteria.setLimit(1);
+
+        ItemIndexSnapshot.Hits hits = snapshot.search(criteria, true);
+        SearchFacets facets = hits.getFacets();
+
+        assertThat(hits.getIds()).hasSize(1);
+        assertThat(facets.getConditions()).extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("new", 3));
+        assertThat(facets.getFreeShipping()).isEqualTo(1);
+        assertThat(facets.getSellerReputations()).extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactly(tuple("5_green", 2), tuple("4_light_green", 1));
+        assertThat(facets.getBrands()).extracting(FacetCount::getValue)
+                .containsExactly("Apple", "Genérica", "Samsung");
+        // límites en los quintiles de precio redondeados: 15.000, 450.000, 890.000 y 1.200.000
+        assertThat(facets.getPriceRanges()).extracting(PriceRangeCount::getMinAmount, PriceRangeCount::getMaxAmount)
+                .containsExactly(
+                        tuple(15_000_00L, 449_999_99L),
+                        tuple(890_000_00L, 1_199_999_99L),
+                        tuple(1_200_000_00L, null));
+        assertThat(snapshot.search(criteria).getFacets()).isNull();
+    }
+
+    private String cursorAfter(String sortBy, String id, int sold, long price) {
+        ItemSummary item = ItemSummary.from(id, "title", Price.of(price, "ARS", 2), "new", null, false,
+                1L, null, null, null, sold, "MLA1055", LocalDateTime.of(2025, 1, 1, 10, 0));
+        return KeysetCursor.after(sortBy, item, 4).encode();
+    }
+
+    private SearchCriteria criteria(String query) {
+        return new SearchCriteria(query, null, null, null, null, null, null, "relevance", "desc", 50, 0);
+    }
+
+    private IndexedItem item(String id, String title, String categoryId, List<String> attributes, long price,
+                             String condition, boolean freeShipping, String reputation, int sold,
+                             LocalDateTime createdDate) {
+        String categoryPath = "MLA1055".equals(categoryId)
+                ? "Electrónicos, Audio y Video > Celulares y Teléfonos"
+                : "Electrónicos, Audio y Video";
+        return new IndexedItem(id, title, categoryId, categoryPath, Map.of("BRAND", attributes), price, condition,
+                freeShipping, reputation, 1L, sold, createdDate);
+    }
+}
@@ -0,0 +1,133 @@
+package com.mercadolibre.challenge.infrastructure.h2.item_detail.trigger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for AttributeValueDictionaryTrigger")
+class AttributeValueDictionaryTriggerTest {
+
+    private static final String RECOMPUTED = """
+            SELECT a.attribute_id, i.category_id, a.attribute_value, COUNT(*)
+            FROM item_attributes a JOIN items i ON i.id = a.item_id
+            WHERE i.status = 'active' AND i.category_id IS NOT NULL
+            GROUP BY a.attribute_id, i.category_id, a.attribute_value
+            ORDER BY a.attribute_id, i.category_id, a.attribute_value
+            """;
+
+    private static final String MAINTAINED = """
+            SELECT attribute_id, category_id, attribute_value, active_items
+            FROM category_attribute_values
+            ORDER BY attribute_id, category_id, attribute_value
+            """;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:attribute-dictionary;DB_CLOSE_DELAY=-1");
+        execute("""
+                CREATE TABLE items (id VARCHAR(50) PRIMARY KEY, status VARCHAR(20) DEFAULT 'active',
+                    category_id VARCHAR(50), title VARCHAR(100))
+                """);
+        execute("""
+                CREATE TABLE item_attributes (id BIGINT AUTO_INCREMENT PRIMARY KEY, item_id VARCHAR(50) NOT NULL,
+                    attribute_id VARCHAR(100) NOT NULL, attribute_value VARCHAR(500) NOT NULL,
+                    FOREIGN KEY (item_id) REFERENCES items(id) ON DELETE CASCADE)
+                """);
+        execute("""
+                CREATE TABLE category_attribute_values (attribute_id VARCHAR(100) NOT NULL, category_id VARCHAR(50) NOT NULL,
+                    attribute_value VARCHAR(500) NOT NULL, active_items INT NOT NULL DEFAULT 0,
+                    PRIMARY KEY (attribute_id, category_id, attribute_value))
+                """);
+        String trigger = AttributeValueDictionaryTrigger.class.getName();
+        execute("CREATE TRIGGER trg_item_attributes_dictionary AFTER INSERT, UPDATE, DELETE ON item_attributes "
+                + "FOR EACH ROW CALL '" + trigger + "'");
+        execute("CREATE TRIGGER trg_items_attribute_dictionary AFTER UPDATE ON items FOR EACH ROW CALL '" + trigger + "'");
+        execute("CREATE TRIGGER trg_items_attribute_dictionary_delete BEFORE DELETE ON items FOR EACH ROW CALL '"
+                + trigger + "'");
+
+        execute("""
+                INSERT INTO items (id, status, category_id) VALUES
+                    ('A', 'active', 'PHONES'), ('B', 'active', 'PHONES'), ('C', 'active', 'CASES'), ('D', 'paused', 'PHONES')
+                """);
+        execute("""
+                INSERT INTO item_attributes (item_id, attribute_id, attribute_value) VALUES
+                    ('A', 'BRAND', 'Samsung'), ('A', 'COLOR', 'Negro'),
+                    ('B', 'BRAND', 'Apple'), ('B', 'COLOR', 'Negro'),
+                    ('C', 'BRAND', 'Samsung'),
+                    ('D', 'BRAND', 'Motorola')
+                """);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Should keep only values of active items, sorted per attribute and category")
+    void insert_ShouldBuildDictionary() throws SQLException {
+        assertThat(rows(MAINTAINED)).isEqualTo(rows(RECOMPUTED));
+        assertThat(rows("""
+                SELECT attribute_value FROM category_attribute_values
+                WHERE attribute_id = 'BRAND' AND category_id = 'PHONES' ORDER BY attribute_value
+                """)).containsExactly(List.of("Apple"), List.of("Samsung"));
+    }
+
+    @Test
+    @DisplayName("Should match a full recomputation after attribute changes and deletes")
+    void attributeChanges_ShouldMaintainDictionary() throws SQLException {
+        execute("UPDATE item_attributes SET attribute_value = 'Xiaomi' WHERE item_id = 'A' AND attribute_id = 'BRAND'");
+        execute("DELETE FROM item_attributes WHERE item_id = 'B' AND attribute_id = 'COLOR'");
+        execute("INSERT INTO item_attributes (item_id, attribute_id, attribute_value) VALUES ('C', 'COLOR', 'Azul')");
+
+        assertThat(rows(MAINTAINED)).isEqualTo(rows(RECOMPUTED));
+    }
+
+    @Test
+    @DisplayName("Should move attributes when an item changes category or status and drop them when it is deleted")
+    void itemChanges_ShouldMaintainDictionary() throws SQLException {
+        execute("UPDATE items SET category_id = 'CASES' WHERE id = 'A'");
+        execute("UPDATE items SET status = 'active' WHERE id = 'D'");
+        execute("UPDATE items SET status = 'closed' WHERE id = 'C'");
+        execute("UPDATE items SET title = 'sin cambios en el diccionario' WHERE id = 'B'");
+        assertThat(rows(MAINTAINED)).isEqualTo(rows(RECOMPUTED));
+
+        execute("DELETE FROM items WHERE id = 'B'");
+        assertThat(rows(MAINTAINED)).isEqualTo(rows(RECOMPUTED));
+    }
+
+    private List<List<String>> rows(String sql) throws SQLException {
+        List<List<String>> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                List<String> row = new ArrayList<>();
+                for (int i = 1; i <= columns; i++) {
+                    row.add(String.valueOf(resultSet.getObject(i)));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
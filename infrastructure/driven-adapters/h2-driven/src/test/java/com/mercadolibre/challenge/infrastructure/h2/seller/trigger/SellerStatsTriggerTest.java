@@ -0,0 +1,125 @@
+package com.mercadolibre.challenge.infrastructure.h2.seller.trigger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Tests for SellerStatsTrigger")
+class SellerStatsTriggerTest {
+
+    private static final String RECOMPUTED = """
+            SELECT i.seller_id,
+                   SUM(CASE WHEN i.status = 'active' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN i.status = 'active' THEN i.price_amount ELSE 0 END),
+                   MIN(CASE WHEN i.status = 'active' THEN i.price_amount END),
+                   MAX(CASE WHEN i.status = 'active' THEN i.price_amount END),
+                   SUM(i.price_amount * i.sold_quantity)
+            FROM items i GROUP BY i.seller_id ORDER BY i.seller_id
+            """;
+
+    private static final String MAINTAINED = """
+            SELECT seller_id, active_items, price_sum, min_price, max_price, gmv
+            FROM seller_stats WHERE seller_id IN (SELECT seller_id FROM items) ORDER BY seller_id
+            """;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:seller-stats;DB_CLOSE_DELAY=-1");
+        execute("""
+                CREATE TABLE items (id VARCHAR(50) PRIMARY KEY, price_amount BIGINT NOT NULL, sold_quantity INT DEFAULT 0,
+                    status VARCHAR(20) DEFAULT 'active', category_id VARCHAR(50), seller_id BIGINT)
+                """);
+        execute("""
+                CREATE TABLE seller_stats (seller_id BIGINT PRIMARY KEY, active_items INT NOT NULL DEFAULT 0,
+                    price_sum BIGINT NOT NULL DEFAULT 0, min_price BIGINT, max_price BIGINT, gmv BIGINT NOT NULL DEFAULT 0,
+                    top_category_id VARCHAR(50), updated_at TIMESTAMP)
+                """);
+        execute("""
+                CREATE TABLE seller_category_stats (seller_id BIGINT NOT NULL, category_id VARCHAR(50) NOT NULL,
+                    active_items INT NOT NULL DEFAULT 0, PRIMARY KEY (seller_id, category_id))
+                """);
+        execute("CREATE TRIGGER trg_items_seller_stats AFTER INSERT, UPDATE, DELETE ON items FOR EACH ROW CALL '"
+                + SellerStatsTrigger.class.getName() + "'");
+        execute("""
+                INSERT INTO items (id, price_amount, sold_quantity, status, category_id, seller_id) VALUES
+                    ('A', 1000, 10, 'active', 'PHONES', 1),
+                    ('B', 5000, 2, 'active', 'PHONES', 1),
+                    ('C', 300, 50, 'active', 'CASES', 1),
+                    ('D', 700, 5, 'active', 'CASES', 2)
+                """);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        execute("DROP ALL OBJECTS");
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Should match a full recomputation after inserts")
+    void insert_ShouldMaintainStats() throws SQLException {
+        assertThat(rows(MAINTAINED)).isEqualTo(rows(RECOMPUTED));
+        assertThat(topCategory(1)).isEqualTo("PHONES");
+    }
+
+    @Test
+    @DisplayName("Should match a full recomputation after price, status, seller and category changes and deletes")
+    void updateAndDelete_ShouldMaintainStats() throws SQLException {
+        execute("UPDATE items SET price_amount = 200 WHERE id = 'B'");
+        execute("UPDATE items SET status = 'paused' WHERE id = 'C'");
+        execute("UPDATE items SET category_id = 'CASES' WHERE id = 'A'");
+        execute("UPDATE items SET seller_id = 2 WHERE id = 'B'");
+        execute("UPDATE items SET sold_quantity = sold_quantity + 1");
+        execute("DELETE FROM items WHERE id = 'A'");
+
+        assertThat(rows(MAINTAINED)).isEqualTo(rows(RECOMPUTED));
+        assertThat(topCategory(2)).isEqualTo("CASES");
+    }
+
+    @Test
+    @DisplayName("Should clear price bounds when a seller has no active items left")
+    void delete_ShouldClearBoundsOfEmptySeller() throws SQLException {
+        execute("DELETE FROM items WHERE seller_id = 2");
+
+        assertThat(rows("SELECT active_items, min_price, max_price, top_category_id FROM seller_stats WHERE seller_id = 2"))
+                .containsExactly(List.of("0", "null", "null", "null"));
+    }
+
+    private String topCategory(long sellerId) throws SQLException {
+        return rows("SELECT top_category_id FROM seller_stats WHERE seller_id = " + sellerId).get(0).get(0);
+    }
+
+    private List<List<String>> rows(String sql) throws SQLException {
+        List<List<String>> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                List<String> row = new ArrayList<>();
+                for (int i = 1; i <= columns; i++) {
+                    row.add(String.valueOf(resultSet.getObject(i)));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
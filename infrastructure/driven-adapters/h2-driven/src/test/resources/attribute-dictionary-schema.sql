@@ -0,0 +1 @@
+CREATE TABLE IF NOT EXISTS category_attribute_values (attribute_id VARCHAR(100) NOT NULL, category_id VARCHAR(50) NOT NULL, attribute_value VARCHAR(500) NOT NULL, active_items INT NOT NULL DEFAULT 0, PRIMARY KEY (attribute_id, category_id, attribute_value));
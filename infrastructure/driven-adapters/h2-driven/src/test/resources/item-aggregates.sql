@@ -0,0 +1,30 @@
+INSERT INTO categories (id, name, path_from_root) VALUES
+    ('MLA1055', 'Celulares y Teléfonos', 'Electrónicos, Audio y Video > Celulares y Teléfonos'),
+    ('MLA1648', 'Electrónicos, Audio y Video', 'Electrónicos, Audio y Video');
+
+INSERT INTO sellers (id, nickname, permalink, registration_date, country_id, reputation_level, power_seller_status, transactions_completed, transactions_canceled, rating_positive, rating_negative, rating_neutral) VALUES
+    (12345, 'TECHSTORE_OFICIAL', 'https://perfil.mercadolibre.com.ar/TECHSTORE_OFICIAL', '2018-03-15 10:30:00', 'AR', '5_green', 'platinum', 15420, 89, 0.9650, 0.0180, 0.0170),
+    (67890, 'SAMSUNG_OFICIAL', 'https://perfil.mercadolibre.com.ar/SAMSUNG_OFICIAL', '2017-08-20 14:15:00', 'AR', '5_green', 'platinum', 28750, 145, 0.9720, 0.0150, 0.0130);
+
+INSERT INTO items (id, title, price_amount, price_currency, price_decimals, condition_type, available_quantity, sold_quantity, permalink, status, category_id, seller_id, description, listing_type, buying_mode, free_shipping, local_pick_up, created_date, updated_date) VALUES
+    ('MLA1', 'iPhone 15 Pro 128GB', 1299999, 'ARS', 2, 'new', 25, 150, 'https://articulo.mercadolibre.com.ar/MLA-1', 'active', 'MLA1055', 12345, 'iPhone', 'gold_special', 'buy_it_now', true, false, '2024-01-15 10:00:00', '2024-01-15 10:00:00'),
+    ('MLA2', 'Samsung Galaxy S24 Ultra', 1199999, 'ARS', 2, 'new', 18, 89, 'https://articulo.mercadolibre.com.ar/MLA-2', 'active', 'MLA1055', 67890, 'Galaxy', 'gold_special', 'buy_it_now', true, false, '2024-01-20 10:00:00', '2024-01-20 10:00:00'),
+    ('MLA3', 'Sony WH-1000XM5', 89999, 'ARS', 2, 'new', 45, 203, 'https://articulo.mercadolibre.com.ar/MLA-3', 'active', 'MLA1648', 12345, 'Auriculares', 'gold_pro', 'buy_it_now', false, false, '2024-02-01 10:00:00', '2024-02-01 10:00:00');
+
+INSERT INTO item_attributes (item_id, attribute_id, attribute_name, attribute_value, attribute_unit, value_type) VALUES
+    ('MLA1', 'BRAND', 'Marca', 'Apple', NULL, 'string'),
+    ('MLA1', 'MODEL', 'Modelo', 'iPhone 15 Pro', NULL, 'string'),
+    ('MLA2', 'BRAND', 'Marca', 'Samsung', NULL, 'string'),
+    ('MLA2', 'MODEL', 'Modelo', 'Galaxy S24 Ultra', NULL, 'string'),
+    ('MLA3', 'BRAND', 'Marca', 'Sony', NULL, 'string');
+
+INSERT INTO item_pictures (item_id, picture_id, url, secure_url, size, max_size, quality, picture_order) VALUES
+    ('MLA1', 'P1B', 'https://http2.mlstatic.com/p1b.jpg', 'https://http2.mlstatic.com/p1b.jpg', '500x500', '1200x1200', 'high', 2),
+    ('MLA1', 'P1A', 'https://http2.mlstatic.com/p1a.jpg', 'https://http2.mlstatic.com/p1a.jpg', '500x500', '1200x1200', 'high', 1),
+    ('MLA2', 'P2A', 'https://http2.mlstatic.com/p2a.jpg', 'https://http2.mlstatic.com/p2a.jpg', '500x500', '1200x1200', 'high', 1),
+    ('MLA3', 'P3A', 'https://http2.mlstatic.com/p3a.jpg', 'https://http2.mlstatic.com/p3a.jpg', '500x500', '1200x1200', 'high', 1);
+
+INSERT INTO shipping_methods (item_id, method_id, name, type, cost, currency, free_shipping, estimated_min_days, estimated_max_days, local_pick_up) VALUES
+    ('MLA1', 1, 'Envío gratis', 'standard', 0, 'ARS', true, 2, 5, false),
+    ('MLA2', 1, 'Envío gratis', 'standard', 0, 'ARS', true, 2, 5, false),
+    ('MLA3', 2, 'Envío a domicilio', 'standard', 150000, 'ARS', false, 3, 7, false);
@@ -0,0 +1,371 @@
+package com.mercadolibre.challenge.infrastructure.r2dbc.item_detail.adapter;
+
+import com.mercadolibre.challenge.application.port.out.ReactiveItemRepository;
+import com.mercadolibre.challenge.domain.item_detail.Category;
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemAttribute;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Picture;
+import com.mercadolibre.challenge.domain.item_detail.Price;
+import com.mercadolibre.challenge.domain.item_detail.Seller;
+import com.mercadolibre.challenge.domain.item_detail.ShippingMethod;
+import com.mercadolibre.challenge.infrastructure.r2dbc.item_detail.config.ReactiveReadDatabase;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Implementación R2DBC de las lecturas de items del stack reactivo.
+ *
+ * Las consultas son las de JpaItemRepository escritas en SQL: mismas columnas, filtros y orden, así el
+ * JSON no cambia entre perfiles. Como en ItemAggregateLoader e ItemSummaryLoader, las colecciones de
+ * una página se traen con una consulta IN por tabla; acá las de cada página salen en paralelo, cada una
+ * por su conexión del pool.
+ */
+@Repository
+@Profile("reactive")
+public class R2dbcItemRepositoryAdapter implements ReactiveItemRepository {
+
+    private static final String ITEM_COLUMNS = """
+            SELECT i.id, i.title, i.price_amount, i.price_currency, i.price_decimals, i.condition_type,
+                   i.available_quantity, i.sold_quantity, i.permalink, i.status, i.description, i.listing_type,
+                   i.buying_mode, i.free_shipping, i.local_pick_up, i.created_date, i.updated_date,
+                   c.id AS category_id, c.name AS category_name, c.path_from_root AS category_path,
+                   s.id AS seller_id, s.nickname AS seller_nickname, s.permalink AS seller_permalink,
+                   s.registration_date AS seller_registration_date, s.country_id AS seller_country_id,
+                   s.reputation_level AS seller_reputation, s.power_seller_status AS seller_power_status,
+                   s.transactions_completed AS seller_transactions_completed,
+                   s.transactions_canceled AS seller_transactions_canceled,
+                   s.rating_positive AS seller_rating_positive, s.rating_negative AS seller_rating_negative,
+                   s.rating_neutral AS seller_rating_neutral
+            FROM items i
+            LEFT JOIN categories c ON c.id = i.category_id
+            LEFT JOIN sellers s ON s.id = i.seller_id
+            """;
+
+    private static final String SUMMARY_COLUMNS = """
+            SELECT i.id, i.title, i.price_amount, i.price_currency, i.price_decimals, i.condition_type,
+                   i.free_shipping, s.id AS seller_id, s.nickname AS seller_nickname,
+                   s.reputation_level AS seller_reputation, s.power_seller_status AS seller_power_status,
+                   i.sold_quantity, i.category_id, i.created_date
+            FROM items i
+            LEFT JOIN sellers s ON s.id = i.seller_id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcItemRepositoryAdapter(ReactiveReadDatabase readDatabase) {
+        this.databaseClient = readDatabase.getDatabaseClient();
+    }
+
+    @Override
+    public Mono<Item> findById(String id) {
+        return findAllByIds(List.of(id))
+                .flatMap(items -> items.isEmpty() ? Mono.empty() : Mono.just(items.get(0)));
+    }
+
+    @Override
+    public Mono<List<Item>> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return databaseClient.sql(ITEM_COLUMNS + "WHERE i.id IN (:ids)")
+                .bind("ids", ids)
+                .map(ItemRow::from)
+                .all()
+                .collectList()
+                .flatMap(rows -> loadItems(inRequestOrder(ids, rows, ItemRow::id)));
+    }
+
+    @Override
+    public Mono<List<ItemSummary>> findSummariesByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return databaseClient.sql(SUMMARY_COLUMNS + "WHERE i.id IN (:ids)")
+                .bind("ids", ids)
+                .map(SummaryRow::from)
+                .all()
+                .collectList()
+                .flatMap(rows -> loadSummaries(inRequestOrder(ids, rows, SummaryRow::id)));
+    }
+
+    @Override
+    public Mono<Map<String, List<ItemAttribute>>> findAttributesByItemIds(Collection<String> itemIds) {
+        if (itemIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql("""
+                        SELECT item_id, attribute_id, attribute_name, attribute_value, attribute_unit, value_type
+                        FROM item_attributes
+                        WHERE item_id IN (:itemIds)
+                        ORDER BY id
+                        """)
+                .bind("itemIds", itemIds)
+                .map(row -> Map.entry(row.get("item_id", String.class), ItemAttribute.of(
+                        row.get("attribute_id", String.class),
+                        row.get("attribute_name", String.class),
+                        row.get("attribute_value", String.class),
+                        row.get("attribute_unit", String.class),
+                        row.get("value_type", String.class))))
+                .all()
+                .collect(LinkedHashMap::new, (grouped, entry) -> grouped
+                        .computeIfAbsent(entry.getKey(), itemId -> new ArrayList<>())
+                        .add(entry.getValue()));
+    }
+
+    @Override
+    public Mono<List<ItemSummary>> findBestSellers(int limit) {
+        return databaseClient.sql(SUMMARY_COLUMNS + """
+                        WHERE i.status = 'active'
+                        ORDER BY i.sold_quantity DESC
+                        LIMIT :limit
+                        """)
+                .bind("limit", limit)
+                .map(SummaryRow::from)
+                .all()
+                .collectList()
+                .flatMap(this::loadSummaries);
+    }
+
+    @Override
+    public Mono<List<ItemSummary>> findTrendingByCategory(String categoryId, int limit) {
+        return databaseClient.sql(SUMMARY_COLUMNS + """
+                        WHERE i.category_id = :categoryId AND i.status = 'active'
+                        ORDER BY i.sold_quantity DESC, i.created_date DESC
+                        LIMIT :limit
+                        """)
+                .bind("categoryId", categoryId)
+                .bind("limit", limit)
+                .map(SummaryRow::from)
+                .all()
+                .collectList()
+                .flatMap(this::loadSummaries);
+    }
+
+    @Override
+    public Mono<List<ItemSummary>> findSimilarItems(String itemId, int limit) {
+        return databaseClient.sql(SUMMARY_COLUMNS + """
+                        WHERE i.category_id = (SELECT i2.category_id FROM items i2 WHERE i2.id = :itemId)
+                        AND i.id <> :itemId
+                        AND i.status = 'active'
+                        ORDER BY i.sold_quantity DESC
+                        LIMIT :limit
+                        """)
+                .bind("itemId", itemId)
+                .bind("limit", limit)
+                .map(SummaryRow::from)
+                .all()
+                .collectList()
+                .flatMap(this::loadSummaries);
+    }
+
+    /**
+     * Atributos, imágenes y métodos de envío de toda la página, las tres consultas a la vez
+     */
+    private Mono<List<Item>> loadItems(List<ItemRow> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        List<String> itemIds = rows.stream().map(ItemRow::id).toList();
+
+        Mono<Map<String, List<Picture>>> pictures = databaseClient.sql("""
+                        SELECT item_id, picture_id, url, secure_url, size, max_size, quality, picture_order
+                        FROM item_pictures
+                        WHERE item_id IN (:itemIds)
+                        ORDER BY picture_order ASC
+                        """)
+                .bind("itemIds", itemIds)
+                .map(row -> Map.entry(row.get("item_id", String.class), Picture.of(
+                        row.get("picture_id", String.class),
+                        row.get("url", String.class),
+                        row.get("secure_url", String.class),
+                        row.get("size", String.class),
+                        row.get("max_size", String.class),
+                        row.get("quality", String.class),
+                        row.get("picture_order", Integer.class))))
+                .all()
+                .collect(HashMap::new, (grouped, entry) -> grouped
+                        .computeIfAbsent(entry.getKey(), itemId -> new ArrayList<>())
+                        .add(entry.getValue()));
+        Mono<Map<String, List<ShippingMethod>>> shippingMethods = databaseClient.sql("""
+                        SELECT item_id, method_id, name, type, cost, currency, free_shipping,
+                               estimated_min_days, estimated_max_days, local_pick_up
+                        FROM shipping_methods
+                        WHERE item_id IN (:itemIds)
+                        ORDER BY id
+                        """)
+                .bind("itemIds", itemIds)
+                .map(row -> Map.entry(row.get("item_id", String.class), ShippingMethod.of(
+                        row.get("method_id", Integer.class),
+                        row.get("name", String.class),
+                        row.get("type", String.class),
+                        row.get("cost", Long.class),
+                        row.get("currency", String.class),
+                        row.get("free_shipping", Boolean.class),
+                        row.get("estimated_min_days", Integer.class),
+                        row.get("estimated_max_days", Integer.class),
+                        row.get("local_pick_up", Boolean.class))))
+                .all()
+                .collect(HashMap::new, (grouped, entry) -> grouped
+                        .computeIfAbsent(entry.getKey(), itemId -> new ArrayList<>())
+                        .add(entry.getValue()));
+
+        return Mono.zip(findAttributesByItemIds(itemIds), pictures, shippingMethods)
+                .map(loaded -> {
+                    List<Item> items = new ArrayList<>(rows.size());
+                    for (ItemRow row : rows) {
+                        items.add(row.toDomain(
+                                loaded.getT1().getOrDefault(row.id(), List.of()),
+                                loaded.getT2().getOrDefault(row.id(), List.of()),
+                                loaded.getT3().getOrDefault(row.id(), List.of())));
+                    }
+                    return items;
+                });
+    }
+
+    /**
+     * Imagen principal y envío gratis por método, igual que ItemSummaryLoader, con las dos consultas a la vez
+     */
+    private Mono<List<ItemSummary>> loadSummaries(List<SummaryRow> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        List<String> itemIds = rows.stream().map(SummaryRow::id).toList();
+
+        Mono<Map<String, String>> thumbnails = databaseClient.sql("""
+                        SELECT p.item_id, p.url FROM item_pictures p
+                        WHERE p.item_id IN (:itemIds)
+                        AND p.picture_order = (SELECT MIN(p2.picture_order) FROM item_pictures p2 WHERE p2.item_id = p.item_id)
+                        """)
+                .bind("itemIds", itemIds)
+                .map(row -> Map.entry(row.get("item_id", String.class), row.get("url", String.class)))
+                .all()
+                .collect(HashMap::new, (byItem, entry) -> byItem.putIfAbsent(entry.getKey(), entry.getValue()));
+        Mono<Set<String>> freeShippingMethod = databaseClient.sql("""
+                        SELECT DISTINCT item_id FROM shipping_methods
+                        WHERE item_id IN (:itemIds) AND free_shipping = TRUE
+                        """)
+                .bind("itemIds", itemIds)
+                .map(row -> row.get("item_id", String.class))
+                .all()
+                .collect(HashSet::new, Set::add);
+
+        return Mono.zip(thumbnails, freeShippingMethod)
+                .map(loaded -> {
+                    List<ItemSummary> summaries = new ArrayList<>(rows.size());
+                    for (SummaryRow row : rows) {
+                        summaries.add(row.toDomain(loaded.getT1().get(row.id()),
+                                loaded.getT2().contains(row.id())));
+                    }
+                    return summaries;
+                });
+    }
+
+    /**
+     * El IN no garantiza orden: se devuelve el de los ids pedidos, sin los que no existen
+     */
+    private static <R> List<R> inRequestOrder(Collection<String> ids, List<R> rows, Function<R, String> idOf) {
+        Map<String, R> rowsById = new HashMap<>();
+        for (R row : rows) {
+            rowsById.put(idOf.apply(row), row);
+        }
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(row -> row != null)
+                .toList();
+    }
+
+    private record ItemRow(String id, String title, Price price, String conditionType, Integer availableQuantity,
+                           Integer soldQuantity, String permalink, String status, String description,
+                           String listingType, String buyingMode, Boolean freeShipping, Boolean localPickUp,
+                           LocalDateTime createdDate, LocalDateTime updatedDate, Category category, Seller seller) {
+
+        private static ItemRow from(Readable row) {
+            String categoryId = row.get("category_id", String.class);
+            Long sellerId = row.get("seller_id", Long.class);
+            return new ItemRow(
+                    row.get("id", String.class),
+                    row.get("title", String.class),
+                    Price.of(row.get("price_amount", Long.class), row.get("price_currency", String.class),
+                            row.get("price_decimals", Integer.class)),
+                    row.get("condition_type", String.class),
+                    row.get("available_quantity", Integer.class),
+                    row.get("sold_quantity", Integer.class),
+                    row.get("permalink", String.class),
+                    row.get("status", String.class),
+                    row.get("description", String.class),
+                    row.get("listing_type", String.class),
+                    row.get("buying_mode", String.class),
+                    row.get("free_shipping", Boolean.class),
+                    row.get("local_pick_up", Boolean.class),
+                    row.get("created_date", LocalDateTime.class),
+                    row.get("updated_date", LocalDateTime.class),
+                    categoryId == null ? null : Category.from(categoryId,
+                            row.get("category_name", String.class),
+                            row.get("category_path", String.class)),
+                    sellerId == null ? null : Seller.from(sellerId,
+                            row.get("seller_nickname", String.class),
+                            row.get("seller_permalink", String.class),
+                            row.get("seller_registration_date", LocalDateTime.class),
+                            row.get("seller_country_id", String.class),
+                            row.get("seller_reputation", String.class),
+                            row.get("seller_power_status", String.class),
+                            row.get("seller_transactions_completed", Integer.class),
+                            row.get("seller_transactions_canceled", Integer.class),
+                            row.get("seller_rating_positive", BigDecimal.class),
+                            row.get("seller_rating_negative", BigDecimal.class),
+                            row.get("seller_rating_neutral", BigDecimal.class)));
+        }
+
+        private Item toDomain(List<ItemAttribute> attributes, List<Picture> pictures,
+                              List<ShippingMethod> shippingMethods) {
+            return Item.from(id, title, price, conditionType, availableQuantity, soldQuantity, permalink, status,
+                    description, listingType, buyingMode, freeShipping, localPickUp, createdDate, updatedDate,
+                    category, seller, attributes, pictures, shippingMethods, null, null);
+        }
+    }
+
+    private record SummaryRow(String id, String title, Price price, String conditionType, Boolean freeShipping,
+                              Long sellerId, String sellerNickname, String sellerReputation,
+                              String sellerPowerStatus, Integer soldQuantity, String categoryId,
+                              LocalDateTime createdDate) {
+
+        private static SummaryRow from(Readable row) {
+            return new SummaryRow(
+                    row.get("id", String.class),
+                    row.get("title", String.class),
+                    Price.of(row.get("price_amount", Long.class), row.get("price_currency", String.class),
+                            row.get("price_decimals", Integer.class)),
+                    row.get("condition_type", String.class),
+                    row.get("free_shipping", Boolean.class),
+                    row.get("seller_id", Long.class),
+                    row.get("seller_nickname", String.class),
+                    row.get("seller_reputation", String.class),
+                    row.get("seller_power_status", String.class),
+                    row.get("sold_quantity", Integer.class),
+                    row.get("category_id", String.class),
+                    row.get("created_date", LocalDateTime.class));
+        }
+
+        private ItemSummary toDomain(String thumbnailUrl, boolean freeShippingMethod) {
+            return ItemSummary.from(id, title, price, conditionType, thumbnailUrl,
+                    Boolean.TRUE.equals(freeShipping) || freeShippingMethod, sellerId, sellerNickname,
+                    sellerReputation, sellerPowerStatus, soldQuantity, categoryId, createdDate);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mercadolibre.challenge.infrastructure.r2dbc.item_detail.config;
+
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pool R2DBC de solo lectura sobre la misma base H2 que usa el DataSource JDBC.
+ *
+ * La URL se deriva de spring.datasource.url, así las lecturas reactivas ven los datos que cargan Flyway
+ * y las escrituras de JPA. El ConnectionFactory no se publica como bean a propósito: con un
+ * io.r2dbc.spi.ConnectionFactory en el contexto Spring Boot deja de crear el DataSource JDBC.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveReadDatabase implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveReadDatabase.class);
+    private static final String JDBC_H2_PREFIX = "jdbc:h2:";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveReadDatabase(@Value("${spring.datasource.url}") String jdbcUrl,
+                                @Value("${spring.datasource.username:sa}") String username,
+                                @Value("${spring.datasource.password:}") String password,
+                                @Value("${reactive.r2dbc.pool-size:8}") int poolSize) {
+        if (!jdbcUrl.startsWith(JDBC_H2_PREFIX)) {
+            throw new IllegalStateException("The reactive read path only supports H2 URLs: " + jdbcUrl);
+        }
+        H2ConnectionFactory connectionFactory = new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(JDBC_H2_PREFIX.length()))
+                .username(username)
+                .password(password)
+                .build());
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive-read")
+                .initialSize(poolSize)
+                .maxSize(poolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        log.info("R2DBC read pool ready with {} connections", poolSize);
+    }
+
+    public DatabaseClient getDatabaseClient() {
+        return databaseClient;
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,98 @@
+package com.mercadolibre.challenge.infrastructure.r2dbc.item_detail.adapter;
+
+import com.mercadolibre.challenge.domain.item_detail.Item;
+import com.mercadolibre.challenge.domain.item_detail.ItemSummary;
+import com.mercadolibre.challenge.domain.item_detail.Picture;
+import com.mercadolibre.challenge.infrastructure.r2dbc.item_detail.config.ReactiveReadDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Corre el adaptador contra el esquema de V1__schema.sql con el fixture item-aggregates.sql, el mismo que usa
+ * ItemRepositoryAdapterTest en h2-driven
+ */
+@DisplayName("Tests for R2dbcItemRepositoryAdapter")
+class R2dbcItemRepositoryAdapterTest {
+
+    private static final String URL = "jdbc:h2:mem:r2dbc_adapter;DB_CLOSE_DELAY=-1";
+
+    private Connection connection;
+    private ReactiveReadDatabase database;
+    private R2dbcItemRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(URL, "sa", "");
+        execute("DROP ALL OBJECTS");
+        execute("RUNSCRIPT FROM 'classpath:/V1__schema.sql' CHARSET 'UTF-8'");
+        execute("RUNSCRIPT FROM 'classpath:/item-aggregates.sql' CHARSET 'UTF-8'");
+
+        database = new ReactiveReadDatabase(URL, "sa", "", 2);
+        adapter = new R2dbcItemRepositoryAdapter(database);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        database.destroy();
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("Should load aggregates in request order and skip missing ids")
+    void findAllByIds_ShouldKeepRequestOrderAndSkipMissing() {
+        List<Item> items = adapter.findAllByIds(List.of("MLA3", "MISSING", "MLA1")).block();
+
+        assertThat(items).extracting(Item::getId).containsExactly("MLA3", "MLA1");
+        Item iphone = items.get(1);
+        assertThat(iphone.getPictures()).extracting(Picture::getPictureId).containsExactly("P1A", "P1B");
+        assertThat(iphone.getAttributes()).hasSize(2);
+        assertThat(iphone.getSeller().getNickname()).isEqualTo("TECHSTORE_OFICIAL");
+        assertThat(iphone.getCategory().getId()).isEqualTo("MLA1055");
+
+        assertThat(adapter.findById("MISSING").blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return active items of the same category, excluding the base item")
+    void findSimilarItems_ShouldReturnActiveItemsOfSameCategory() throws SQLException {
+        execute("INSERT INTO items (id, title, price_amount, condition_type, status, category_id, seller_id, sold_quantity)"
+                + " VALUES ('MLA4', 'Funda para iPhone', 1500000, 'new', 'paused', 'MLA1055', 12345, 500)");
+
+        List<ItemSummary> similar = adapter.findSimilarItems("MLA1", 5).block();
+
+        assertThat(similar).extracting(ItemSummary::getId).containsExactly("MLA2");
+        assertThat(adapter.findSimilarItems("MISSING", 5).block()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve the first picture as thumbnail and free shipping from the item or its methods")
+    void findSummariesByIds_ShouldResolveThumbnailAndFreeShipping() throws SQLException {
+        // MLA1 sigue con envío gratis por su método aunque el item no lo marque
+        execute("UPDATE items SET free_shipping = FALSE WHERE id = 'MLA1'");
+
+        List<ItemSummary> summaries = adapter.findSummariesByIds(List.of("MLA1", "MLA3")).block();
+
+        assertThat(summaries).extracting(ItemSummary::getId).containsExactly("MLA1", "MLA3");
+        ItemSummary iphone = summaries.get(0);
+        assertThat(iphone.getThumbnailUrl()).contains("https://http2.mlstatic.com/p1a.jpg");
+        assertThat(iphone.hasFreeShipping()).isTrue();
+        assertThat(iphone.getSellerNickname()).isEqualTo("TECHSTORE_OFICIAL");
+        assertThat(summaries.get(1).hasFreeShipping()).isFalse();
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
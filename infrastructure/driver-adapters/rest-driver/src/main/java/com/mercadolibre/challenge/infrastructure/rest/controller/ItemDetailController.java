@@ -6,9 +6,13 @@ import com.mercadolibre.challenge.application.dto.SearchRequest;
 import com.mercadolibre.challenge.application.dto.SearchResponse;
 import com.mercadolibre.challenge.application.port.in.CompareItemsUseCase;
 import com.mercadolibre.challenge.application.port.in.GetItemDetailUseCase;
+import com.mercadolibre.challenge.application.port.in.RecordItemViewUseCase;
 import com.mercadolibre.challenge.application.port.in.SearchItemsUseCase;
+import com.mercadolibre.challenge.infrastructure.rest.request.AttributeFilters;
 import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -16,24 +20,33 @@ import java.util.List;
 
 @RestController
 @RequestMapping("/items")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @CrossOrigin(origins = "*")
 public class ItemDetailController {
 
     private final GetItemDetailUseCase getItemDetailUseCase;
     private final SearchItemsUseCase searchItemsUseCase;
     private final CompareItemsUseCase compareItemsUseCase;
+    private final RecordItemViewUseCase recordItemViewUseCase;
 
     public ItemDetailController(GetItemDetailUseCase getItemDetailUseCase,
                                SearchItemsUseCase searchItemsUseCase,
-                               CompareItemsUseCase compareItemsUseCase) {
+                               CompareItemsUseCase compareItemsUseCase,
+                               RecordItemViewUseCase recordItemViewUseCase) {
         this.getItemDetailUseCase = getItemDetailUseCase;
         this.searchItemsUseCase = searchItemsUseCase;
         this.compareItemsUseCase = compareItemsUseCase;
+        this.recordItemViewUseCase = recordItemViewUseCase;
     }
 
+    /**
+     * La vista se cuenta acá y no en el servicio porque el detalle puede salir de caché sin ejecutarlo.
+     * Solo cuentan los detalles encontrados.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ItemDetailResponse>> getItemDetail(@PathVariable("id") String id) {
         ItemDetailResponse itemDetail = getItemDetailUseCase.getItemDetail(id);
+        recordItemViewUseCase.recordView(itemDetail.getId());
         return ResponseEntity.ok(
                 ApiResponse.success(itemDetail, "Item detail retrieved successfully")
         );
@@ -50,12 +63,16 @@ public class ItemDetailController {
             @RequestParam(name = "seller_reputation", required = false) String seller_reputation,
             @RequestParam(name = "sort", required = false, defaultValue = "relevance") String sort,
             @RequestParam(name = "limit",required = false, defaultValue = "50") Integer limit,
-            @RequestParam(name ="offset", required = false, defaultValue = "0") Integer offset
+            @RequestParam(name ="offset", required = false, defaultValue = "0") Integer offset,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam MultiValueMap<String, String> params
     ) {
         SearchRequest searchRequest = new SearchRequest(
                 query, category, min_price, max_price, condition,
                 free_shipping, seller_reputation, sort, limit, offset
         );
+        searchRequest.setCursor(cursor);
+        searchRequest.setAttributes(AttributeFilters.from(params));
 
         SearchResponse searchResponse = searchItemsUseCase.searchItems(searchRequest);
         return ResponseEntity.ok(
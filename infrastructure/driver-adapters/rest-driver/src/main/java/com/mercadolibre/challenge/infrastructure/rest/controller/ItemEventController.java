@@ -0,0 +1,35 @@
+package com.mercadolibre.challenge.infrastructure.rest.controller;
+
+import com.mercadolibre.challenge.application.dto.ItemEventRequest;
+import com.mercadolibre.challenge.application.port.in.RecordItemEventUseCase;
+import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/items")
+@CrossOrigin(origins = "*")
+public class ItemEventController {
+
+    private final RecordItemEventUseCase recordItemEventUseCase;
+
+    public ItemEventController(RecordItemEventUseCase recordItemEventUseCase) {
+        this.recordItemEventUseCase = recordItemEventUseCase;
+    }
+
+    /**
+     * Registrar una vista o compra de un item dentro de una sesión
+     * POST /api/v1/items/{id}/events  {"sessionId": "...", "type": "VIEW" | "PURCHASE"}
+     */
+    @PostMapping("/{id}/events")
+    public ResponseEntity<ApiResponse<Void>> recordEvent(
+            @PathVariable("id") String id,
+            @RequestBody ItemEventRequest request
+    ) {
+        recordItemEventUseCase.recordEvent(id, request);
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Event recorded successfully"));
+    }
+}
@@ -3,14 +3,22 @@ package com.mercadolibre.challenge.infrastructure.rest.controller;
 import com.mercadolibre.challenge.application.dto.RecommendationResponse;
 import com.mercadolibre.challenge.application.port.in.GetRecommendationsUseCase;
 import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import com.mercadolibre.challenge.infrastructure.rest.response.RecommendationETag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/items")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @CrossOrigin(origins = "*")
 public class RecommendationController {
 
+    private static final CacheControl RECOMMENDATIONS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(60));
+
     private final GetRecommendationsUseCase getRecommendationsUseCase;
 
     public RecommendationController(GetRecommendationsUseCase getRecommendationsUseCase) {
@@ -23,9 +31,7 @@ public class RecommendationController {
             @RequestParam(name = "limit", required = false, defaultValue = "10") Integer limit
     ) {
         RecommendationResponse recommendations = getRecommendationsUseCase.getSimilarItems(id, limit);
-        return ResponseEntity.ok(
-                ApiResponse.success(recommendations, "Recommendations retrieved successfully")
-        );
+        return cacheable(recommendations, "Recommendations retrieved successfully");
     }
 
     @GetMapping("/{id}/similar")
@@ -34,9 +40,7 @@ public class RecommendationController {
             @RequestParam(name = "limit", required = false, defaultValue = "10") Integer limit
     ) {
         RecommendationResponse similar = getRecommendationsUseCase.getSimilarItems(id, limit);
-        return ResponseEntity.ok(
-                ApiResponse.success(similar, "Similar items retrieved successfully")
-        );
+        return cacheable(similar, "Similar items retrieved successfully");
     }
 
     @GetMapping("/{id}/frequently-bought-together")
@@ -45,9 +49,7 @@ public class RecommendationController {
             @RequestParam(name = "limit", required = false, defaultValue = "5") Integer limit
     ) {
         RecommendationResponse frequentlyBought = getRecommendationsUseCase.getFrequentlyBoughtTogether(id, limit);
-        return ResponseEntity.ok(
-                ApiResponse.success(frequentlyBought, "Frequently bought together items retrieved successfully")
-        );
+        return cacheable(frequentlyBought, "Frequently bought together items retrieved successfully");
     }
 
     @GetMapping("/{id}/also-viewed")
@@ -56,8 +58,16 @@ public class RecommendationController {
             @RequestParam(name = "limit", required = false, defaultValue = "8") Integer limit
     ) {
         RecommendationResponse alsoViewed = getRecommendationsUseCase.getAlsoViewed(id, limit);
-        return ResponseEntity.ok(
-                ApiResponse.success(alsoViewed, "Also viewed items retrieved successfully")
-        );
+        return cacheable(alsoViewed, "Also viewed items retrieved successfully");
+    }
+
+    /**
+     * Con If-None-Match coincidente Spring responde 304 sin cuerpo
+     */
+    private ResponseEntity<ApiResponse<RecommendationResponse>> cacheable(RecommendationResponse response, String message) {
+        return ResponseEntity.ok()
+                .eTag(RecommendationETag.of(response))
+                .cacheControl(RECOMMENDATIONS_CACHE_CONTROL)
+                .body(ApiResponse.success(response, message));
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package com.mercadolibre.challenge.infrastructure.rest.controller;
 
 import com.mercadolibre.challenge.application.dto.SearchResponse;
 import com.mercadolibre.challenge.application.dto.SellerAnalyticsResponse;
+import com.mercadolibre.challenge.application.dto.TopSellersResponse;
 import com.mercadolibre.challenge.application.port.in.GetSellerAnalyticsUseCase;
 import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
 import org.springframework.http.ResponseEntity;
@@ -32,9 +33,10 @@ public class SellerController {
     public ResponseEntity<ApiResponse<SearchResponse>> getSellerItems(
             @PathVariable("id") Long id,
             @RequestParam(name = "limit", required = false, defaultValue = "20") Integer limit,
-            @RequestParam(name ="offset", required = false, defaultValue = "0") Integer offset
+            @RequestParam(name ="offset", required = false, defaultValue = "0") Integer offset,
+            @RequestParam(name = "cursor", required = false) String cursor
     ) {
-        SearchResponse items = getSellerAnalyticsUseCase.getSellerItems(id, limit, offset);
+        SearchResponse items = getSellerAnalyticsUseCase.getSellerItems(id, limit, offset, cursor);
         return ResponseEntity.ok(
                 ApiResponse.success(items, "Seller items retrieved successfully")
         );
@@ -51,10 +53,10 @@ public class SellerController {
     }
 
     @GetMapping("/top-rated")
-    public ResponseEntity<ApiResponse<SearchResponse>> getTopRatedSellers(
+    public ResponseEntity<ApiResponse<TopSellersResponse>> getTopRatedSellers(
             @RequestParam(name = "limit",required = false, defaultValue = "10") Integer limit
     ) {
-        SearchResponse topSellers = getSellerAnalyticsUseCase.getTopRatedSellers(limit);
+        TopSellersResponse topSellers = getSellerAnalyticsUseCase.getTopRatedSellers(limit);
         return ResponseEntity.ok(
                 ApiResponse.success(topSellers, "Top rated sellers retrieved successfully")
         );
@@ -1,14 +1,18 @@
 package com.mercadolibre.challenge.infrastructure.rest.controller;
 
+import com.mercadolibre.challenge.application.dto.SearchRequest;
 import com.mercadolibre.challenge.application.dto.SearchResponse;
 import com.mercadolibre.challenge.application.dto.TrendingResponse;
 import com.mercadolibre.challenge.application.port.in.GetTrendingItemsUseCase;
+import com.mercadolibre.challenge.application.port.in.SearchItemsUseCase;
 import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/trending")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @CrossOrigin(origins = "*")
 public class TrendingController {
 
@@ -41,13 +45,37 @@ public class TrendingController {
 
 @RestController
 @RequestMapping("/categories")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @CrossOrigin(origins = "*")
 class CategoryTrendingController {
 
     private final GetTrendingItemsUseCase getTrendingItemsUseCase;
+    private final SearchItemsUseCase searchItemsUseCase;
 
-    public CategoryTrendingController(GetTrendingItemsUseCase getTrendingItemsUseCase) {
+    public CategoryTrendingController(GetTrendingItemsUseCase getTrendingItemsUseCase,
+                                      SearchItemsUseCase searchItemsUseCase) {
         this.getTrendingItemsUseCase = getTrendingItemsUseCase;
+        this.searchItemsUseCase = searchItemsUseCase;
+    }
+
+    @GetMapping("/{categoryId}/items")
+    public ResponseEntity<ApiResponse<SearchResponse>> getCategoryItems(
+            @PathVariable("categoryId") String categoryId,
+            @RequestParam(name = "sort", required = false, defaultValue = "newest") String sort,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") Integer limit,
+            @RequestParam(name = "offset", required = false, defaultValue = "0") Integer offset,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        SearchRequest searchRequest = new SearchRequest(
+                null, categoryId, null, null, null,
+                null, null, sort, limit, offset
+        );
+        searchRequest.setCursor(cursor);
+
+        SearchResponse items = searchItemsUseCase.searchItems(searchRequest);
+        return ResponseEntity.ok(
+                ApiResponse.success(items, "Category items retrieved successfully")
+        );
     }
 
     @GetMapping("/{categoryId}/trending")
@@ -4,10 +4,12 @@ import com.mercadolibre.challenge.domain.common.exception.BaseException;
 import com.mercadolibre.challenge.domain.common.exception.ValidationException;
 import com.mercadolibre.challenge.domain.common.exception.BusinessException;
 import com.mercadolibre.challenge.domain.common.exception.codes.ExceptionCode;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
 import com.mercadolibre.challenge.domain.common.exception.payment_period.BaseNotFoundException;
 import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
 import com.mercadolibre.challenge.infrastructure.rest.response.ValidationErrorResponse;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,10 +26,11 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * Manejador global de excepciones para la API REST
+ * Manejador global de excepciones para la API REST (stack MVC; el reactivo tiene el suyo en webflux-driver)
  */
 @RestControllerAdvice
 @Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     private <T> ResponseEntity<T> json(HttpStatus status, T body) {
@@ -66,6 +69,13 @@ public class GlobalExceptionHandler {
         return json(HttpStatus.NOT_FOUND, ApiResponse.error(ex.getErrorCode(), ex.getUserMessage(), ex.getMessage()));
     }
 
+    /**
+     * ItemNotFoundException no hereda de BaseNotFoundException porque conserva su propio código (ITEM_NOT_FOUND)
+     */
+    @ExceptionHandler(ItemNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleItemNotFoundException(ItemNotFoundException ex, WebRequest r) {
+        return json(HttpStatus.NOT_FOUND, ApiResponse.error(ex.getErrorCode(), ex.getUserMessage(), ex.getMessage()));
+    }
 
     @ExceptionHandler(BaseException.class)
     public ResponseEntity<ApiResponse<Void>> handleBaseException(BaseException ex, WebRequest r) {
@@ -0,0 +1,41 @@
+package com.mercadolibre.challenge.infrastructure.rest.request;
+
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Filtros por atributo de la búsqueda, compartidos por los controllers MVC y WebFlux
+ */
+public final class AttributeFilters {
+
+    private static final String ATTRIBUTE_PARAM_PREFIX = "attr.";
+
+    private AttributeFilters() {
+    }
+
+    /**
+     * Parámetros attr.ATRIBUTO=valor, repetibles (attr.BRAND=apple&attr.BRAND=samsung&attr.STORAGE=256gb).
+     * El id de atributo se normaliza a mayúsculas; los valores se comparan sin distinguir mayúsculas.
+     */
+    public static Map<String, List<String>> from(MultiValueMap<String, String> params) {
+        Map<String, List<String>> attributes = new LinkedHashMap<>();
+        params.forEach((name, values) -> {
+            if (!name.startsWith(ATTRIBUTE_PARAM_PREFIX) || name.length() == ATTRIBUTE_PARAM_PREFIX.length()) {
+                return;
+            }
+            List<String> accepted = values.stream()
+                    .filter(value -> value != null && !value.isBlank())
+                    .map(String::trim)
+                    .toList();
+            if (!accepted.isEmpty()) {
+                attributes.computeIfAbsent(name.substring(ATTRIBUTE_PARAM_PREFIX.length()).toUpperCase(),
+                        k -> new ArrayList<>()).addAll(accepted);
+            }
+        });
+        return attributes;
+    }
+}
@@ -0,0 +1,36 @@
+package com.mercadolibre.challenge.infrastructure.rest.response;
+
+import com.mercadolibre.challenge.application.dto.RecommendationResponse;
+import com.mercadolibre.challenge.application.dto.RecommendationResponse.RecommendedItemDto;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ETag de las respuestas de recomendaciones.
+ *
+ * Los scores son deterministas, así que se deriva del contenido de la recomendación (no del ApiResponse,
+ * que lleva timestamp). Con If-None-Match coincidente Spring responde 304 sin cuerpo, en MVC y en WebFlux.
+ */
+public final class RecommendationETag {
+
+    private RecommendationETag() {
+    }
+
+    public static String of(RecommendationResponse response) {
+        StringBuilder content = new StringBuilder()
+                .append(response.getRecommendationType()).append('|')
+                .append(response.getBaseItemId());
+        for (RecommendedItemDto item : response.getRecommendedItems()) {
+            content.append('|').append(item.getId())
+                    .append(':').append(item.getConfidenceScore())
+                    .append(':').append(item.getPrice().getAmount())
+                    .append(':').append(item.getPrice().getCurrency())
+                    .append(':').append(item.getSoldQuantity())
+                    .append(':').append(item.getFreeShipping())
+                    .append(':').append(item.getTitle())
+                    .append(':').append(item.getThumbnailUrl());
+        }
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,7 +3,10 @@ package com.mercadolibre.challenge.infrastructure.rest.exception;
 import com.mercadolibre.challenge.domain.common.exception.BaseException;
 import com.mercadolibre.challenge.domain.common.exception.BusinessException;
 import com.mercadolibre.challenge.domain.common.exception.ValidationException;
+import com.mercadolibre.challenge.domain.common.exception.codes.ExceptionCode;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
 import com.mercadolibre.challenge.domain.common.exception.payment_period.BaseNotFoundException;
+import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -74,6 +77,20 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should handle ItemNotFoundException and return 404 with its own code")
+    void handleItemNotFoundException_ShouldReturn404() {
+        // Arrange
+        ItemNotFoundException exception = new ItemNotFoundException("MLA999");
+
+        // Act
+        ResponseEntity<ApiResponse<Void>> response = globalExceptionHandler.handleItemNotFoundException(exception, null);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody().getErrorCode()).isEqualTo(ExceptionCode.ITEM_NOT_FOUND);
+    }
+
 
 
     @Test
@@ -0,0 +1,49 @@
+package com.mercadolibre.challenge.infrastructure.webflux.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Servidor del stack reactivo: Reactor Netty con un event loop de tamaño fijo.
+ *
+ * Con spring-boot-starter-web en el classpath Spring Boot elegiría Tomcat también para WebFlux;
+ * declarar la fábrica de Netty lo evita. Los controllers que siguen devolviendo valores en lugar de Mono
+ * (personas, vendedores, eventos) se ejecutan en boundedElastic, el mismo pool que usan los controllers
+ * reactivos para los casos de uso JDBC, y nunca en el event loop.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig implements WebFluxConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveServerConfig.class);
+
+    @Bean(destroyMethod = "dispose")
+    public LoopResources reactiveServerLoopResources(
+            @Value("${reactive.server.event-loop-threads:0}") int eventLoopThreads) {
+        int threads = eventLoopThreads > 0 ? eventLoopThreads : Runtime.getRuntime().availableProcessors();
+        log.info("Reactive server event loop with {} threads", threads);
+        return LoopResources.create("reactive-http", threads, true);
+    }
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(LoopResources reactiveServerLoopResources) {
+        NettyReactiveWebServerFactory factory = new NettyReactiveWebServerFactory();
+        factory.addServerCustomizers(server -> server.runOn(reactiveServerLoopResources));
+        return factory;
+    }
+
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(new TaskExecutorAdapter(Schedulers.boundedElastic()::schedule));
+    }
+}
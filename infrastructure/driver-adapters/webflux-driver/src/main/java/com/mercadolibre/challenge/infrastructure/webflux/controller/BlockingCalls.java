@@ -0,0 +1,22 @@
+package com.mercadolibre.challenge.infrastructure.webflux.controller;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Casos de uso que siguen siendo bloqueantes (JDBC) invocados desde los controllers reactivos
+ */
+final class BlockingCalls {
+
+    private BlockingCalls() {
+    }
+
+    /**
+     * Corre la llamada en boundedElastic para no ocupar un hilo del event loop de Netty mientras espera a la base
+     */
+    static <T> Mono<T> offload(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,89 @@
+package com.mercadolibre.challenge.infrastructure.webflux.controller;
+
+import com.mercadolibre.challenge.application.dto.ComparisonResponse;
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.dto.SearchRequest;
+import com.mercadolibre.challenge.application.dto.SearchResponse;
+import com.mercadolibre.challenge.application.port.in.ReactiveItemReadUseCase;
+import com.mercadolibre.challenge.application.port.in.RecordItemViewUseCase;
+import com.mercadolibre.challenge.application.port.in.SearchItemsUseCase;
+import com.mercadolibre.challenge.infrastructure.rest.request.AttributeFilters;
+import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Contraparte reactiva de ItemDetailController: mismas rutas, parámetros y mensajes.
+ * Detalle y comparación van por R2DBC; la búsqueda sigue en JDBC y se ejecuta fuera del event loop.
+ */
+@RestController
+@RequestMapping("/items")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@CrossOrigin(origins = "*")
+public class ReactiveItemController {
+
+    private final ReactiveItemReadUseCase reactiveItemReadUseCase;
+    private final SearchItemsUseCase searchItemsUseCase;
+    private final RecordItemViewUseCase recordItemViewUseCase;
+
+    public ReactiveItemController(ReactiveItemReadUseCase reactiveItemReadUseCase,
+                                  SearchItemsUseCase searchItemsUseCase,
+                                  RecordItemViewUseCase recordItemViewUseCase) {
+        this.reactiveItemReadUseCase = reactiveItemReadUseCase;
+        this.searchItemsUseCase = searchItemsUseCase;
+        this.recordItemViewUseCase = recordItemViewUseCase;
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ApiResponse<ItemDetailResponse>>> getItemDetail(@PathVariable("id") String id) {
+        return reactiveItemReadUseCase.getItemDetail(id)
+                .doOnNext(itemDetail -> recordItemViewUseCase.recordView(itemDetail.getId()))
+                .map(itemDetail -> ResponseEntity.ok(
+                        ApiResponse.success(itemDetail, "Item detail retrieved successfully")
+                ));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<ApiResponse<SearchResponse>>> searchItems(
+            @RequestParam(name = "query", required = false) String query,
+            @RequestParam(name = "category", required = false) String category,
+            @RequestParam(name = "min_price", required = false) BigDecimal min_price,
+            @RequestParam(name = "max_price", required = false) BigDecimal max_price,
+            @RequestParam(name = "condition", required = false) String condition,
+            @RequestParam(name = "free_shipping", required = false) Boolean free_shipping,
+            @RequestParam(name = "seller_reputation", required = false) String seller_reputation,
+            @RequestParam(name = "sort", required = false, defaultValue = "relevance") String sort,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") Integer limit,
+            @RequestParam(name = "offset", required = false, defaultValue = "0") Integer offset,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam MultiValueMap<String, String> params
+    ) {
+        SearchRequest searchRequest = new SearchRequest(
+                query, category, min_price, max_price, condition,
+                free_shipping, seller_reputation, sort, limit, offset
+        );
+        searchRequest.setCursor(cursor);
+        searchRequest.setAttributes(AttributeFilters.from(params));
+
+        return BlockingCalls.offload(() -> searchItemsUseCase.searchItems(searchRequest))
+                .map(searchResponse -> ResponseEntity.ok(
+                        ApiResponse.success(searchResponse, "Search completed successfully")
+                ));
+    }
+
+    @GetMapping("/compare")
+    public Mono<ResponseEntity<ApiResponse<ComparisonResponse>>> compareItems(
+            @RequestParam("ids") List<String> ids
+    ) {
+        return reactiveItemReadUseCase.compareItems(ids)
+                .map(comparison -> ResponseEntity.ok(
+                        ApiResponse.success(comparison, "Items compared successfully")
+                ));
+    }
+}
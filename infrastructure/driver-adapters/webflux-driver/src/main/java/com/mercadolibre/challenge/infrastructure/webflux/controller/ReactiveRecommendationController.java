@@ -0,0 +1,84 @@
+package com.mercadolibre.challenge.infrastructure.webflux.controller;
+
+import com.mercadolibre.challenge.application.dto.RecommendationResponse;
+import com.mercadolibre.challenge.application.port.in.GetRecommendationsUseCase;
+import com.mercadolibre.challenge.application.port.in.ReactiveItemReadUseCase;
+import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import com.mercadolibre.challenge.infrastructure.rest.response.RecommendationETag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Contraparte reactiva de RecommendationController. Similares y recomendaciones van por R2DBC;
+ * comprados juntos y también vistos parten de la co-ocurrencia en memoria, pero sin vecinos caen a
+ * consultas JDBC, así que corren fuera del event loop.
+ */
+@RestController
+@RequestMapping("/items")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@CrossOrigin(origins = "*")
+public class ReactiveRecommendationController {
+
+    private static final CacheControl RECOMMENDATIONS_CACHE_CONTROL = CacheControl.maxAge(Duration.ofSeconds(60));
+
+    private final ReactiveItemReadUseCase reactiveItemReadUseCase;
+    private final GetRecommendationsUseCase getRecommendationsUseCase;
+
+    public ReactiveRecommendationController(ReactiveItemReadUseCase reactiveItemReadUseCase,
+                                            GetRecommendationsUseCase getRecommendationsUseCase) {
+        this.reactiveItemReadUseCase = reactiveItemReadUseCase;
+        this.getRecommendationsUseCase = getRecommendationsUseCase;
+    }
+
+    @GetMapping("/{id}/recommendations")
+    public Mono<ResponseEntity<ApiResponse<RecommendationResponse>>> getRecommendations(
+            @PathVariable("id") String id,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") Integer limit
+    ) {
+        return reactiveItemReadUseCase.getSimilarItems(id, limit)
+                .map(recommendations -> cacheable(recommendations, "Recommendations retrieved successfully"));
+    }
+
+    @GetMapping("/{id}/similar")
+    public Mono<ResponseEntity<ApiResponse<RecommendationResponse>>> getSimilarItems(
+            @PathVariable("id") String id,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") Integer limit
+    ) {
+        return reactiveItemReadUseCase.getSimilarItems(id, limit)
+                .map(similar -> cacheable(similar, "Similar items retrieved successfully"));
+    }
+
+    @GetMapping("/{id}/frequently-bought-together")
+    public Mono<ResponseEntity<ApiResponse<RecommendationResponse>>> getFrequentlyBoughtTogether(
+            @PathVariable("id") String id,
+            @RequestParam(name = "limit", required = false, defaultValue = "5") Integer limit
+    ) {
+        return BlockingCalls.offload(() -> getRecommendationsUseCase.getFrequentlyBoughtTogether(id, limit))
+                .map(frequentlyBought -> cacheable(frequentlyBought,
+                        "Frequently bought together items retrieved successfully"));
+    }
+
+    @GetMapping("/{id}/also-viewed")
+    public Mono<ResponseEntity<ApiResponse<RecommendationResponse>>> getAlsoViewed(
+            @PathVariable("id") String id,
+            @RequestParam(name = "limit", required = false, defaultValue = "8") Integer limit
+    ) {
+        return BlockingCalls.offload(() -> getRecommendationsUseCase.getAlsoViewed(id, limit))
+                .map(alsoViewed -> cacheable(alsoViewed, "Also viewed items retrieved successfully"));
+    }
+
+    /**
+     * WebFlux también resuelve el 304 cuando el If-None-Match coincide con el ETag del ResponseEntity
+     */
+    private ResponseEntity<ApiResponse<RecommendationResponse>> cacheable(RecommendationResponse response, String message) {
+        return ResponseEntity.ok()
+                .eTag(RecommendationETag.of(response))
+                .cacheControl(RECOMMENDATIONS_CACHE_CONTROL)
+                .body(ApiResponse.success(response, message));
+    }
+}
@@ -0,0 +1,102 @@
+package com.mercadolibre.challenge.infrastructure.webflux.controller;
+
+import com.mercadolibre.challenge.application.dto.SearchRequest;
+import com.mercadolibre.challenge.application.dto.SearchResponse;
+import com.mercadolibre.challenge.application.dto.TrendingResponse;
+import com.mercadolibre.challenge.application.port.in.GetTrendingItemsUseCase;
+import com.mercadolibre.challenge.application.port.in.ReactiveItemReadUseCase;
+import com.mercadolibre.challenge.application.port.in.SearchItemsUseCase;
+import com.mercadolibre.challenge.infrastructure.rest.response.ApiResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Contraparte reactiva de TrendingController
+ */
+@RestController
+@RequestMapping("/trending")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@CrossOrigin(origins = "*")
+public class ReactiveTrendingController {
+
+    private final ReactiveItemReadUseCase reactiveItemReadUseCase;
+    private final GetTrendingItemsUseCase getTrendingItemsUseCase;
+
+    public ReactiveTrendingController(ReactiveItemReadUseCase reactiveItemReadUseCase,
+                                      GetTrendingItemsUseCase getTrendingItemsUseCase) {
+        this.reactiveItemReadUseCase = reactiveItemReadUseCase;
+        this.getTrendingItemsUseCase = getTrendingItemsUseCase;
+    }
+
+    @GetMapping("/best-sellers")
+    public Mono<ResponseEntity<ApiResponse<SearchResponse>>> getBestSellers(
+            @RequestParam(name = "limit", required = false, defaultValue = "20") Integer limit
+    ) {
+        return reactiveItemReadUseCase.getBestSellers(limit)
+                .map(bestSellers -> ResponseEntity.ok(
+                        ApiResponse.success(bestSellers, "Best sellers retrieved successfully")
+                ));
+    }
+
+    /**
+     * Los más vistos salen de los contadores en memoria: no hay I/O que sacar del event loop
+     */
+    @GetMapping("/most-viewed")
+    public Mono<ResponseEntity<ApiResponse<SearchResponse>>> getMostViewed(
+            @RequestParam(name = "limit", required = false, defaultValue = "20") Integer limit
+    ) {
+        return Mono.fromSupplier(() -> ResponseEntity.ok(
+                ApiResponse.success(getTrendingItemsUseCase.getMostViewed(limit),
+                        "Most viewed items retrieved successfully")
+        ));
+    }
+}
+
+@RestController
+@RequestMapping("/categories")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@CrossOrigin(origins = "*")
+class ReactiveCategoryTrendingController {
+
+    private final ReactiveItemReadUseCase reactiveItemReadUseCase;
+    private final SearchItemsUseCase searchItemsUseCase;
+
+    public ReactiveCategoryTrendingController(ReactiveItemReadUseCase reactiveItemReadUseCase,
+                                              SearchItemsUseCase searchItemsUseCase) {
+        this.reactiveItemReadUseCase = reactiveItemReadUseCase;
+        this.searchItemsUseCase = searchItemsUseCase;
+    }
+
+    @GetMapping("/{categoryId}/items")
+    public Mono<ResponseEntity<ApiResponse<SearchResponse>>> getCategoryItems(
+            @PathVariable("categoryId") String categoryId,
+            @RequestParam(name = "sort", required = false, defaultValue = "newest") String sort,
+            @RequestParam(name = "limit", required = false, defaultValue = "50") Integer limit,
+            @RequestParam(name = "offset", required = false, defaultValue = "0") Integer offset,
+            @RequestParam(name = "cursor", required = false) String cursor
+    ) {
+        SearchRequest searchRequest = new SearchRequest(
+                null, categoryId, null, null, null,
+                null, null, sort, limit, offset
+        );
+        searchRequest.setCursor(cursor);
+
+        return BlockingCalls.offload(() -> searchItemsUseCase.searchItems(searchRequest))
+                .map(items -> ResponseEntity.ok(
+                        ApiResponse.success(items, "Category items retrieved successfully")
+                ));
+    }
+
+    @GetMapping("/{categoryId}/trending")
+    public Mono<ResponseEntity<ApiResponse<TrendingResponse>>> getTrendingByCategory(
+            @PathVariable("categoryId") String categoryId,
+            @RequestParam(name = "limit", required = false, defaultValue = "15") Integer limit
+    ) {
+        return reactiveItemReadUseCase.getTrendingByCategory(categoryId, limit)
+                .map(trending -> ResponseEntity.ok(
+                        ApiResponse.success(trending, "Trending items by category retrieved successfully")
+                ));
+    }
+}
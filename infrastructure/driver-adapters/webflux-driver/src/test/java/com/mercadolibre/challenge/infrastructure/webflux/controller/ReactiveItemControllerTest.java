@@ -0,0 +1,82 @@
+package com.mercadolibre.challenge.infrastructure.webflux.controller;
+
+import com.mercadolibre.challenge.application.dto.ItemDetailResponse;
+import com.mercadolibre.challenge.application.port.in.ReactiveItemReadUseCase;
+import com.mercadolibre.challenge.application.port.in.RecordItemViewUseCase;
+import com.mercadolibre.challenge.application.port.in.SearchItemsUseCase;
+import com.mercadolibre.challenge.domain.common.exception.codes.ExceptionCode;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotActiveException;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
+import com.mercadolibre.challenge.infrastructure.webflux.exception.ReactiveExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tests for ReactiveItemController")
+class ReactiveItemControllerTest {
+
+    private ReactiveItemReadUseCase reactiveItemReadUseCase;
+    private RecordItemViewUseCase recordItemViewUseCase;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        reactiveItemReadUseCase = mock(ReactiveItemReadUseCase.class);
+        recordItemViewUseCase = mock(RecordItemViewUseCase.class);
+        client = WebTestClient.bindToController(new ReactiveItemController(
+                        reactiveItemReadUseCase, mock(SearchItemsUseCase.class), recordItemViewUseCase))
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return the item detail and record the view")
+    void getItemDetail_ShouldReturnItemAndRecordView() {
+        ItemDetailResponse detail = new ItemDetailResponse();
+        detail.setId("MLA1");
+        detail.setStatus("active");
+        when(reactiveItemReadUseCase.getItemDetail("MLA1")).thenReturn(Mono.just(detail));
+
+        client.get().uri("/items/MLA1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.success").isEqualTo(true)
+                .jsonPath("$.data.id").isEqualTo("MLA1");
+
+        verify(recordItemViewUseCase).recordView("MLA1");
+    }
+
+    @Test
+    @DisplayName("Should return 404 with ITEM_NOT_FOUND for an unknown item")
+    void getItemDetail_ShouldReturn404ForUnknownItem() {
+        when(reactiveItemReadUseCase.getItemDetail("NOPE")).thenReturn(Mono.error(new ItemNotFoundException("NOPE")));
+
+        client.get().uri("/items/NOPE").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(ExceptionCode.ITEM_NOT_FOUND);
+
+        verify(recordItemViewUseCase, never()).recordView(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 409 with ITEM_NOT_ACTIVE for an inactive item")
+    void getItemDetail_ShouldReturn409ForInactiveItem() {
+        when(reactiveItemReadUseCase.getItemDetail("MLA4")).thenReturn(Mono.error(new ItemNotActiveException("MLA4")));
+
+        client.get().uri("/items/MLA4").exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(ExceptionCode.ITEM_NOT_ACTIVE);
+
+        verify(recordItemViewUseCase, never()).recordView(anyString());
+    }
+}
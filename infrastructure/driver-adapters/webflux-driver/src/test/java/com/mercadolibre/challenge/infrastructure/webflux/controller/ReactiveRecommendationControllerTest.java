@@ -0,0 +1,72 @@
+package com.mercadolibre.challenge.infrastructure.webflux.controller;
+
+import com.mercadolibre.challenge.application.dto.RecommendationResponse;
+import com.mercadolibre.challenge.application.dto.RecommendationResponse.PriceDto;
+import com.mercadolibre.challenge.application.dto.RecommendationResponse.RecommendedItemDto;
+import com.mercadolibre.challenge.application.port.in.GetRecommendationsUseCase;
+import com.mercadolibre.challenge.application.port.in.ReactiveItemReadUseCase;
+import com.mercadolibre.challenge.domain.common.exception.codes.ExceptionCode;
+import com.mercadolibre.challenge.domain.common.exception.item_detail.ItemNotFoundException;
+import com.mercadolibre.challenge.infrastructure.rest.response.RecommendationETag;
+import com.mercadolibre.challenge.infrastructure.webflux.exception.ReactiveExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.CacheControl;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Tests for ReactiveRecommendationController")
+class ReactiveRecommendationControllerTest {
+
+    private ReactiveItemReadUseCase reactiveItemReadUseCase;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        reactiveItemReadUseCase = mock(ReactiveItemReadUseCase.class);
+        client = WebTestClient.bindToController(new ReactiveRecommendationController(
+                        reactiveItemReadUseCase, mock(GetRecommendationsUseCase.class)))
+                .controllerAdvice(new ReactiveExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return similar items with ETag and answer 304 when If-None-Match matches")
+    void getSimilarItems_ShouldHonorETag() {
+        RecommendationResponse similar = new RecommendationResponse(List.of(
+                new RecommendedItemDto("MLA2", "Samsung Galaxy S24", new PriceDto(899_999_00L, "ARS", 2),
+                        "https://http2.mlstatic.com/D_MLA2.jpg", "new", true, 80, "similar_category", 0.8)
+        ), "similar", "MLA1");
+        when(reactiveItemReadUseCase.getSimilarItems("MLA1", 10)).thenReturn(Mono.just(similar));
+        String etag = "\"" + RecommendationETag.of(similar) + "\"";
+
+        client.get().uri("/items/MLA1/similar").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectHeader().cacheControl(CacheControl.maxAge(Duration.ofSeconds(60)))
+                .expectBody()
+                .jsonPath("$.data.recommendedItems[0].id").isEqualTo("MLA2");
+
+        client.get().uri("/items/MLA1/similar").header("If-None-Match", etag).exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return 404 when the base item does not exist")
+    void getSimilarItems_ShouldReturn404ForUnknownItem() {
+        when(reactiveItemReadUseCase.getSimilarItems("NOPE", 10)).thenReturn(Mono.error(new ItemNotFoundException("NOPE")));
+
+        client.get().uri("/items/NOPE/recommendations").exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.errorCode").isEqualTo(ExceptionCode.ITEM_NOT_FOUND);
+    }
+}
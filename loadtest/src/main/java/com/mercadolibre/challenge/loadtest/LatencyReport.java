@@ -0,0 +1,126 @@
+package com.mercadolibre.challenge.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramas de latencia por endpoint, en microsegundos.
+ *
+ * Registra dos medidas por request: el tiempo de respuesta, desde el instante en que el request debía
+ * salir según la tasa fija, y el tiempo de servicio, desde que efectivamente salió. Medir desde el instante
+ * planificado es la corrección de coordinated omission: si el servidor se frena y el generador se atrasa,
+ * la espera acumulada aparece en los percentiles en lugar de desaparecer con los requests que no se enviaron.
+ *
+ * En el modelo cerrado (conexiones fijas) no hay instante planificado: ambas medidas coinciden y solo se
+ * informa el tiempo de servicio.
+ */
+final class LatencyReport {
+
+    private static final String ALL = "all";
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final boolean openModel;
+
+    LatencyReport(List<Workload.Endpoint> endpoints, boolean openModel) {
+        this.openModel = openModel;
+        for (Workload.Endpoint endpoint : endpoints) {
+            stats.put(endpoint.getName(), new Stats());
+        }
+        stats.put(ALL, new Stats());
+    }
+
+    void record(String endpoint, long responseNanos, long serviceNanos, boolean success) {
+        long responseMicros = TimeUnit.NANOSECONDS.toMicros(responseNanos);
+        long serviceMicros = TimeUnit.NANOSECONDS.toMicros(serviceNanos);
+        stats.get(endpoint).record(responseMicros, serviceMicros, success);
+        stats.get(ALL).record(responseMicros, serviceMicros, success);
+    }
+
+    long totalCount() {
+        return stats.get(ALL).response.getTotalCount();
+    }
+
+    long errorCount() {
+        return stats.get(ALL).errors.sum();
+    }
+
+    /**
+     * Percentil de todos los endpoints en milisegundos: tiempo de respuesta en el modelo abierto, de servicio en el cerrado
+     */
+    double overallPercentile(double percentile) {
+        return stats.get(ALL).response.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    void print(PrintStream out) {
+        if (openModel) {
+            out.println("Response time (ms, corrected for coordinated omission)");
+            printTable(out, true);
+            out.println();
+        }
+        out.println("Service time (ms, from actual send)");
+        printTable(out, false);
+    }
+
+    /**
+     * Escribe el resumen y un .hgrm por endpoint (formato de HdrHistogram, graficable con el plotter de percentiles)
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (PrintStream summary = new PrintStream(Files.newOutputStream(directory.resolve("summary.txt")))) {
+            print(summary);
+        }
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            if (openModel) {
+                writeHistogram(directory.resolve(entry.getKey() + ".hgrm"), entry.getValue().response);
+            }
+            writeHistogram(directory.resolve(entry.getKey() + "-service.hgrm"), entry.getValue().service);
+        }
+    }
+
+    private void printTable(PrintStream out, boolean response) {
+        out.printf("%-24s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "p50", "p90", "p99", "p99.9", "max");
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats endpointStats = entry.getValue();
+            Histogram histogram = response ? endpointStats.response : endpointStats.service;
+            out.printf("%-24s %8d %7d", entry.getKey(), histogram.getTotalCount(), endpointStats.errors.sum());
+            for (double percentile : PERCENTILES) {
+                out.printf(" %9.2f", histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+            }
+            out.printf(" %9.2f%n", histogram.getMaxValue() / MICROS_PER_MILLI);
+        }
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static final class Stats {
+
+        private final Histogram response = new ConcurrentHistogram(3);
+        private final Histogram service = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long responseMicros, long serviceMicros, boolean success) {
+            response.recordValue(responseMicros);
+            service.recordValue(serviceMicros);
+            if (!success) {
+                errors.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.mercadolibre.challenge.loadtest;
+
+import com.mercadolibre.challenge.ChallengeMeliApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Prueba de carga de punta a punta: arranca ChallengeMeliApplication en un puerto aleatorio sobre la base
+ * del perfil activo y la somete a la mezcla de endpoints de Workload.
+ *
+ * Modelo abierto (por defecto): los requests salen a tasa fija en instantes planificados (inicio + i / tasa)
+ * sin esperar a que respondan los anteriores, así que una respuesta lenta no frena al generador.
+ * Modelo cerrado (--connections=N): N clientes concurrentes, cada uno con su conexión, que mandan el
+ * siguiente request apenas reciben la respuesta; mide cuánto throughput sostiene el servidor con N conexiones.
+ * En ambos lo medido durante el calentamiento se descarta.
+ *
+ * Con --thread-modes=platform,virtual la prueba se repite arrancando la aplicación una vez por modo
+ * (spring.threads.virtual.enabled) y termina con una tabla comparativa.
+ *
+ * Con --endpoints=item-detail,compare,... la mezcla se limita a esos endpoints, con sus pesos relativos;
+ * sirve para comparar el stack MVC con el reactivo (--spring.profiles.active=reactive) en las mismas lecturas.
+ *
+ * Argumentos propios: --rate=requests/s, --connections=N, --duration=segundos, --warmup=segundos,
+ * --thread-modes=platform,virtual, --endpoints=nombre,... y --output=directorio. El resto se pasa a Spring
+ * (por ejemplo --spring.profiles.active=perf).
+ */
+public final class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(35);
+    private static final long SEED = 42L;
+    private static final List<String> THREAD_MODES = List.of("platform", "virtual");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        double rate = 200;
+        int connections = 0;
+        long durationSeconds = 60;
+        long warmupSeconds = 15;
+        List<String> threadModes = List.of();
+        Set<String> endpoints = Set.of();
+        Path output = Path.of("loadtest/build/loadtest");
+        List<String> springArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                // el log de cada request y de cada sentencia SQL costaría más que el request mismo
+                "--spring.jpa.show-sql=false",
+                "--logging.level.com.mercadolibre.challenge=INFO",
+                "--logging.level.org.springframework.web=INFO",
+                "--logging.level.org.springframework.sql=INFO"));
+        for (String arg : args) {
+            if (arg.startsWith("--rate=")) {
+                rate = Double.parseDouble(value(arg));
+            } else if (arg.startsWith("--connections=")) {
+                connections = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--duration=")) {
+                durationSeconds = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--warmup=")) {
+                warmupSeconds = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--thread-modes=")) {
+                threadModes = List.of(value(arg).split(","));
+            } else if (arg.startsWith("--endpoints=")) {
+                endpoints = Set.of(value(arg).split(","));
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(value(arg));
+            } else {
+                springArgs.add(arg);
+            }
+        }
+        if (rate <= 0 || connections < 0 || durationSeconds <= 0 || warmupSeconds < 0) {
+            throw new IllegalArgumentException("rate and duration must be positive, connections and warmup not negative");
+        }
+        if (!THREAD_MODES.containsAll(threadModes)) {
+            throw new IllegalArgumentException("thread modes must be among " + THREAD_MODES + ": " + threadModes);
+        }
+        if (connections > 0) {
+            // el techo por defecto de Tomcat (8192) dejaría conexiones esperando en el backlog
+            springArgs.add("--server.tomcat.max-connections=" + (connections + 1000));
+        }
+
+        Settings settings = new Settings(rate, connections, TimeUnit.SECONDS.toNanos(warmupSeconds),
+                TimeUnit.SECONDS.toNanos(durationSeconds), endpoints);
+        if (threadModes.isEmpty()) {
+            run(settings, springArgs, output);
+            return;
+        }
+
+        Map<String, LatencyReport> reports = new LinkedHashMap<>();
+        for (String mode : threadModes) {
+            List<String> modeArgs = new ArrayList<>(springArgs);
+            modeArgs.add("--spring.threads.virtual.enabled=" + "virtual".equals(mode));
+            System.out.println();
+            System.out.println("== " + mode + " threads ==");
+            reports.put(mode, run(settings, modeArgs, output.resolve(mode)));
+        }
+        System.out.println();
+        System.out.printf("%-10s %10s %8s %9s %9s %9s%n", "threads", "req/s", "errors", "p50", "p99", "p99.9");
+        reports.forEach((mode, report) -> System.out.printf("%-10s %10.1f %8d %9.2f %9.2f %9.2f%n", mode,
+                report.totalCount() / (double) TimeUnit.NANOSECONDS.toSeconds(settings.durationNanos),
+                report.errorCount(), report.overallPercentile(50.0), report.overallPercentile(99.0),
+                report.overallPercentile(99.9)));
+    }
+
+    private static LatencyReport run(Settings settings, List<String> springArgs, Path output) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ChallengeMeliApplication.class)
+                .run(springArgs.toArray(String[]::new))) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            // WebFlux ignora el context-path del servlet y monta la API en spring.webflux.base-path
+            String contextPath = context instanceof ReactiveWebApplicationContext
+                    ? context.getEnvironment().getProperty("spring.webflux.base-path", "/")
+                    : context.getEnvironment().getProperty("server.servlet.context-path", "/");
+            URI baseUri = URI.create("http://localhost:" + port + (contextPath.endsWith("/") ? contextPath : contextPath + "/"));
+
+            Workload workload = Workload.sample(context.getBean(JdbcTemplate.class), settings.endpoints);
+            LatencyReport report = new LatencyReport(workload.getEndpoints(), settings.connections == 0);
+            long durationSeconds = TimeUnit.NANOSECONDS.toSeconds(settings.durationNanos);
+
+            // hilos virtuales para el cliente en ambos modelos: el generador no debe ser el cuello de botella
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(executor)
+                        .build();
+                if (settings.connections == 0) {
+                    log.info("Open-model load test against {}: {} req/s, {} s warmup, {} s measured",
+                            baseUri, settings.rate, TimeUnit.NANOSECONDS.toSeconds(settings.warmupNanos), durationSeconds);
+                    runOpen(client, baseUri, workload, report, settings);
+                } else {
+                    log.info("Closed-model load test against {}: {} connections, {} s warmup, {} s measured",
+                            baseUri, settings.connections, TimeUnit.NANOSECONDS.toSeconds(settings.warmupNanos),
+                            durationSeconds);
+                    runClosed(client, executor, baseUri, workload, report, settings);
+                }
+            }
+
+            System.out.println();
+            if (settings.connections == 0) {
+                System.out.printf("Achieved %.1f req/s over %d s (target %.1f req/s)%n",
+                        report.totalCount() / (double) durationSeconds, durationSeconds, settings.rate);
+            } else {
+                System.out.printf("Achieved %.1f req/s over %d s with %d connections%n",
+                        report.totalCount() / (double) durationSeconds, durationSeconds, settings.connections);
+            }
+            report.print(System.out);
+            report.write(output);
+            log.info("Histograms written to {}", output.toAbsolutePath());
+            return report;
+        }
+    }
+
+    private static void runOpen(HttpClient client, URI baseUri, Workload workload, LatencyReport report,
+                                Settings settings) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        AtomicLong outstanding = new AtomicLong();
+        long maxSendLag = 0;
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmupNanos;
+        long end = measureFrom + settings.durationNanos;
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * 1_000_000_000.0 / settings.rate);
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Workload.Request request = workload.next(random);
+            boolean measured = intended >= measureFrom;
+            long sent = System.nanoTime();
+            if (measured) {
+                maxSendLag = Math.max(maxSendLag, sent - intended);
+            }
+            outstanding.incrementAndGet();
+            client.sendAsync(httpRequest(baseUri, request), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long done = System.nanoTime();
+                        if (measured) {
+                            boolean success = error == null && response.statusCode() < 400;
+                            report.record(request.getEndpoint().getName(), done - intended, done - sent, success);
+                        }
+                        outstanding.decrementAndGet();
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (outstanding.get() > 0) {
+            log.warn("{} requests still in flight after the drain timeout; they are not in the report", outstanding.get());
+        }
+        if (maxSendLag > TimeUnit.MILLISECONDS.toNanos(10)) {
+            log.warn("Generator fell behind schedule by up to {} ms; latencies include that delay",
+                    TimeUnit.NANOSECONDS.toMillis(maxSendLag));
+        }
+    }
+
+    private static void runClosed(HttpClient client, ExecutorService executor, URI baseUri, Workload workload,
+                                  LatencyReport report, Settings settings) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmupNanos;
+        long end = measureFrom + settings.durationNanos;
+        AtomicLong running = new AtomicLong(settings.connections);
+        for (int c = 0; c < settings.connections; c++) {
+            SplittableRandom random = new SplittableRandom(SEED + c);
+            executor.execute(() -> {
+                try {
+                    long sent;
+                    while ((sent = System.nanoTime()) < end) {
+                        Workload.Request request = workload.next(random);
+                        boolean success;
+                        try {
+                            success = client.send(httpRequest(baseUri, request), HttpResponse.BodyHandlers.discarding())
+                                    .statusCode() < 400;
+                        } catch (IOException e) {
+                            success = false;
+                        }
+                        long done = System.nanoTime();
+                        if (sent >= measureFrom) {
+                            report.record(request.getEndpoint().getName(), done - sent, done - sent, success);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+        }
+
+        long drainDeadline = end + DRAIN_TIMEOUT_NANOS;
+        while (running.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        if (running.get() > 0) {
+            log.warn("{} connections still waiting for a response after the drain timeout", running.get());
+        }
+    }
+
+    private static HttpRequest httpRequest(URI baseUri, Workload.Request request) {
+        return HttpRequest.newBuilder(baseUri.resolve(request.getPath()))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+
+    private static final class Settings {
+
+        private final double rate;
+        private final int connections;
+        private final long warmupNanos;
+        private final long durationNanos;
+        private final Set<String> endpoints;
+
+        private Settings(double rate, int connections, long warmupNanos, long durationNanos, Set<String> endpoints) {
+            this.rate = rate;
+            this.connections = connections;
+            this.warmupNanos = warmupNanos;
+            this.durationNanos = durationNanos;
+            this.endpoints = endpoints;
+        }
+    }
+}
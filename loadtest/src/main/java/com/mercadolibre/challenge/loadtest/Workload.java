@@ -0,0 +1,208 @@
+package com.mercadolibre.challenge.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mezcla ponderada de endpoints a reproducir, con identificadores muestreados de la base que usa la aplicación.
+ *
+ * Los pesos aproximan el tráfico de una página de producto: mayoría de detalles y búsquedas, luego
+ * recomendaciones, tendencias y consultas de personas. Los endpoints sin datos para armar la URL
+ * (por ejemplo /persons/{id} sin personas cargadas) se descartan al construir la mezcla.
+ */
+final class Workload {
+
+    private static final Logger log = LoggerFactory.getLogger(Workload.class);
+
+    private static final int SAMPLE_SIZE = 10000;
+    private static final int COMPARE_SIZE = 3;
+
+    private final List<Endpoint> endpoints;
+    private final int totalWeight;
+
+    private Workload(List<Endpoint> endpoints) {
+        this.endpoints = List.copyOf(endpoints);
+        this.totalWeight = endpoints.stream().mapToInt(Endpoint::getWeight).sum();
+    }
+
+    /**
+     * @param only nombres de endpoint a conservar; vacío para la mezcla completa
+     */
+    static Workload sample(JdbcTemplate jdbcTemplate, Set<String> only) {
+        List<String[]> items = jdbcTemplate.query(
+                "SELECT id, title FROM items WHERE status = 'active' ORDER BY RAND() LIMIT ?",
+                (rs, rowNum) -> new String[]{rs.getString("id"), rs.getString("title")}, SAMPLE_SIZE);
+        List<String> itemIds = items.stream().map(item -> item[0]).toList();
+        List<String> terms = searchTerms(items);
+        List<String> categoryIds = jdbcTemplate.queryForList(
+                "SELECT id FROM categories ORDER BY RAND() LIMIT ?", String.class, SAMPLE_SIZE);
+        List<String[]> brands = jdbcTemplate.query("""
+                        SELECT category_id, attribute_value FROM category_attribute_values
+                        WHERE attribute_id = 'BRAND' AND active_items > 0 ORDER BY RAND() LIMIT ?
+                        """,
+                (rs, rowNum) -> new String[]{rs.getString("category_id"), rs.getString("attribute_value")}, SAMPLE_SIZE);
+        List<String[]> persons = jdbcTemplate.query(
+                "SELECT id, first_name FROM persons ORDER BY RAND() LIMIT ?",
+                (rs, rowNum) -> new String[]{rs.getString("id"), rs.getString("first_name")}, SAMPLE_SIZE);
+
+        log.info("Sampled {} items, {} search terms, {} categories, {} category brands, {} persons",
+                itemIds.size(), terms.size(), categoryIds.size(), brands.size(), persons.size());
+
+        List<Endpoint> candidates = List.of(
+                new Endpoint("item-detail", 35, itemIds, (random) ->
+                        "items/" + pick(itemIds, random)),
+                new Endpoint("search", 14, terms, (random) ->
+                        "items/search?query=" + encode(pick(terms, random)) + "&limit=20"),
+                new Endpoint("search-filtered", 6, brands, (random) -> {
+                    String[] brand = pick(brands, random);
+                    return "items/search?category=" + encode(brand[0])
+                            + "&attr.BRAND=" + encode(brand[1].toLowerCase(Locale.ROOT)) + "&limit=20";
+                }),
+                new Endpoint("compare", 5, itemIds, (random) -> {
+                    StringBuilder ids = new StringBuilder();
+                    for (int i = 0; i < COMPARE_SIZE; i++) {
+                        ids.append(i == 0 ? "" : ",").append(pick(itemIds, random));
+                    }
+                    return "items/compare?ids=" + ids;
+                }),
+                new Endpoint("recommendations", 8, itemIds, (random) ->
+                        "items/" + pick(itemIds, random) + "/recommendations"),
+                new Endpoint("similar", 4, itemIds, (random) ->
+                        "items/" + pick(itemIds, random) + "/similar"),
+                new Endpoint("trending-best-sellers", 5, List.of(""), (random) ->
+                        "trending/best-sellers"),
+                new Endpoint("trending-category", 5, categoryIds, (random) ->
+                        "categories/" + encode(pick(categoryIds, random)) + "/trending"),
+                new Endpoint("person", 10, persons, (random) ->
+                        "persons/" + pick(persons, random)[0]),
+                new Endpoint("person-search", 4, persons, (random) ->
+                        "persons/search?name=" + encode(pick(persons, random)[1])),
+                new Endpoint("persons-list", 4, List.of(""), (random) ->
+                        "persons?offset=" + random.nextInt(5) * 20 + "&limit=20"));
+
+        Set<String> known = candidates.stream().map(Endpoint::getName).collect(Collectors.toSet());
+        if (!known.containsAll(only)) {
+            throw new IllegalArgumentException("endpoints must be among " + known + ": " + only);
+        }
+
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (Endpoint endpoint : candidates) {
+            if (!only.isEmpty() && !only.contains(endpoint.getName())) {
+                continue;
+            }
+            if (endpoint.hasData()) {
+                endpoints.add(endpoint);
+            } else {
+                log.warn("Skipping endpoint {}: no sample data in the database", endpoint.getName());
+            }
+        }
+        if (endpoints.isEmpty()) {
+            throw new IllegalStateException("No endpoint has sample data; is the database seeded?");
+        }
+        return new Workload(endpoints);
+    }
+
+    List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * Elige un endpoint según los pesos y arma su ruta relativa al context-path
+     */
+    Request next(SplittableRandom random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            ticket -= endpoint.getWeight();
+            if (ticket < 0) {
+                return new Request(endpoint, endpoint.path(random));
+            }
+        }
+        throw new IllegalStateException("Weights out of sync: " + totalWeight);
+    }
+
+    /**
+     * Primera palabra de cada título, como consulta de texto libre realista para /items/search
+     */
+    private static List<String> searchTerms(List<String[]> items) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String[] item : items) {
+            String title = item[1] == null ? "" : item[1].trim();
+            int space = title.indexOf(' ');
+            String term = (space > 0 ? title.substring(0, space) : title).toLowerCase(Locale.ROOT);
+            if (term.length() >= 3) {
+                terms.add(term);
+            }
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    static final class Endpoint {
+
+        private final String name;
+        private final int weight;
+        private final List<?> data;
+        private final Function<SplittableRandom, String> pathFactory;
+
+        private Endpoint(String name, int weight, List<?> data, Function<SplittableRandom, String> pathFactory) {
+            this.name = name;
+            this.weight = weight;
+            this.data = data;
+            this.pathFactory = pathFactory;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+
+        private boolean hasData() {
+            return !data.isEmpty();
+        }
+
+        private String path(SplittableRandom random) {
+            return pathFactory.apply(random);
+        }
+    }
+
+    static final class Request {
+
+        private final Endpoint endpoint;
+        private final String path;
+
+        private Request(Endpoint endpoint, String path) {
+            this.endpoint = endpoint;
+            this.path = path;
+        }
+
+        Endpoint getEndpoint() {
+            return endpoint;
+        }
+
+        String getPath() {
+            return path;
+        }
+    }
+}